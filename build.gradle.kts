@@ -10,6 +10,7 @@ plugins {
     id("com.github.spotbugs") version "6.4.7"
     id("com.github.ben-manes.versions") version "0.53.0"
     id("se.patrikerdes.use-latest-versions") version "0.2.19"
+    id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.aoc"
@@ -36,8 +37,57 @@ dependencies {
     compileOnly("org.jetbrains:annotations:26.0.2-1")
 }
 
+// NumberScanner's SIMD kernel uses the incubating Vector API; it is resolved at run time only
+// when requested, so plain runs fall back to the scalar scanner without the incubator warning
+val vectorModule = listOf("--add-modules", "jdk.incubator.vector")
+// ConcurrentParts uses the preview StructuredTaskScope API. javac marks only the classes that
+// use it, so other classes load without the flag and only runs that solve parts concurrently
+// need it
+val enablePreview = "--enable-preview"
+
+tasks.withType<JavaCompile>().configureEach {
+    options.compilerArgs.addAll(vectorModule)
+    options.compilerArgs.add(enablePreview)
+}
+
 tasks.test {
     useJUnitPlatform()
+    jvmArgs(vectorModule)
+    jvmArgs(enablePreview)
+}
+
+// Performance contracts: every solver on large generated inputs under @Timeout budgets.
+// Kept out of check because the inputs take seconds to generate and solve
+val perfTest by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[perfTest.implementationConfigurationName].extendsFrom(configurations.testImplementation.get())
+configurations[perfTest.runtimeOnlyConfigurationName].extendsFrom(configurations.testRuntimeOnly.get())
+
+tasks.register<Test>("perfTest") {
+    description = "Runs every solver on large generated inputs under time budgets"
+    group = "verification"
+    testClassesDirs = perfTest.output.classesDirs
+    classpath = perfTest.runtimeClasspath
+    useJUnitPlatform()
+    jvmArgs(vectorModule)
+    // The 10,000 by 10,000 Day 4 grid is solved in an arena, whose cells, counts and queue
+    // count against direct memory, which is capped at the heap size unless raised
+    jvmArgs("-XX:MaxDirectMemorySize=1g")
+    shouldRunAfter(tasks.test)
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    // Narrow the run with -PjmhInclude=Day08 (regex matched against benchmark names)
+    project.findProperty("jmhInclude")?.toString()?.let { includes.set(listOf(it)) }
+    // Allocation rate per benchmark (-prof gc) is always collected alongside throughput
+    profilers.set(listOf("gc"))
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    jvmArgsAppend.addAll(vectorModule)
 }
 
 checkstyle {
@@ -126,6 +176,69 @@ tasks.register("fetchAllInputs") {
     }
 }
 
+// Measurement mode: -Pwarmup=5 -Piterations=20 -PjsonReport=build/reports/measurements.jsonl
+// -Pmapped=true parses inputs through a memory-mapped InputCursor instead of decoded lines
+// -PinputDir=build/generated-inputs/x10 reads inputs from there instead of src/main/resources
+// -Pmetrics=false turns off the solver metrics logged after each run
+// -PoffHeap=true keeps the solvers' largest arrays off the heap, in an arena per solve
+val runnerProperties = mapOf(
+    "warmup" to "aoc.measure.warmup",
+    "iterations" to "aoc.measure.iterations",
+    "jsonReport" to "aoc.measure.json",
+    "mapped" to "aoc.input.mapped",
+    "inputDir" to "aoc.input.dir",
+    "snapshotDir" to "aoc.snapshot.dir",
+    "snapshotMaxBytes" to "aoc.snapshot.maxBytes",
+    "jfr" to "aoc.jfr",
+    "metrics" to "aoc.metrics",
+    "offHeap" to "aoc.offheap"
+)
+
+fun JavaExec.forwardRunnerProperties() {
+    runnerProperties.forEach { (gradleKey, systemKey) ->
+        project.findProperty(gradleKey)?.let { systemProperty(systemKey, it) }
+    }
+    // -Pvector parses numeric inputs with the SIMD NumberScanner kernel
+    if (project.hasProperty("vector")) {
+        jvmArgs(vectorModule)
+    }
+    // -PconcurrentParts solves the two parts of a day side by side
+    if (project.hasProperty("concurrentParts")) {
+        systemProperty("aoc.parts.concurrent", "true")
+        jvmArgs(enablePreview)
+    }
+}
+
+// JDK AOT cache (JEP 483/514) trained on every day, for fast single-day startup
+val aotCache = layout.buildDirectory.file("aot/aoc.aot")
+// The cache only covers classes loaded from JARs, so cached runs use the project jar
+val aotClasspath = files(tasks.jar, configurations.runtimeClasspath)
+
+tasks.register<JavaExec>("aotTrain") {
+    description = "Trains an AOT cache by running every day once (use with runDay -Paot)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.runner.AotTraining")
+    classpath = aotClasspath
+    forwardRunnerProperties()
+    outputs.file(aotCache)
+    jvmArgs("-XX:AOTCacheOutput=${aotCache.get().asFile}")
+    doFirst { aotCache.get().asFile.parentFile.mkdirs() }
+}
+
+tasks.register<JavaExec>("aotReport") {
+    description = "Compares cold and AOT-cached startup per day (-Pruns=5 -Pdays=1,5)"
+    group = "adventOfCode"
+    dependsOn("aotTrain")
+
+    mainClass.set("aoc.runner.StartupReport")
+    classpath = aotClasspath
+    forwardRunnerProperties()
+    args("--cache", aotCache.get().asFile.toString())
+    project.findProperty("runs")?.let { args("--runs", it.toString()) }
+    project.findProperty("days")?.toString()?.let { days -> args(days.split(",").map { it.trim() }) }
+}
+
 tasks.register<JavaExec>("runDay") {
     description = "Runs the solution for a specific day"
     group = "adventOfCode"
@@ -135,27 +248,110 @@ tasks.register<JavaExec>("runDay") {
 
     mainClass.set("aoc.day$dayNum.Day$dayNum")
     classpath = sourceSets["main"].runtimeClasspath
+    forwardRunnerProperties()
+    // -Paot starts from the cache written by aotTrain
+    if (project.hasProperty("aot")) {
+        classpath = aotClasspath
+        jvmArgs("-XX:AOTCache=${aotCache.get().asFile}")
+    }
 }
 
-tasks.register("runAll") {
-    description = "Runs all day solutions"
+tasks.register<JavaExec>("watchDay") {
+    description = "Re-solves a day in a warm JVM whenever its input changes (-Pday=5)"
     group = "adventOfCode"
 
-    doLast {
-        (1..12).forEach { day ->
-            val dayNum = "%02d".format(day)
+    mainClass.set("aoc.runner.WatchRunner")
+    classpath = sourceSets["main"].runtimeClasspath
+    args("--day", project.findProperty("day")?.toString() ?: "1")
+    forwardRunnerProperties()
+}
 
-            try {
-                println("\n=== Day $day ===")
-                tasks.register<JavaExec>("runDay$dayNum") {
-                    mainClass.set("aoc.day$dayNum.Day$dayNum")
-                    classpath = sourceSets["main"].runtimeClasspath
-                }.get().exec()
-            } catch (e: Exception) {
-                println("Day $day not implemented yet or failed: ${e.message}")
-            }
-        }
+tasks.register<JavaExec>("runAll") {
+    description = "Runs all day solutions concurrently in a single JVM (-Pdays=1,5,8 for a subset)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.runner.AllDaysRunner")
+    classpath = sourceSets["main"].runtimeClasspath
+    project.findProperty("days")?.toString()?.let { days -> args(days.split(",").map { it.trim() }) }
+    forwardRunnerProperties()
+}
+
+tasks.register<JavaExec>("runBatch") {
+    description = "Solves every input in a directory for one day (-Pday=8 -Pdir=corpus/day08)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.runner.BatchRunner")
+    classpath = sourceSets["main"].runtimeClasspath
+    args("--day", project.findProperty("day")?.toString() ?: "1")
+    project.findProperty("dir")?.let { args("--dir", it.toString()) }
+    project.findProperty("out")?.let { args("--out", it.toString()) }
+    project.findProperty("threads")?.let { args("--threads", it.toString()) }
+    project.findProperty("maxResident")?.let { args("--max-resident", it.toString()) }
+}
+
+tasks.register<JavaExec>("crossCheck") {
+    description = "Checks and times alternative strategies (-Pdays=2,10 -Pseeds=50 -Pscale=1)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.runner.StrategyRunner")
+    classpath = sourceSets["main"].runtimeClasspath
+    project.findProperty("seeds")?.let { args("--seeds", it.toString()) }
+    project.findProperty("scale")?.let { args("--scale", it.toString()) }
+    project.findProperty("warmup")?.let { args("--warmup", it.toString()) }
+    project.findProperty("iterations")?.let { args("--iterations", it.toString()) }
+    project.findProperty("days")?.toString()?.let { days -> args(days.split(",").map { it.trim() }) }
+}
+
+tasks.register<JavaExec>("scalingReport") {
+    description = "Times each day with 1, 2, 4 ... N pool threads (-Pdays=3,8 -PmaxThreads=8)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.runner.ScalingRunner")
+    classpath = sourceSets["main"].runtimeClasspath
+    forwardRunnerProperties()
+    project.findProperty("maxThreads")?.let { args("--max-threads", it.toString()) }
+    project.findProperty("days")?.toString()?.let { days -> args(days.split(",").map { it.trim() }) }
+}
+
+tasks.register<JavaExec>("complexityReport") {
+    description = "Fits time and allocation exponents over growing inputs (-Pdays=8,9 -PupdateBaseline)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.runner.ComplexityRunner")
+    classpath = sourceSets["main"].runtimeClasspath
+    project.findProperty("steps")?.let { args("--steps", it.toString()) }
+    project.findProperty("factor")?.let { args("--factor", it.toString()) }
+    project.findProperty("warmup")?.let { args("--warmup", it.toString()) }
+    project.findProperty("iterations")?.let { args("--iterations", it.toString()) }
+    project.findProperty("tolerance")?.let { args("--tolerance", it.toString()) }
+    project.findProperty("baseline")?.let { args("--baseline", it.toString()) }
+    if (project.hasProperty("updateBaseline")) {
+        args("--update-baseline")
     }
+    project.findProperty("days")?.toString()?.let { days -> args(days.split(",").map { it.trim() }) }
+}
+
+tasks.register<JavaExec>("serve") {
+    description = "Serves POST /day/{n} and GET /metrics over HTTP (-Pport=8080 -PmaxSolves=N -PmaxBodyBytes=N)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.server.SolveServer")
+    classpath = sourceSets["main"].runtimeClasspath
+    project.findProperty("port")?.let { args("--port", it.toString()) }
+    project.findProperty("maxSolves")?.let { args("--max-solves", it.toString()) }
+    project.findProperty("maxBodyBytes")?.let { args("--max-body-bytes", it.toString()) }
+}
+
+tasks.register<JavaExec>("generateInputs") {
+    description = "Generates synthetic inputs (-Pscale=10 -Pseed=2025 -Pdays=8,9 -Pout=dir)"
+    group = "adventOfCode"
+
+    mainClass.set("aoc.gen.GenerateInputs")
+    classpath = sourceSets["main"].runtimeClasspath
+    project.findProperty("scale")?.let { args("--scale", it.toString()) }
+    project.findProperty("seed")?.let { args("--seed", it.toString()) }
+    project.findProperty("out")?.let { args("--out", it.toString()) }
+    project.findProperty("days")?.toString()?.let { days -> args(days.split(",").map { it.trim() }) }
 }
 
 abstract class UpdateReadmeTask : DefaultTask() {
@@ -165,9 +361,9 @@ abstract class UpdateReadmeTask : DefaultTask() {
     @get:OutputFile
     abstract val readmeFile: RegularFileProperty
 
-    // Number of runs per day to find minimum time
+    // Measured runs per day; the median is reported
     private val runsPerDay = 10
-    // Number of warmup runs before timing
+    // Warmup runs per day before timing
     private val warmupRuns = 3
 
     init {
@@ -179,15 +375,9 @@ abstract class UpdateReadmeTask : DefaultTask() {
     fun execute() {
         val cp = runtimeClasspath.asPath
         println("Running solutions with $warmupRuns warmup + $runsPerDay timed runs each...")
-        println("Using parallel execution for faster benchmarking\n")
+        println("Using a single JVM, one day at a time for uncontended timings\n")
 
-        // Run all days in parallel using Java's parallel streams
-        val results = (1..12).toList().parallelStream()
-            .map { day -> runDay(day, cp) }
-            .filter { it != null }
-            .sorted(compareBy { it!!["day"]?.toInt() })
-            .toList()
-            .filterNotNull()
+        val results = runAllDays(cp)
 
         // Print results in order
         results.forEach { result ->
@@ -222,66 +412,37 @@ abstract class UpdateReadmeTask : DefaultTask() {
         println("\nREADME.md updated with performance table")
     }
 
-    private fun runDay(day: Int, cp: String): Map<String, String>? {
-        val dayNum = "%02d".format(day)
-        val dayMainClass = "aoc.day$dayNum.Day$dayNum"
-
-        try {
-            // Warmup runs (discard results)
-            repeat(warmupRuns) {
-                runOnce(cp, dayMainClass)
-            }
-
-            // Timed runs - collect minimum time (in microseconds)
-            var minTimeUs = Long.MAX_VALUE
-            var part1 = "-"
-            var part2 = "-"
-
-            repeat(runsPerDay) {
-                val result = runOnce(cp, dayMainClass) ?: return null
-
-                val timeStr = result["time"] ?: return null
-                val timeUs = parseTimeToUs(timeStr)
-
-                if (timeUs < minTimeUs) {
-                    minTimeUs = timeUs
-                    part1 = result["part1"] ?: "-"
-                    part2 = result["part2"] ?: "-"
-                }
-            }
-
-            val formattedTime = formatTime(minTimeUs)
-            return mapOf(
-                "day" to day.toString(),
-                "part1" to part1,
-                "part2" to part2,
-                "time" to formattedTime
-            )
-        } catch (e: Exception) {
-            return null
-        }
-    }
-
-    private fun runOnce(cp: String, dayMainClass: String): Map<String, String>? {
+    private fun runAllDays(cp: String): List<Map<String, String>> {
         val outputStream = ByteArrayOutputStream()
-        val process = ProcessBuilder("java", "-cp", cp, dayMainClass)
+        val process = ProcessBuilder(
+            "java",
+            "-Daoc.measure.warmup=$warmupRuns",
+            "-Daoc.measure.iterations=$runsPerDay",
+            "-cp", cp,
+            "aoc.runner.AllDaysRunner",
+            "--sequential"
+        )
             .redirectErrorStream(true)
             .start()
 
         process.inputStream.copyTo(outputStream)
-        val exitCode = process.waitFor()
-
-        if (exitCode != 0) return null
-
-        val outputText = outputStream.toString()
-        // Handle both two-part and single-part solutions
-        val part1 = Regex("""Part 1: (\d+)""").find(outputText)?.groupValues?.get(1)
-            ?: Regex("""Result: (\d+)""").find(outputText)?.groupValues?.get(1)
-            ?: "-"
-        val part2 = Regex("""Part 2: (\d+)""").find(outputText)?.groupValues?.get(1) ?: "-"
-        val time = Regex("""Completed in (.+)""").find(outputText)?.groupValues?.get(1) ?: "-"
+        if (process.waitFor() != 0) {
+            throw GradleException("AllDaysRunner failed:\n$outputStream")
+        }
 
-        return mapOf("part1" to part1, "part2" to part2, "time" to time)
+        // Single-part days report "-" for part 2
+        val dayLine = Regex("""Day (\d+): Part 1: (.+?) \| Part 2: (.+?) \| Time: (.+)""")
+        return dayLine.findAll(outputStream.toString())
+            .map { match ->
+                val (day, part1, part2, time) = match.destructured
+                mapOf(
+                    "day" to day,
+                    "part1" to part1,
+                    "part2" to part2,
+                    "time" to formatTime(parseTimeToUs(time))
+                )
+            }
+            .toList()
     }
 
     private fun parseTimeToUs(timeStr: String): Long {
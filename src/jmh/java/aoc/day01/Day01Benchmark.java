@@ -0,0 +1,48 @@
+package aoc.day01;
+
+import aoc.gen.Day01Generator;
+import aoc.gen.InputGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the Day 1 lock simulation.
+ *
+ * <p>Parsing and both parts happen in a single pass over the instructions, so the
+ * simulation is the only phase worth measuring on its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day01Benchmark {
+
+  @Param({"4000", "40000", "400000"})
+  private int instructions;
+
+  private List<String> lines;
+  private final Day01 day01 = new Day01();
+
+  @Setup
+  public void setUp() {
+    lines = new Day01Generator().lines(InputGenerator.DEFAULT_SEED, instructions);
+  }
+
+  @Benchmark
+  public SafeLock simulate() {
+    return day01.runSimulation(lines);
+  }
+}
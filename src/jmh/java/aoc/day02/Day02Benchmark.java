@@ -0,0 +1,81 @@
+package aoc.day02;
+
+import aoc.gen.Day02Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.InputCursor;
+import aoc.util.interval.IntervalList;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 2 range parsing, the closed-form parts and the invalid-ID scans.
+ *
+ * <p>Each range spans roughly 100k IDs, so the scans cost the number of ranges times the
+ * scan width, while the closed-form parts only grow with the number of ranges.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day02Benchmark {
+
+  @Param({"40", "400", "4000"})
+  private int rangeCount;
+
+  private String input;
+  private MemorySegment encoded;
+  private IntervalList ranges;
+  private final Day02 day02 = new Day02();
+
+  @Setup
+  public void setUp() {
+    input = new Day02Generator().lines(InputGenerator.DEFAULT_SEED, rangeCount).getFirst();
+    encoded = MemorySegment.ofArray(input.getBytes(StandardCharsets.US_ASCII));
+    ranges = parse();
+  }
+
+  @Benchmark
+  public IntervalList parse() {
+    return day02.parse(List.of(input));
+  }
+
+  @Benchmark
+  public IntervalList parseCursor() {
+    return day02.parse(InputCursor.of(encoded));
+  }
+
+  @Benchmark
+  public Object part1() {
+    return day02.part1(ranges);
+  }
+
+  @Benchmark
+  public Object part2() {
+    return day02.part2(ranges);
+  }
+
+  @Benchmark
+  public Object part1Scan() {
+    return day02.strategies().get(0).solve(ranges);
+  }
+
+  @Benchmark
+  public Object part2Scan() {
+    return day02.strategies().get(1).solve(ranges);
+  }
+}
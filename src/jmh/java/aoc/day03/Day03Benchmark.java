@@ -0,0 +1,54 @@
+package aoc.day03;
+
+import aoc.gen.Day03Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.FileUtils;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 3 greedy joltage selection for two and twelve digits.
+ *
+ * <p>Banks are read straight from the encoded bytes in parallel chunks, so there is no
+ * separate parse phase.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day03Benchmark {
+
+  @Param({"200", "2000", "20000"})
+  private int banks;
+
+  private MemorySegment encoded;
+  private final Day03 day03 = new Day03();
+
+  @Setup
+  public void setUp() {
+    encoded = FileUtils.encode(new Day03Generator().lines(InputGenerator.DEFAULT_SEED, banks));
+  }
+
+  @Benchmark
+  public long part1() {
+    return day03.totalOutputJoltage(encoded, 2);
+  }
+
+  @Benchmark
+  public long part2() {
+    return day03.totalOutputJoltage(encoded, 12);
+  }
+}
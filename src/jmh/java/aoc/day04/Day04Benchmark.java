@@ -0,0 +1,59 @@
+package aoc.day04;
+
+import aoc.gen.Day04Generator;
+import aoc.gen.InputGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 4 grid construction, accessible-roll counting and iterative removal.
+ *
+ * <p>Part 2 removes rolls from a copy of the grid, so every invocation starts from the parsed
+ * floor plan, as in {@code Day04.main}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day04Benchmark {
+
+  @Param({"140", "700", "1400"})
+  private int side;
+
+  private List<String> lines;
+  private PaperRollGrid grid;
+
+  @Setup
+  public void setUp() {
+    lines = new Day04Generator().lines(InputGenerator.DEFAULT_SEED, side);
+    grid = parse();
+  }
+
+  @Benchmark
+  public PaperRollGrid parse() {
+    return PaperRollGrid.parse(lines);
+  }
+
+  @Benchmark
+  public long part1() {
+    return grid.countAccessibleRolls();
+  }
+
+  @Benchmark
+  public long part2() {
+    return grid.countTotalRemovableRolls();
+  }
+}
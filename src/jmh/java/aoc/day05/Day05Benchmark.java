@@ -0,0 +1,68 @@
+package aoc.day05;
+
+import aoc.gen.Day05Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.InputCursor;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 5 database parsing, freshness lookups and range merging.
+ *
+ * <p>Five ingredient IDs are generated per fresh range, roughly the ratio of the real input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day05Benchmark {
+
+  @Param({"200", "2000", "20000"})
+  private int rangeCount;
+
+  private List<String> lines;
+  private MemorySegment encoded;
+  private IngredientDatabase database;
+
+  @Setup
+  public void setUp() {
+    lines = new Day05Generator().lines(InputGenerator.DEFAULT_SEED, rangeCount);
+    encoded = MemorySegment.ofArray(String.join("\n", lines).getBytes(StandardCharsets.US_ASCII));
+    database = parse();
+  }
+
+  @Benchmark
+  public IngredientDatabase parse() {
+    return IngredientDatabase.parse(lines.stream());
+  }
+
+  @Benchmark
+  public IngredientDatabase parseCursor() {
+    return IngredientDatabase.parse(InputCursor.of(encoded));
+  }
+
+  @Benchmark
+  public long part1() {
+    return database.countFreshIngredients();
+  }
+
+  @Benchmark
+  public long part2() {
+    return database.countTotalFreshIds();
+  }
+}
@@ -0,0 +1,63 @@
+package aoc.day06;
+
+import aoc.gen.Day06Generator;
+import aoc.gen.InputGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 6 worksheet parsing in both reading modes and the problem sums.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day06Benchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int problems;
+
+  private List<String> lines;
+  private MathWorksheet worksheet;
+  private MathWorksheet cephalopodWorksheet;
+
+  @Setup
+  public void setUp() {
+    lines = new Day06Generator().lines(InputGenerator.DEFAULT_SEED, problems);
+    worksheet = parse();
+    cephalopodWorksheet = parseCephalopod();
+  }
+
+  @Benchmark
+  public MathWorksheet parse() {
+    return MathWorksheet.parse(lines);
+  }
+
+  @Benchmark
+  public MathWorksheet parseCephalopod() {
+    return MathWorksheet.parseCephalopod(lines);
+  }
+
+  @Benchmark
+  public long part1() {
+    return worksheet.solveAndSum();
+  }
+
+  @Benchmark
+  public long part2() {
+    return cephalopodWorksheet.solveAndSum();
+  }
+}
@@ -0,0 +1,59 @@
+package aoc.day07;
+
+import aoc.gen.Day07Generator;
+import aoc.gen.InputGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 7 manifold parsing, beam splitting and timeline counting.
+ *
+ * <p>Inputs come from {@link aoc.gen.Day07Generator}, which spaces splitter rows out on
+ * larger grids so timeline counts stay exact.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day07Benchmark {
+
+  @Param({"141", "501", "1401"})
+  private int side;
+
+  private List<String> lines;
+  private TachyonManifold manifold;
+
+  @Setup
+  public void setUp() {
+    lines = new Day07Generator().lines(InputGenerator.DEFAULT_SEED, side);
+    manifold = parse();
+  }
+
+  @Benchmark
+  public TachyonManifold parse() {
+    return TachyonManifold.parse(lines);
+  }
+
+  @Benchmark
+  public int part1() {
+    return manifold.countSplits();
+  }
+
+  @Benchmark
+  public long part2() {
+    return manifold.countTimelines();
+  }
+}
@@ -0,0 +1,85 @@
+package aoc.day08;
+
+import aoc.gen.Day08Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.InputCursor;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 8 point parsing and both circuit queries.
+ *
+ * <p>{@link Playground} caches its sorted pair array after the first query, so each
+ * invocation gets a freshly parsed playground to keep the O(n^2) pair build in the
+ * measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day08Benchmark {
+
+  private static final int CONNECTIONS = 1000;
+
+  @Param({"500", "1000", "4000"})
+  private int boxes;
+
+  private List<String> lines;
+  private MemorySegment encoded;
+
+  @Setup
+  public void setUp() {
+    lines = new Day08Generator().lines(InputGenerator.DEFAULT_SEED, boxes);
+    encoded = MemorySegment.ofArray(String.join("\n", lines).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  @Benchmark
+  public Playground parse() {
+    return Playground.parse(lines);
+  }
+
+  @Benchmark
+  public Playground parseCursor() {
+    return Playground.parse(InputCursor.of(encoded));
+  }
+
+  @Benchmark
+  public long part1(FreshPlayground fresh) {
+    return fresh.playground.productOfThreeLargestCircuits(CONNECTIONS);
+  }
+
+  @Benchmark
+  public long part2(FreshPlayground fresh) {
+    return fresh.playground.finalConnectionXcoordProduct();
+  }
+
+  /**
+   * Re-parses the input before every invocation so no cached pair data survives.
+   */
+  @State(Scope.Thread)
+  public static class FreshPlayground {
+
+    private Playground playground;
+
+    @Setup(Level.Invocation)
+    public void setUp(Day08Benchmark benchmark) {
+      playground = benchmark.parse();
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package aoc.day09;
+
+import aoc.gen.Day09Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.InputCursor;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 9 tile parsing and both rectangle searches.
+ *
+ * <p>The red tiles trace a staircase polygon: a run of alternating vertical and horizontal
+ * steps over increasing x, closed by a single edge along y = 0.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day09Benchmark {
+
+  @Param({"250", "500", "1000"})
+  private int tiles;
+
+  private List<String> lines;
+  private MemorySegment encoded;
+  private MovieTheater theater;
+
+  @Setup
+  public void setUp() {
+    lines = new Day09Generator().lines(InputGenerator.DEFAULT_SEED, tiles);
+    encoded = MemorySegment.ofArray(String.join("\n", lines).getBytes(StandardCharsets.US_ASCII));
+    theater = parse();
+  }
+
+  @Benchmark
+  public MovieTheater parse() {
+    return MovieTheater.parse(lines);
+  }
+
+  @Benchmark
+  public MovieTheater parseCursor() {
+    return MovieTheater.parse(InputCursor.of(encoded));
+  }
+
+  @Benchmark
+  public long part1() {
+    return theater.largestRectangleArea();
+  }
+
+  @Benchmark
+  public long part2() {
+    return theater.largestValidRectangleArea();
+  }
+}
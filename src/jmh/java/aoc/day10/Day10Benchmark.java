@@ -0,0 +1,112 @@
+package aoc.day10;
+
+import aoc.gen.Day10Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.collect.IntArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 10 machine parsing, both press minimisations and the raw
+ * {@link GaussianSolver} on the same systems, reusing one solver as each chunk of part 2 does.
+ *
+ * <p>{@link aoc.gen.Day10Generator} builds every machine from a random press vector, so both
+ * parts always have a solution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day10Benchmark {
+
+  private static final Pattern BUTTON_PATTERN = Pattern.compile("\\(([^)]+)\\)");
+
+  @Param({"50", "200", "800"})
+  private int machines;
+
+  private List<String> lines;
+  private List<int[][]> coefficients;
+  private List<IntArrayList> targets;
+  private final GaussianSolver solver = new GaussianSolver();
+  private Factory factory;
+
+  @Setup
+  public void setUp() {
+    lines = new Day10Generator().lines(InputGenerator.DEFAULT_SEED, machines);
+    coefficients = new ArrayList<>(machines);
+    targets = new ArrayList<>(machines);
+    for (var line : lines) {
+      addSystem(line);
+    }
+    factory = parse();
+  }
+
+  /**
+   * Rebuilds the joltage system of one machine: a column per button, a row per counter.
+   */
+  private void addSystem(String line) {
+    var joltageText = line.substring(line.indexOf('{') + 1, line.indexOf('}'));
+    var joltage = Arrays.stream(joltageText.split(",")).mapToInt(Integer::parseInt).toArray();
+
+    var buttons = new ArrayList<int[]>();
+    var matcher = BUTTON_PATTERN.matcher(line);
+    while (matcher.find()) {
+      buttons.add(Arrays.stream(matcher.group(1).split(",")).mapToInt(Integer::parseInt).toArray());
+    }
+
+    var matrix = new int[joltage.length][buttons.size()];
+    for (int b = 0; b < buttons.size(); b++) {
+      for (int counter : buttons.get(b)) {
+        matrix[counter][b] = 1;
+      }
+    }
+    coefficients.add(matrix);
+    targets.add(IntArrayList.of(joltage));
+  }
+
+  @Benchmark
+  public Factory parse() {
+    return Factory.parse(lines);
+  }
+
+  @Benchmark
+  public long part1() {
+    return factory.minTotalButtonPresses();
+  }
+
+  @Benchmark
+  public long part1Elimination() {
+    return factory.minTotalButtonPressesByElimination();
+  }
+
+  @Benchmark
+  public long part2() {
+    return factory.minTotalJoltagePresses();
+  }
+
+  @Benchmark
+  public long gaussianSolve() {
+    long total = 0;
+    for (int m = 0; m < coefficients.size(); m++) {
+      var matrix = coefficients.get(m);
+      total += solver.solve(matrix, targets.get(m), matrix[0].length);
+    }
+    return total;
+  }
+}
@@ -0,0 +1,60 @@
+package aoc.day11;
+
+import aoc.gen.Day11Generator;
+import aoc.gen.InputGenerator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 11 network parsing and both path counts.
+ *
+ * <p>Devices form a layered DAG (see {@link aoc.gen.Day11Generator}) with fft and dac in
+ * different layers, so both checkpoint orders are exercised. The layer count stays fixed as
+ * the graph grows to keep the memoised recursion depth bounded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day11Benchmark {
+
+  @Param({"600", "6000", "60000"})
+  private int devices;
+
+  private List<String> lines;
+  private DeviceNetwork network;
+
+  @Setup
+  public void setUp() {
+    lines = new Day11Generator().lines(InputGenerator.DEFAULT_SEED, devices);
+    network = parse();
+  }
+
+  @Benchmark
+  public DeviceNetwork parse() {
+    return DeviceNetwork.parse(lines);
+  }
+
+  @Benchmark
+  public long part1() {
+    return network.countPathsToOutput();
+  }
+
+  @Benchmark
+  public long part2() {
+    return network.countPathsThroughCheckpoints();
+  }
+}
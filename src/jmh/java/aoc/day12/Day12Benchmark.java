@@ -0,0 +1,61 @@
+package aoc.day12;
+
+import aoc.gen.Day12Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.InputCursor;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks Day 12 farm parsing and region fitting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Day12Benchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int regions;
+
+  private List<String> lines;
+  private MemorySegment encoded;
+  private ChristmasTreeFarm farm;
+
+  @Setup
+  public void setUp() {
+    lines = new Day12Generator().lines(InputGenerator.DEFAULT_SEED, regions);
+    encoded = MemorySegment.ofArray(String.join("\n", lines).getBytes(StandardCharsets.US_ASCII));
+    farm = parse();
+  }
+
+  @Benchmark
+  public ChristmasTreeFarm parse() {
+    return ChristmasTreeFarm.parse(lines);
+  }
+
+  @Benchmark
+  public ChristmasTreeFarm parseCursor() {
+    return ChristmasTreeFarm.parse(InputCursor.of(encoded));
+  }
+
+  @Benchmark
+  public long part1() {
+    return farm.countFittingRegions();
+  }
+}
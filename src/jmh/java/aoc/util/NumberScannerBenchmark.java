@@ -0,0 +1,66 @@
+package aoc.util;
+
+import aoc.gen.InputGenerator;
+import aoc.gen.InputGenerators;
+import aoc.util.collect.LongArrayList;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the scalar and SIMD number scanners over the numeric puzzle inputs.
+ *
+ * <p>Day 2 and Day 5 are dominated by 10-15 digit IDs and Day 8 and Day 9 by short
+ * coordinates, which stress the digit conversion and the per-number overhead respectively.
+ * Inputs are 100 times the size of a real one; divide the input size by the time per
+ * operation for throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberScannerBenchmark {
+
+  private static final int SCALE = 100;
+
+  @Param({"2", "5", "8", "9"})
+  private int day;
+
+  private MemorySegment encoded;
+  private LongArrayList numbers;
+
+  @Setup
+  public void setUp() {
+    var generator = InputGenerators.forDay(day).orElseThrow();
+    var lines = generator.lines(InputGenerator.DEFAULT_SEED, generator.sizeForScale(SCALE));
+    encoded = MemorySegment.ofArray(String.join("\n", lines).getBytes(StandardCharsets.US_ASCII));
+    numbers = new LongArrayList();
+  }
+
+  @Benchmark
+  public LongArrayList scalar() {
+    numbers.clear();
+    NumberScanner.scanScalar(encoded, numbers);
+    return numbers;
+  }
+
+  @Benchmark
+  public LongArrayList vector() {
+    numbers.clear();
+    VectorNumberScanner.scan(encoded, numbers);
+    return numbers;
+  }
+}
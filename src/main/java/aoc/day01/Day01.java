@@ -1,9 +1,7 @@
 package aoc.day01;
 
-import aoc.util.FileUtils;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -15,7 +13,7 @@ import org.slf4j.LoggerFactory;
  * <p>Simulates a safe lock dial that rotates left or right based on input instructions.
  * Tracks how many times the dial passes through or lands on position zero.
  */
-class Day01 {
+public final class Day01 implements Solution<int[]> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day01.class);
   private static final char LEFT_DIRECTION = 'L';
@@ -24,15 +22,33 @@ class Day01 {
    * Runs the Day 1 solution.
    */
   void main() {
-    try {
-      var lines = FileUtils.readLines("day01/input");
-      SolutionRunner.run(LOG, () -> {
-        var lock = runSimulation(lines);
-        return new Results(lock.getEndOfRotationZeroCount(), lock.getZeroHitCount());
-      });
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 1;
+  }
+
+  /**
+   * Parses rotation instructions into signed step counts, negative for counter-clockwise.
+   */
+  @Override
+  public int @NotNull [] parse(@NotNull List<String> lines) {
+    return lines.stream()
+        .filter(line -> !line.isBlank())
+        .mapToInt(Day01::parseRotation)
+        .toArray();
+  }
+
+  @Override
+  public @NotNull Object part1(int @NotNull [] rotations) {
+    return simulate(rotations).getEndOfRotationZeroCount();
+  }
+
+  @Override
+  public @NotNull Object part2(int @NotNull [] rotations) {
+    return simulate(rotations).getZeroHitCount();
   }
 
   /**
@@ -42,15 +58,23 @@ class Day01 {
    * @return the SafeLock after all rotations have been applied
    */
   SafeLock runSimulation(@NotNull List<String> lines) {
+    return simulate(parse(lines));
+  }
+
+  private static @NotNull SafeLock simulate(int @NotNull [] rotations) {
     var lock = new SafeLock();
-    for (var line : lines) {
-      int amount = Integer.parseInt(line.substring(1));
-      if (line.charAt(0) == LEFT_DIRECTION) {
-        lock.turnCounterClockwise(amount);
+    for (int rotation : rotations) {
+      if (rotation < 0) {
+        lock.turnCounterClockwise(-rotation);
       } else {
-        lock.turnClockwise(amount);
+        lock.turnClockwise(rotation);
       }
     }
     return lock;
   }
+
+  private static int parseRotation(@NotNull String line) {
+    int amount = Integer.parseInt(line.substring(1));
+    return line.charAt(0) == LEFT_DIRECTION ? -amount : amount;
+  }
 }
@@ -1,17 +1,19 @@
 package aoc.day02;
 
-import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.NumberScanner;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
-import java.util.Arrays;
+import aoc.util.Strategy;
+import aoc.util.interval.IntervalList;
 import java.util.List;
+import java.util.function.LongBinaryOperator;
 import java.util.function.LongPredicate;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day02 {
+public final class Day02 implements Solution<IntervalList> {
   private static final Logger LOG = LoggerFactory.getLogger(Day02.class);
 
   private static final long[] POWERS_OF_10 = {
@@ -23,31 +25,70 @@ class Day02 {
   };
 
   void main() {
-    try {
-      var inputString = FileUtils.readAsString("day02/input");
-      var ranges = Arrays.stream(inputString.split(","))
-          .map(Range::parse)
-          .toList();
-
-      SolutionRunner.run(LOG, () -> new Results(part1(ranges), part2(ranges)));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 2;
+  }
+
+  @Override
+  public @NotNull IntervalList parse(@NotNull List<String> lines) {
+    var ranges = new IntervalList();
+    for (var range : String.join("", lines).split(",")) {
+      if (!range.isBlank()) {
+        Range.parse(range).addTo(ranges);
+      }
     }
+    return ranges;
+  }
+
+  @Override
+  public @NotNull IntervalList parse(@NotNull InputCursor cursor) {
+    long[][] bounds = NumberScanner.longColumns(cursor.remaining(), 2);
+    return IntervalList.ofColumns(bounds[0], bounds[1]);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull IntervalList ranges) {
+    return sumPerRange(ranges, RepeatedIds::sumDoubled);
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull IntervalList ranges) {
+    return sumPerRange(ranges, RepeatedIds::sumRepeated);
   }
 
-  long part1(List<Range> ranges) {
-    return sumInvalidIds(ranges, this::isInvalidId);
+  /**
+   * Tests every ID of every range instead of summing them in closed form, see
+   * {@link RepeatedIds}. The work grows with the width of the ranges.
+   */
+  @Override
+  public @NotNull List<Strategy<IntervalList>> strategies() {
+    return List.of(
+        Strategy.part1("scan", ranges -> sumInvalidIds(ranges, this::isInvalidId)),
+        Strategy.part2("scan", ranges -> sumInvalidIds(ranges, this::isInvalidIdPart2)));
   }
 
-  long part2(List<Range> ranges) {
-    return sumInvalidIds(ranges, this::isInvalidIdPart2);
+  private static long sumPerRange(@NotNull IntervalList ranges, LongBinaryOperator sum) {
+    long total = 0;
+    for (int i = 0; i < ranges.size(); i++) {
+      total += sum.applyAsLong(ranges.start(i), ranges.end(i));
+    }
+    return total;
   }
 
-  private long sumInvalidIds(@NotNull List<Range> ranges, LongPredicate isInvalid) {
-    return ranges.stream()
-        .flatMapToLong(Range::stream)
-        .filter(isInvalid)
-        .sum();
+  private long sumInvalidIds(@NotNull IntervalList ranges, LongPredicate isInvalid) {
+    long sum = 0;
+    for (int i = 0; i < ranges.size(); i++) {
+      for (long id = ranges.start(i); id <= ranges.end(i); id++) {
+        if (isInvalid.test(id)) {
+          sum += id;
+        }
+      }
+    }
+    return sum;
   }
 
   /**
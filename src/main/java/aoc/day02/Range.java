@@ -1,9 +1,12 @@
 package aoc.day02;
 
-import java.util.stream.LongStream;
+import aoc.util.interval.IntervalList;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * One {@code start-end} ID range of the input, both ends included.
+ */
 record Range(long start, long end) {
   @Contract("_ -> new")
   static @NotNull Range parse(@NotNull String s) {
@@ -11,8 +14,7 @@ record Range(long start, long end) {
     return new Range(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
   }
 
-  @Contract(pure = true)
-  @NotNull LongStream stream() {
-    return LongStream.rangeClosed(start, end);
+  void addTo(@NotNull IntervalList ranges) {
+    ranges.add(start, end);
   }
 }
@@ -0,0 +1,114 @@
+package aoc.day02;
+
+/**
+ * Sums the repeated-pattern IDs of a range in closed form instead of testing every ID.
+ *
+ * <p>An ID of {@code L} digits made of a {@code p}-digit block {@code h} repeated
+ * {@code L / p} times equals {@code h * (10^L - 1) / (10^p - 1)}. For a fixed length and
+ * period the IDs inside a range therefore come from a contiguous run of blocks, and their sum
+ * is an arithmetic series. The work per range grows with the number of digits, not with the
+ * width of the range.
+ *
+ * <p>Some IDs repeat with several periods: {@code 1111} has periods 1 and 2. Part 1 asks for
+ * the period {@code L / 2} only, so its single series already counts each ID once. Part 2
+ * takes every proper period. Counting each ID once there means weighting the series for
+ * period {@code p} by {@code -mu(L / p)}, where {@code mu} is the Möbius function.
+ */
+final class RepeatedIds {
+
+  // Ten to the 19th no longer fits in a long
+  private static final int MAX_DIGITS = 18;
+
+  private static final long[] POWERS_OF_10 = new long[MAX_DIGITS + 1];
+
+  static {
+    POWERS_OF_10[0] = 1;
+    for (int i = 1; i <= MAX_DIGITS; i++) {
+      POWERS_OF_10[i] = POWERS_OF_10[i - 1] * 10;
+    }
+  }
+
+  private RepeatedIds() {
+  }
+
+  /**
+   * Sum of the IDs in {@code [start, end]} made of two identical halves.
+   */
+  static long sumDoubled(long start, long end) {
+    long sum = 0;
+    for (int length = 2; length <= maxLength(end); length += 2) {
+      sum += sumWithPeriod(start, end, length, length / 2);
+    }
+    return sum;
+  }
+
+  /**
+   * Sum of the IDs in {@code [start, end]} made of a block repeated at least twice.
+   */
+  static long sumRepeated(long start, long end) {
+    long sum = 0;
+    for (int length = 2; length <= maxLength(end); length++) {
+      for (int period = 1; period < length; period++) {
+        if (length % period == 0) {
+          sum -= mobius(length / period) * sumWithPeriod(start, end, length, period);
+        }
+      }
+    }
+    return sum;
+  }
+
+  private static int maxLength(long end) {
+    if (end >= POWERS_OF_10[MAX_DIGITS]) {
+      throw new IllegalArgumentException("IDs must have at most " + MAX_DIGITS + " digits");
+    }
+    int length = 1;
+    while (end >= POWERS_OF_10[length]) {
+      length++;
+    }
+    return length;
+  }
+
+  /**
+   * Sum of the {@code length}-digit IDs in {@code [start, end]} that repeat with the given
+   * period.
+   */
+  private static long sumWithPeriod(long start, long end, int length, int period) {
+    long low = Math.max(start, POWERS_OF_10[length - 1]);
+    long high = Math.min(end, POWERS_OF_10[length] - 1);
+    if (low > high) {
+      return 0;
+    }
+
+    long multiplier = (POWERS_OF_10[length] - 1) / (POWERS_OF_10[period] - 1);
+    long firstBlock = Math.max(POWERS_OF_10[period - 1], Math.ceilDiv(low, multiplier));
+    long lastBlock = Math.min(POWERS_OF_10[period] - 1, high / multiplier);
+    if (firstBlock > lastBlock) {
+      return 0;
+    }
+    long blocks = lastBlock - firstBlock + 1;
+    // One of the two factors is even
+    long blockSum = blocks % 2 == 0
+        ? blocks / 2 * (firstBlock + lastBlock)
+        : (firstBlock + lastBlock) / 2 * blocks;
+    return blockSum * multiplier;
+  }
+
+  /**
+   * The Möbius function: 0 if {@code n} has a square factor, otherwise -1 to the number of its
+   * prime factors.
+   */
+  private static int mobius(int n) {
+    int result = 1;
+    int rest = n;
+    for (int prime = 2; prime * prime <= rest; prime++) {
+      if (rest % prime == 0) {
+        rest /= prime;
+        if (rest % prime == 0) {
+          return 0;
+        }
+        result = -result;
+      }
+    }
+    return rest > 1 ? -result : result;
+  }
+}
@@ -1,9 +1,11 @@
 package aoc.day03;
 
 import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.ParallelLines;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.lang.foreign.MemorySegment;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -15,7 +17,7 @@ import org.slf4j.LoggerFactory;
  * <p>Calculates maximum joltage from battery banks by selecting digits that form
  * the largest possible number when concatenated in order.
  */
-public class Day03 {
+public final class Day03 implements Solution<MemorySegment> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day03.class);
 
@@ -26,15 +28,33 @@ public class Day03 {
    * Runs the Day 3 solution.
    */
   void main() {
-    try {
-      var lines = FileUtils.readLines("day03/input");
-      SolutionRunner.run(LOG, () -> new Results(
-          totalOutputJoltage(lines, 2),
-          totalOutputJoltage(lines, PART2_DIGITS)
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 3;
+  }
+
+  // Banks are independent, so each part parses and solves them in one parallel pass
+  @Override
+  public @NotNull MemorySegment parse(@NotNull List<String> lines) {
+    return FileUtils.encode(lines);
+  }
+
+  @Override
+  public @NotNull MemorySegment parse(@NotNull InputCursor cursor) {
+    return cursor.remaining();
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull MemorySegment banks) {
+    return totalOutputJoltage(banks, 2);
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull MemorySegment banks) {
+    return totalOutputJoltage(banks, PART2_DIGITS);
   }
 
   /**
@@ -45,34 +65,58 @@ public class Day03 {
    * @return the sum of maximum joltages from all banks
    */
   long totalOutputJoltage(@NotNull List<String> lines, int digitCount) {
-    long sum = 0;
-    for (String line : lines) {
-      sum += maxJoltage(line, digitCount);
-    }
-    return sum;
+    return totalOutputJoltage(FileUtils.encode(lines), digitCount);
+  }
+
+  /**
+   * Calculates the total output joltage of newline-separated banks, in parallel chunks.
+   */
+  long totalOutputJoltage(@NotNull MemorySegment banks, int digitCount) {
+    return ParallelLines.sum(banks, bank -> maxJoltage(bank, digitCount));
   }
 
   /**
    * Finds the maximum joltage from a single bank by selecting digits greedily.
    *
-   * <p>Uses a greedy algorithm: for each position, selects the largest digit
-   * that still leaves enough remaining digits to complete the selection.
-   *
    * @param bank        the battery bank as a string of digit characters
    * @param digitCount  the number of digits to select
    * @return the maximum joltage as a long value
    */
   long maxJoltage(@NotNull String bank, int digitCount) {
-    long result = 0;
+    var cursor = InputCursor.of(bank);
+    cursor.nextLine();
+    return maxJoltage(cursor, digitCount);
+  }
+
+  /**
+   * Finds the maximum joltage from the bank on the cursor's current line, ignoring spaces
+   * around it; blank lines count as zero.
+   *
+   * <p>Uses a greedy algorithm: for each position, selects the largest digit
+   * that still leaves enough remaining digits to complete the selection.
+   */
+  private static long maxJoltage(@NotNull InputCursor bank, int digitCount) {
     int startIdx = 0;
+    int length = bank.lineLength();
+    while (startIdx < length && bank.lineByte(startIdx) == ' ') {
+      startIdx++;
+    }
+    while (length > startIdx && bank.lineByte(length - 1) == ' ') {
+      length--;
+    }
+    if (startIdx == length) {
+      return 0;
+    }
+
+    long result = 0;
 
     for (int remaining = digitCount; remaining > 0; remaining--) {
       int maxDigit = -1;
       int maxIdx = -1;
-      int lastValidIdx = bank.length() - remaining;
+      int lastValidIdx = length - remaining;
 
       for (int i = startIdx; i <= lastValidIdx; i++) {
-        int digit = bank.charAt(i) - '0';
+        int digit = bank.lineByte(i) - '0';
         if (digit > maxDigit) {
           maxDigit = digit;
           maxIdx = i;
@@ -1,25 +1,48 @@
 package aoc.day04;
 
-import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class Day04 {
+public final class Day04 implements Solution<PaperRollGrid> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day04.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day04/input");
-      SolutionRunner.run(LOG, () -> new Results(
-          new PaperRollGrid(lines).countAccessibleRolls(),
-          new PaperRollGrid(lines).countTotalRemovableRolls()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 4;
+  }
+
+  @Override
+  public long expectedMillis() {
+    return 29;
+  }
+
+  @Override
+  public @NotNull PaperRollGrid parse(@NotNull List<String> lines) {
+    return PaperRollGrid.parse(lines);
+  }
+
+  @Override
+  public @NotNull PaperRollGrid parse(@NotNull InputCursor cursor) {
+    return PaperRollGrid.parse(cursor);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull PaperRollGrid grid) {
+    return grid.countAccessibleRolls();
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull PaperRollGrid grid) {
+    return grid.countTotalRemovableRolls();
   }
 }
@@ -1,108 +1,164 @@
 package aoc.day04;
 
-import java.util.ArrayList;
+import aoc.util.InputCursor;
+import aoc.util.RunContext;
+import aoc.util.grid.ByteGrid;
+import aoc.util.metrics.Counter;
+import aoc.util.metrics.Metrics;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.List;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-
+/**
+ * The floor plan of paper rolls. It is only read, so both parts can share it; removal works on
+ * a copy of the grid.
+ *
+ * <p>The grid, the neighbour counts and the removal queue all come from {@link RunContext}
+ * storage, so under an arena none of them grows with the input on the heap.
+ */
 final class PaperRollGrid {
 
   private static final char PAPER_ROLL = '@';
-  private static final char EMPTY = '.';
+  private static final byte EMPTY = '.';
   private static final int MAX_ADJACENT_FOR_ACCESS = 4;
+  private static final Counter REMOVAL_ROUNDS = Metrics.counter("day04.removalRounds");
 
-  private final char[][] grid;
-  private final int rows;
-  private final int cols;
+  private final ByteGrid grid;
 
-  PaperRollGrid(@NotNull List<String> lines) {
-    this.rows = lines.size();
-    this.cols = lines.isEmpty() ? 0 : lines.getFirst().length();
-    this.grid = parseGrid(lines);
+  private PaperRollGrid(@NotNull ByteGrid grid) {
+    this.grid = grid;
   }
 
-  private static char[] @NotNull [] parseGrid(@NotNull List<String> lines) {
-    var result = new char[lines.size()][];
-    for (int row = 0; row < lines.size(); row++) {
-      result[row] = lines.get(row).toCharArray();
-    }
-    return result;
+  @Contract("_ -> new")
+  static @NotNull PaperRollGrid parse(@NotNull List<String> lines) {
+    var rows = lines.stream()
+        .filter(line -> !line.isBlank())
+        .toList();
+    return new PaperRollGrid(ByteGrid.parse(rows, (char) EMPTY));
+  }
+
+  @Contract("_ -> new")
+  static @NotNull PaperRollGrid parse(@NotNull InputCursor cursor) {
+    return new PaperRollGrid(ByteGrid.parse(cursor, (char) EMPTY));
   }
 
   long countAccessibleRolls() {
-    long count = 0;
-    for (int row = 0; row < rows; row++) {
-      for (int col = 0; col < cols; col++) {
-        if (isPaperRoll(row, col) && isAccessible(row, col)) {
-          count++;
+    var adjacentRolls = countAdjacentRolls(grid);
+    long accessible = 0;
+    for (int row = 0; row < grid.height(); row++) {
+      int start = grid.rowStart(row);
+      for (int index = start; index < start + grid.width(); index++) {
+        if (isAccessible(grid, adjacentRolls, index)) {
+          accessible++;
         }
       }
     }
-    return count;
+    return accessible;
   }
 
+  /**
+   * Removes accessible rolls round by round until none is left, and counts them.
+   *
+   * <p>Only a neighbour of a removed roll can become accessible, so the grid is scanned once.
+   * Each round removes its rolls, then lowers the neighbour counts around them; a roll whose
+   * count drops from four to three joins the next round. Counts only fall, so every roll joins
+   * at most once, and the rounds follow each other in one queue with a slot per roll. The
+   * total work is linear in the grid rather than in the grid times the number of rounds.
+   */
   long countTotalRemovableRolls() {
-    long totalRemoved = 0;
+    var cells = grid.copy();
+    var adjacentRolls = countAdjacentRolls(cells);
+    var queue = RunContext.allocateInts(countRolls(cells));
+    int tail = 0;
+    for (int row = 0; row < cells.height(); row++) {
+      int start = cells.rowStart(row);
+      for (int index = start; index < start + cells.width(); index++) {
+        if (isAccessible(cells, adjacentRolls, index)) {
+          queue.setAtIndex(ValueLayout.JAVA_INT, tail++, index);
+        }
+      }
+    }
 
-    var accessibleRolls = findAccessibleRolls();
-    while (!accessibleRolls.isEmpty()) {
-      totalRemoved += accessibleRolls.size();
-      removeRolls(accessibleRolls);
-      accessibleRolls = findAccessibleRolls();
+    int[] neighbourOffsets = cells.neighbourOffsets();
+    int head = 0;
+    int round = 0;
+    while (head < tail) {
+      int roundEnd = tail;
+      tail = removeRound(++round, cells, adjacentRolls, queue, head, roundEnd, neighbourOffsets);
+      head = roundEnd;
     }
 
-    return totalRemoved;
+    REMOVAL_ROUNDS.add(round);
+    return tail;
   }
 
-  private @NotNull List<Position> findAccessibleRolls() {
-    var accessible = new ArrayList<Position>();
-    for (int row = 0; row < rows; row++) {
-      for (int col = 0; col < cols; col++) {
-        if (isPaperRoll(row, col) && isAccessible(row, col)) {
-          accessible.add(new Position(row, col));
+  /**
+   * Removes the rolls queued in {@code [head, roundEnd)} and queues the rolls that become
+   * accessible after them.
+   *
+   * @return the new end of the queue
+   */
+  private static int removeRound(int round, @NotNull ByteGrid cells,
+                                 @NotNull MemorySegment adjacentRolls, @NotNull MemorySegment queue,
+                                 int head, int roundEnd, int @NotNull [] neighbourOffsets) {
+    var event = new RemovalRoundEvent();
+    event.begin();
+    // Clear the whole round first, so rolls removed together do not count each other down
+    for (int i = head; i < roundEnd; i++) {
+      cells.setAt(queue.getAtIndex(ValueLayout.JAVA_INT, i), EMPTY);
+    }
+    int tail = roundEnd;
+    for (int i = head; i < roundEnd; i++) {
+      int index = queue.getAtIndex(ValueLayout.JAVA_INT, i);
+      for (int offset : neighbourOffsets) {
+        int neighbour = index + offset;
+        if (cells.getAt(neighbour) == PAPER_ROLL) {
+          byte adjacent = (byte) (adjacentRolls.get(ValueLayout.JAVA_BYTE, neighbour) - 1);
+          adjacentRolls.set(ValueLayout.JAVA_BYTE, neighbour, adjacent);
+          if (adjacent == MAX_ADJACENT_FOR_ACCESS - 1) {
+            queue.setAtIndex(ValueLayout.JAVA_INT, tail++, neighbour);
+          }
         }
       }
     }
-    return accessible;
-  }
-
-  private void removeRolls(@NotNull List<Position> rolls) {
-    for (var pos : rolls) {
-      grid[pos.row()][pos.col()] = EMPTY;
+    event.end();
+    if (event.shouldCommit()) {
+      int removed = roundEnd - head;
+      event.round = round;
+      event.cells = (long) removed * neighbourOffsets.length;
+      event.removed = removed;
+      event.commit();
     }
+    return tail;
   }
 
-  private boolean isPaperRoll(int row, int col) {
-    return grid[row][col] == PAPER_ROLL;
+  /**
+   * Rolls around each cell, by flat index, in storage of their own.
+   */
+  private static @NotNull MemorySegment countAdjacentRolls(@NotNull ByteGrid cells) {
+    var adjacentRolls = RunContext.allocateBytes(cells.size());
+    cells.countNeighboursEqual(PAPER_ROLL, adjacentRolls);
+    return adjacentRolls;
   }
 
-  private boolean isAccessible(int row, int col) {
-    return countAdjacentPaperRolls(row, col) < MAX_ADJACENT_FOR_ACCESS;
-  }
-
-  private int countAdjacentPaperRolls(int row, int col) {
-    int count = 0;
-    for (int deltaRow = -1; deltaRow <= 1; deltaRow++) {
-      for (int deltaCol = -1; deltaCol <= 1; deltaCol++) {
-        if (deltaRow == 0 && deltaCol == 0) {
-          continue;
-        }
-
-        int newRow = row + deltaRow;
-        int newCol = col + deltaCol;
-
-        if (isWithinBounds(newRow, newCol) && isPaperRoll(newRow, newCol)) {
-          count++;
+  private static int countRolls(@NotNull ByteGrid cells) {
+    int rolls = 0;
+    for (int row = 0; row < cells.height(); row++) {
+      int start = cells.rowStart(row);
+      for (int index = start; index < start + cells.width(); index++) {
+        if (cells.getAt(index) == PAPER_ROLL) {
+          rolls++;
         }
       }
     }
-    return count;
-  }
-
-  private boolean isWithinBounds(int row, int col) {
-    return row >= 0 && row < rows && col >= 0 && col < cols;
+    return rolls;
   }
 
-  private record Position(int row, int col) {
+  private static boolean isAccessible(@NotNull ByteGrid cells,
+                                      @NotNull MemorySegment adjacentRolls, int index) {
+    return cells.getAt(index) == PAPER_ROLL
+        && adjacentRolls.get(ValueLayout.JAVA_BYTE, index) < MAX_ADJACENT_FOR_ACCESS;
   }
 }
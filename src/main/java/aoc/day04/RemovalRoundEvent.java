@@ -0,0 +1,29 @@
+package aoc.day04;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one round of removing every accessible paper roll.
+ */
+@Name("aoc.day04.RemovalRound")
+@Label("Removal Round")
+@Category({"Advent of Code", "Day 4"})
+@Description("Remove the accessible rolls and update the counts around them")
+@StackTrace(false)
+final class RemovalRoundEvent extends Event {
+
+  @Label("Round")
+  int round;
+
+  @Label("Cells")
+  @Description("Neighbour cells visited around the removed rolls")
+  long cells;
+
+  @Label("Removed")
+  int removed;
+}
@@ -1,27 +1,55 @@
 package aoc.day05;
 
-import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class Day05 {
+public final class Day05 implements Solution<IngredientDatabase> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day05.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day05/input");
-      var sections = FileUtils.splitByBlankLines(lines);
-      var database = IngredientDatabase.parse(sections);
-      SolutionRunner.run(LOG, () -> new Results(
-          database.countFreshIngredients(),
-          database.countTotalFreshIds()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 5;
+  }
+
+  @Override
+  public long expectedMillis() {
+    return 32;
+  }
+
+  @Override
+  public @NotNull IngredientDatabase parse(@NotNull List<String> lines) {
+    return parse(lines.stream());
+  }
+
+  // Merges the ranges before the ingredient IDs are read, so only one section is ever held
+  @Override
+  public @NotNull IngredientDatabase parse(@NotNull Stream<String> lines) {
+    return IngredientDatabase.parse(lines);
+  }
+
+  @Override
+  public @NotNull IngredientDatabase parse(@NotNull InputCursor cursor) {
+    return IngredientDatabase.parse(cursor);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull IngredientDatabase database) {
+    return database.countFreshIngredients();
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull IngredientDatabase database) {
+    return database.countTotalFreshIds();
   }
 }
@@ -1,7 +1,11 @@
 package aoc.day05;
 
+import aoc.util.interval.IntervalList;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * One {@code start-end} line of the fresh ID section, both ends included.
+ */
 record FreshRange(long start, long end) {
 
   static @NotNull FreshRange parse(@NotNull String line) {
@@ -9,19 +13,7 @@ record FreshRange(long start, long end) {
     return new FreshRange(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
   }
 
-  boolean contains(long ingredientId) {
-    return ingredientId >= start && ingredientId <= end;
-  }
-
-  boolean overlapsOrAdjacent(@NotNull FreshRange other) {
-    return other.start <= this.end + 1;
-  }
-
-  @NotNull FreshRange mergeWith(@NotNull FreshRange other) {
-    return new FreshRange(this.start, Math.max(this.end, other.end));
-  }
-
-  long size() {
-    return end - start + 1;
+  void addTo(@NotNull IntervalList ranges) {
+    ranges.add(start, end);
   }
 }
@@ -1,72 +1,99 @@
 package aoc.day05;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Gatherer;
+import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.NumberScanner;
+import aoc.util.collect.LongArrayList;
+import aoc.util.interval.IntervalList;
+import aoc.util.interval.IntervalSet;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Fresh ID ranges and the IDs to check against them.
+ *
+ * <p>The fresh ranges are kept merged, so checking an ID is a binary search and the number of
+ * fresh IDs is the total length of the ranges. The ingredient list is copied on the way in
+ * and on the way out, so a database cannot be changed after construction.
+ */
 record IngredientDatabase(
-    @NotNull List<FreshRange> freshRanges,
-    @NotNull List<Long> availableIngredients) {
+    @NotNull IntervalSet freshRanges,
+    @NotNull LongArrayList availableIngredients) {
 
   IngredientDatabase {
-    freshRanges = List.copyOf(freshRanges);
-    availableIngredients = List.copyOf(availableIngredients);
+    availableIngredients = LongArrayList.of(availableIngredients.toArray());
   }
 
-  static @NotNull IngredientDatabase parse(@NotNull List<List<String>> sections) {
-    var ranges = sections.getFirst().stream()
-        .map(FreshRange::parse)
-        .toList();
+  /**
+   * A database of the given ranges, which may overlap, merged.
+   */
+  static @NotNull IngredientDatabase of(
+      @NotNull IntervalList freshRanges, @NotNull LongArrayList availableIngredients) {
+    return new IngredientDatabase(freshRanges.coalesce(), availableIngredients);
+  }
+
+  /**
+   * Parses one section at a time, merging the ranges before reading the ingredient IDs.
+   */
+  static @NotNull IngredientDatabase parse(@NotNull Stream<String> lines) {
+    var ranges = new IntervalList();
+    var ingredients = new LongArrayList();
+    FileUtils.forEachSection(lines, (index, section) -> {
+      if (index == 0) {
+        section.forEach(line -> FreshRange.parse(line).addTo(ranges));
+      } else {
+        section.forEach(line -> ingredients.add(Long.parseLong(line.trim())));
+      }
+    });
+    return of(ranges, ingredients);
+  }
+
+  /**
+   * Finds the blank line ending the range section, then bulk-scans the ranges before it and
+   * the ingredient IDs after it.
+   */
+  static @NotNull IngredientDatabase parse(@NotNull InputCursor cursor) {
+    boolean seenRange = false;
+    while (cursor.nextLine()) {
+      cursor.skipSpaces();
+      if (cursor.hasRemaining()) {
+        seenRange = true;
+      } else if (seenRange) {
+        break;
+      }
+    }
 
-    var ingredients = sections.get(1).stream()
-        .map(Long::parseLong)
-        .toList();
+    long[][] bounds = NumberScanner.longColumns(cursor.segment().asSlice(0, cursor.offset()), 2);
+    var ranges = IntervalList.ofColumns(bounds[0], bounds[1]);
 
-    return new IngredientDatabase(ranges, ingredients);
+    var ingredients = new LongArrayList();
+    NumberScanner.scan(cursor.remaining(), ingredients);
+    return of(ranges, ingredients);
   }
 
-  long countFreshIngredients() {
-    return availableIngredients.stream()
-        .filter(this::isFresh)
-        .count();
+  /**
+   * A copy of the ingredient IDs, in input order.
+   */
+  @Override
+  public @NotNull LongArrayList availableIngredients() {
+    return LongArrayList.of(availableIngredients.toArray());
   }
 
-  long countTotalFreshIds() {
-    return freshRanges.stream()
-        .sorted(Comparator.comparingLong(FreshRange::start))
-        .gather(mergeOverlappingRanges())
-        .mapToLong(FreshRange::size)
-        .sum();
+  long countFreshIngredients() {
+    long count = 0;
+    for (int i = 0; i < availableIngredients.size(); i++) {
+      if (isFresh(availableIngredients.get(i))) {
+        count++;
+      }
+    }
+    return count;
   }
 
-  private static @NotNull Gatherer<FreshRange, ?, FreshRange> mergeOverlappingRanges() {
-    return Gatherer.ofSequential(
-        AtomicReference<FreshRange>::new,
-        (state, next, downstream) -> {
-          var current = state.get();
-          if (current == null) {
-            state.set(next);
-          } else if (current.overlapsOrAdjacent(next)) {
-            state.set(current.mergeWith(next));
-          } else {
-            downstream.push(current);
-            state.set(next);
-          }
-          return true;
-        },
-        (state, downstream) -> {
-          var remaining = state.get();
-          if (remaining != null) {
-            downstream.push(remaining);
-          }
-        }
-    );
+  long countTotalFreshIds() {
+    return freshRanges.totalLength();
   }
 
   private boolean isFresh(long ingredientId) {
-    return freshRanges.stream()
-        .anyMatch(range -> range.contains(ingredientId));
+    return freshRanges.contains(ingredientId);
   }
 }
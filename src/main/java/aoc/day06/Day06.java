@@ -1,25 +1,43 @@
 package aoc.day06;
 
-import aoc.util.FileUtils;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day06 {
+public final class Day06 implements Solution<Worksheets> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day06.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day06/input");
-      SolutionRunner.run(LOG, () -> new Results(
-          MathWorksheet.parse(lines).solveAndSum(),
-          MathWorksheet.parseCephalopod(lines).solveAndSum()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 6;
+  }
+
+  @Override
+  public long expectedMillis() {
+    return 23;
+  }
+
+  // The two parts read the columns differently, so the worksheet is parsed both ways up front
+  @Override
+  public @NotNull Worksheets parse(@NotNull List<String> lines) {
+    return new Worksheets(MathWorksheet.parse(lines), MathWorksheet.parseCephalopod(lines));
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull Worksheets worksheets) {
+    return worksheets.byRow().solveAndSum();
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull Worksheets worksheets) {
+    return worksheets.byColumn().solveAndSum();
   }
 }
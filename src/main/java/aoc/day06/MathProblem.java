@@ -1,13 +1,25 @@
 package aoc.day06;
 
-import java.util.List;
+import aoc.util.collect.LongArrayList;
 
-record MathProblem(List<Long> numbers, char operator) {
+record MathProblem(LongArrayList numbers, char operator) {
 
   long solve() {
     return switch (operator) {
-      case '+' -> numbers.stream().mapToLong(Long::longValue).sum();
-      case '*' -> numbers.stream().mapToLong(Long::longValue).reduce(1L, (a, b) -> a * b);
+      case '+' -> {
+        long sum = 0;
+        for (int i = 0; i < numbers.size(); i++) {
+          sum += numbers.get(i);
+        }
+        yield sum;
+      }
+      case '*' -> {
+        long product = 1;
+        for (int i = 0; i < numbers.size(); i++) {
+          product *= numbers.get(i);
+        }
+        yield product;
+      }
       default -> throw new IllegalArgumentException("Unknown operator: " + operator);
     };
   }
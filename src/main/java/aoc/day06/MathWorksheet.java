@@ -1,5 +1,7 @@
 package aoc.day06;
 
+import aoc.util.collect.IntArrayList;
+import aoc.util.collect.LongArrayList;
 import java.util.ArrayList;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
@@ -40,9 +42,9 @@ record MathWorksheet(List<MathProblem> problems) {
     var columnBoundaries = findColumnBoundaries(nonEmptyLines);
     var problems = new ArrayList<MathProblem>();
 
-    for (int[] boundary : columnBoundaries) {
-      int start = boundary[0];
-      int end = boundary[1];
+    for (int i = 0; i < columnBoundaries.size(); i += 2) {
+      int start = columnBoundaries.get(i);
+      int end = columnBoundaries.get(i + 1);
 
       char operator = findOperator(operatorRow, start, end);
       var numbers = cephalopodMode
@@ -57,10 +59,16 @@ record MathWorksheet(List<MathProblem> problems) {
     return new MathWorksheet(problems);
   }
 
-  private static @NotNull List<int[]> findColumnBoundaries(@NotNull List<String> lines) {
-    int maxLen = lines.stream().mapToInt(String::length).max().orElse(0);
+  /**
+   * Start (inclusive) and end (exclusive) columns of each problem, flattened into pairs.
+   */
+  private static @NotNull IntArrayList findColumnBoundaries(@NotNull List<String> lines) {
+    int maxLen = 0;
+    for (var line : lines) {
+      maxLen = Math.max(maxLen, line.length());
+    }
 
-    var boundaries = new ArrayList<int[]>();
+    var boundaries = new IntArrayList();
     int col = 0;
 
     while (col < maxLen) {
@@ -80,7 +88,8 @@ record MathWorksheet(List<MathProblem> problems) {
       }
 
       if (col > start) {
-        boundaries.add(new int[]{start, col});
+        boundaries.add(start);
+        boundaries.add(col);
       }
     }
 
@@ -106,29 +115,40 @@ record MathWorksheet(List<MathProblem> problems) {
     throw new IllegalArgumentException("No operator found in range " + start + "-" + end);
   }
 
-  private static @NotNull List<Long> extractNumbers(
+  private static @NotNull LongArrayList extractNumbers(
       @NotNull List<String> rows, int startCol, int endCol) {
-    var numbers = new ArrayList<Long>();
+    var numbers = new LongArrayList(rows.size());
 
     for (var row : rows) {
       if (startCol >= row.length()) {
         continue;
       }
 
+      // Digits are right- or left-aligned within the column, padded with spaces
       int actualEnd = Math.min(endCol, row.length());
-      var segment = row.substring(startCol, actualEnd).trim();
+      long number = 0;
+      boolean hasDigit = false;
+      for (int col = startCol; col < actualEnd; col++) {
+        char ch = row.charAt(col);
+        if (ch >= '0' && ch <= '9') {
+          number = number * 10 + ch - '0';
+          hasDigit = true;
+        } else if (ch != ' ') {
+          throw new NumberFormatException("Unexpected '" + ch + "' at column " + col);
+        }
+      }
 
-      if (!segment.isEmpty()) {
-        numbers.add(Long.parseLong(segment));
+      if (hasDigit) {
+        numbers.add(number);
       }
     }
 
     return numbers;
   }
 
-  private static @NotNull List<Long> extractVerticalNumbers(
+  private static @NotNull LongArrayList extractVerticalNumbers(
       @NotNull List<String> rows, int startCol, int endCol) {
-    var numbers = new ArrayList<Long>();
+    var numbers = new LongArrayList(endCol - startCol);
 
     // Each column within the boundary is a separate number (digits read top-to-bottom)
     for (int col = startCol; col < endCol; col++) {
@@ -159,8 +179,10 @@ record MathWorksheet(List<MathProblem> problems) {
   }
 
   long solveAndSum() {
-    return problems.stream()
-        .mapToLong(MathProblem::solve)
-        .sum();
+    long sum = 0;
+    for (var problem : problems) {
+      sum += problem.solve();
+    }
+    return sum;
   }
 }
@@ -0,0 +1,7 @@
+package aoc.day06;
+
+/**
+ * The worksheet read both ways: row by row for part 1 and column by column for part 2.
+ */
+record Worksheets(MathWorksheet byRow, MathWorksheet byColumn) {
+}
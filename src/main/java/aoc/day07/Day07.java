@@ -1,26 +1,42 @@
 package aoc.day07;
 
-import aoc.util.FileUtils;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day07 {
+public final class Day07 implements Solution<TachyonManifold> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day07.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day07/input");
-      var manifold = TachyonManifold.parse(lines);
-      SolutionRunner.run(LOG, () -> new Results(
-          manifold.countSplits(),
-          manifold.countTimelines()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 7;
+  }
+
+  @Override
+  public long expectedMillis() {
+    return 5;
+  }
+
+  @Override
+  public @NotNull TachyonManifold parse(@NotNull List<String> lines) {
+    return TachyonManifold.parse(lines);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull TachyonManifold manifold) {
+    return manifold.countSplits();
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull TachyonManifold manifold) {
+    return manifold.countTimelines();
   }
 }
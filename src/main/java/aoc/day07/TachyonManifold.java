@@ -1,69 +1,62 @@
 package aoc.day07;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-import java.util.HashSet;
+import aoc.util.collect.LongArrayDeque;
+import aoc.util.collect.LongHashSet;
+import aoc.util.grid.ByteGrid;
+import aoc.util.metrics.Counter;
+import aoc.util.metrics.Metrics;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 
-record TachyonManifold(char[][] grid, int startCol) {
+record TachyonManifold(ByteGrid grid, int startCol) {
 
   private static final char START = 'S';
   private static final char SPLITTER = '^';
+  private static final char EMPTY = '.';
+  private static final Counter BEAMS_QUEUED = Metrics.counter("day07.beamsQueued");
 
   static @NotNull TachyonManifold parse(@NotNull List<String> lines) {
     if (lines.isEmpty()) {
       throw new IllegalArgumentException("Empty input");
     }
 
-    int height = lines.size();
-    int width = lines.getFirst().length();
-    var grid = new char[height][width];
-    int startCol = -1;
-
-    for (int row = 0; row < height; row++) {
-      var line = lines.get(row);
-      for (int col = 0; col < width; col++) {
-        char ch = col < line.length() ? line.charAt(col) : '.';
-        grid[row][col] = ch;
-        if (ch == START) {
-          startCol = col;
-        }
-      }
-    }
-
-    if (startCol < 0) {
+    var grid = ByteGrid.parse(lines, EMPTY);
+    int start = grid.indexOf(START);
+    if (start < 0) {
       throw new IllegalArgumentException("No start position 'S' found");
     }
 
-    return new TachyonManifold(grid, startCol);
+    return new TachyonManifold(grid, (start - grid.rowStart(0)) % grid.stride());
   }
 
   private int height() {
-    return grid.length;
+    return grid.height();
   }
 
   private int width() {
-    return grid[0].length;
+    return grid.width();
   }
 
   int countSplits() {
-    var activatedSplitters = new HashSet<Long>();
-    Deque<Long> beams = new ArrayDeque<>();
+    var activatedSplitters = new LongHashSet();
+    var beams = new LongArrayDeque();
 
     int startRow = findStartRow();
-    beams.add(encodePosition(startRow + 1, startCol));
+    beams.addLast(encodePosition(startRow + 1, startCol));
 
+    long queued = 0;
     while (!beams.isEmpty()) {
-      long beam = beams.poll();
+      long beam = beams.removeFirst();
       processBeam(decodeRow(beam), decodeCol(beam), activatedSplitters, beams);
+      queued++;
     }
 
+    BEAMS_QUEUED.add(queued);
     return activatedSplitters.size();
   }
 
-  private void processBeam(int startRow, int col, Set<Long> activated, Deque<Long> beams) {
+  private void processBeam(int startRow, int col, LongHashSet activated, LongArrayDeque beams) {
     int splitterRow = findSplitterRow(startRow, col);
     if (splitterRow < 0) {
       return;
@@ -76,67 +69,70 @@ record TachyonManifold(char[][] grid, int startCol) {
   }
 
   private int findSplitterRow(int startRow, int col) {
-    for (int row = startRow; row < height(); row++) {
-      if (grid[row][col] == SPLITTER) {
+    int stride = grid.stride();
+    int index = grid.index(startRow, col);
+    for (int row = startRow; row < height(); row++, index += stride) {
+      if (grid.getAt(index) == SPLITTER) {
         return row;
       }
     }
     return -1;
   }
 
-  private void spawnNewBeams(int row, int col, Deque<Long> beams) {
+  private void spawnNewBeams(int row, int col, LongArrayDeque beams) {
     int nextRow = row + 1;
     if (col > 0) {
-      beams.add(encodePosition(nextRow, col - 1));
+      beams.addLast(encodePosition(nextRow, col - 1));
     }
     if (col + 1 < width()) {
-      beams.add(encodePosition(nextRow, col + 1));
+      beams.addLast(encodePosition(nextRow, col + 1));
     }
   }
 
   long countTimelines() {
     int startRow = findStartRow();
 
-    // Use two arrays for double buffering
-    long[] current = new long[width()];
-    long[] next = new long[width()];
-    current[startCol] = 1;
+    // Double-buffered rows, padded by one column each side to match the grid's border: beams
+    // split off the edge land in the padding and are dropped before the next row
+    int w = width();
+    long[] current = new long[w + 2];
+    long[] next = new long[w + 2];
+    current[startCol + 1] = 1;
 
     for (int row = startRow + 1; row < height(); row++) {
-      java.util.Arrays.fill(next, 0);
+      Arrays.fill(next, 0);
       propagateTimelines(row, current, next);
+      next[0] = 0;
+      next[w + 1] = 0;
       long[] temp = current;
       current = next;
       next = temp;
     }
 
-    return java.util.Arrays.stream(current).sum();
+    return Arrays.stream(current).sum();
   }
 
   private void propagateTimelines(int row, long[] current, long[] next) {
-    int w = width();
-    for (int col = 0; col < w; col++) {
-      long count = current[col];
+    // Padded column c + 1 lines up with flat index start + c
+    int start = grid.rowStart(row) - 1;
+    for (int padded = 1; padded <= width(); padded++) {
+      long count = current[padded];
       if (count == 0) {
         continue;
       }
 
-      if (grid[row][col] == SPLITTER) {
-        if (col > 0) {
-          next[col - 1] += count;
-        }
-        if (col + 1 < w) {
-          next[col + 1] += count;
-        }
+      if (grid.getAt(start + padded) == SPLITTER) {
+        next[padded - 1] += count;
+        next[padded + 1] += count;
       } else {
-        next[col] += count;
+        next[padded] += count;
       }
     }
   }
 
   private int findStartRow() {
     for (int row = 0; row < height(); row++) {
-      if (grid[row][startCol] == START) {
+      if (grid.get(row, startCol) == START) {
         return row;
       }
     }
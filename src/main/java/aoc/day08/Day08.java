@@ -1,26 +1,49 @@
 package aoc.day08;
 
-import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day08 {
+public final class Day08 implements Solution<Playground> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day08.class);
+  private static final int CONNECTIONS = 1000;
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day08/input");
-      var playground = Playground.parse(lines);
-      SolutionRunner.run(LOG, () -> new Results(
-          playground.productOfThreeLargestCircuits(1000),
-          playground.finalConnectionXcoordProduct()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 8;
+  }
+
+  @Override
+  public long expectedMillis() {
+    return 64;
+  }
+
+  @Override
+  public @NotNull Playground parse(@NotNull List<String> lines) {
+    return Playground.parse(lines);
+  }
+
+  @Override
+  public @NotNull Playground parse(@NotNull InputCursor cursor) {
+    return Playground.parse(cursor);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull Playground playground) {
+    return playground.productOfThreeLargestCircuits(CONNECTIONS);
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull Playground playground) {
+    return playground.finalConnectionXcoordProduct();
   }
 }
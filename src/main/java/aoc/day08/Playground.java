@@ -1,20 +1,51 @@
 package aoc.day08;
 
-import java.util.Arrays;
+import aoc.util.InputCursor;
+import aoc.util.NumberScanner;
+import aoc.util.ParallelSort;
+import aoc.util.RunContext;
+import aoc.util.SnapshotCache;
+import aoc.util.collect.LongLongHashMap;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Junction boxes, connected closest pair first.
+ *
+ * <p>Both parts walk pairs of boxes in order of distance, but neither needs every pair: part 1
+ * stops after a fixed number of connections and part 2 once every box is connected. Only the
+ * pairs within some radius are built and sorted. The radius starts where a uniform spread of
+ * the boxes would yield about enough pairs, and grows until the pairs within it are enough
+ * for both parts. Pairs within a radius are found through a grid of cells as wide as the
+ * radius, so each box is only compared with the boxes in its own and adjacent cells.
+ *
+ * <p>The pairs within the final radius are counted before they are stored, so they go straight
+ * into storage of the right size from {@link RunContext#allocateLongs}, off the heap when the
+ * runner asks for it.
+ */
 final class Playground {
 
+  // Bump when the pair packing or ordering changes so stale snapshots are not reused
+  private static final int PAIR_SNAPSHOT_VERSION = 2;
+  // Each step about doubles the pairs within the radius
+  private static final double RADIUS_GROWTH = Math.cbrt(2);
+  private static final int CELL_BITS = 21;
+  private static final long NO_BOX = -1;
+
   private final int[] xcoords;
   private final int[] ycoords;
   private final int[] zcoords;
-  private long[] sortedPairData;
+  private final int indexBits;
+  private MemorySegment sortedPairData;
+  private int sortedPairMinimum;
 
   private Playground(int[] xcoords, int[] ycoords, int[] zcoords) {
     this.xcoords = xcoords;
     this.ycoords = ycoords;
     this.zcoords = zcoords;
+    this.indexBits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, xcoords.length - 1));
   }
 
   static @NotNull Playground parse(@NotNull List<String> lines) {
@@ -37,70 +68,205 @@ final class Playground {
     return new Playground(xcoords, ycoords, zcoords);
   }
 
-  private long[] getSortedPairData() {
-    if (sortedPairData == null) {
-      int n = xcoords.length;
-      int pairCount = n * (n - 1) / 2;
-
-      sortedPairData = new long[pairCount];
-      int idx = 0;
-
-      for (int i = 0; i < n; i++) {
-        int xi = xcoords[i];
-        int yi = ycoords[i];
-        int zi = zcoords[i];
-        for (int j = i + 1; j < n; j++) {
-          long dx = (long) xi - xcoords[j];
-          long dy = (long) yi - ycoords[j];
-          long dz = (long) zi - zcoords[j];
-          long distSq = dx * dx + dy * dy + dz * dz;
-          // Pack: high bits = distance, low 10 bits each = i, j
-          sortedPairData[idx] = (distSq << 20) | ((long) i << 10) | j;
-          idx++;
+  /**
+   * Reads the {@code x,y,z} boxes from the rest of the cursor in one bulk scan.
+   */
+  static @NotNull Playground parse(@NotNull InputCursor cursor) {
+    int[][] coords = NumberScanner.intColumns(cursor.remaining(), 3);
+    return new Playground(coords[0], coords[1], coords[2]);
+  }
+
+  /**
+   * The closest pairs sorted by distance, as a prefix of all pairs in that order. The prefix
+   * holds at least {@code minPairs} pairs, or all of them, and enough pairs to connect every
+   * box. It is built once per minimum and shared through {@link SnapshotCache}, so repeated
+   * runs over the same boxes can map it instead of rebuilding it.
+   *
+   * <p>Synchronized because both parts may ask at once when they run concurrently. Whichever
+   * part builds the prefix first usually leaves enough pairs for the other.
+   */
+  private synchronized MemorySegment getSortedPairData(int minPairs) {
+    if (sortedPairData == null || sortedPairMinimum < minPairs) {
+      var key = SnapshotCache.key("day08-pairs", PAIR_SNAPSHOT_VERSION)
+          .add(xcoords)
+          .add(ycoords)
+          .add(zcoords)
+          .add(minPairs);
+      sortedPairData = SnapshotCache.longSegment(key, () -> buildSortedPairData(minPairs));
+      // Connecting every box can take more pairs than asked for, which serve later minimums
+      sortedPairMinimum = (int) Math.max(minPairs, sortedPairData.byteSize() / Long.BYTES);
+    }
+    return sortedPairData;
+  }
+
+  private MemorySegment buildSortedPairData(int minPairs) {
+    int n = xcoords.length;
+    long wanted = Math.min(minPairs, (long) n * (n - 1) / 2);
+    long maxDistanceSquared = maxDistanceSquared();
+    double radius = initialRadius(Math.max(wanted, n));
+    while (true) {
+      long radiusSquared = Math.min(maxDistanceSquared, (long) Math.ceil(radius * radius));
+      var count = new PairCount(n);
+      forEachPairWithin(radiusSquared, count);
+      if (radiusSquared == maxDistanceSquared
+          || (count.pairs >= wanted && count.connectsAllBoxes())) {
+        var pairs = new PairWriter(RunContext.allocateLongs(count.pairs));
+        forEachPairWithin(radiusSquared, pairs);
+        ParallelSort.sort(pairs.packed);
+        return pairs.packed;
+      }
+      radius *= RADIUS_GROWTH;
+    }
+  }
+
+  /**
+   * Radius holding about {@code targetPairs} pairs if the boxes were spread evenly over their
+   * bounding box.
+   */
+  private double initialRadius(long targetPairs) {
+    int n = xcoords.length;
+    if (n < 2) {
+      return 0;
+    }
+    double volume = (span(xcoords) + 1.0) * (span(ycoords) + 1.0) * (span(zcoords) + 1.0);
+    double pairsPerUnitVolume = (double) n * n / 2 / volume;
+    return Math.max(1, Math.cbrt(targetPairs / (pairsPerUnitVolume * 4 / 3 * Math.PI)));
+  }
+
+  /**
+   * Visits every pair of boxes at most {@code sqrt(radiusSquared)} apart, once each.
+   */
+  private void forEachPairWithin(long radiusSquared, @NotNull PairVisitor visitor) {
+    // Pack: high bits = distance, low indexBits each = i, j
+    int distanceBits = Long.SIZE - Long.numberOfLeadingZeros(radiusSquared);
+    if (distanceBits + 2 * indexBits >= Long.SIZE) {
+      throw new IllegalStateException("Cannot pack " + xcoords.length + " box indices alongside "
+          + distanceBits + "-bit distances into a long");
+    }
+
+    int n = xcoords.length;
+    int minX = min(xcoords);
+    int minY = min(ycoords);
+    int minZ = min(zcoords);
+    // Cells no narrower than the radius, and few enough per axis to pack three into a key
+    long maxSpan = Math.max(span(xcoords), Math.max(span(ycoords), span(zcoords)));
+    long cellSize = Math.max((long) Math.ceil(Math.sqrt((double) radiusSquared)),
+        (maxSpan >> (CELL_BITS - 1)) + 1);
+
+    // Boxes of each cell as a linked list: the map holds the first, next[] the rest
+    var firstInCell = new LongLongHashMap(n);
+    var next = new int[n];
+    for (int i = 0; i < n; i++) {
+      long cell = cellKey(((long) xcoords[i] - minX) / cellSize,
+          ((long) ycoords[i] - minY) / cellSize, ((long) zcoords[i] - minZ) / cellSize);
+      next[i] = (int) firstInCell.getOrDefault(cell, NO_BOX);
+      firstInCell.put(cell, i);
+    }
+
+    for (int i = 0; i < n; i++) {
+      long cellX = ((long) xcoords[i] - minX) / cellSize;
+      long cellY = ((long) ycoords[i] - minY) / cellSize;
+      long cellZ = ((long) zcoords[i] - minZ) / cellSize;
+      for (long x = Math.max(0, cellX - 1); x <= cellX + 1; x++) {
+        for (long y = Math.max(0, cellY - 1); y <= cellY + 1; y++) {
+          for (long z = Math.max(0, cellZ - 1); z <= cellZ + 1; z++) {
+            int j = (int) firstInCell.getOrDefault(cellKey(x, y, z), NO_BOX);
+            for (; j >= 0; j = next[j]) {
+              // Each pair once, from its lower index
+              if (j > i) {
+                visitPairWithin(visitor, i, j, radiusSquared);
+              }
+            }
+          }
         }
       }
+    }
+  }
 
-      Arrays.parallelSort(sortedPairData);
+  private void visitPairWithin(@NotNull PairVisitor visitor, int i, int j, long radiusSquared) {
+    long dx = (long) xcoords[i] - xcoords[j];
+    long dy = (long) ycoords[i] - ycoords[j];
+    long dz = (long) zcoords[i] - zcoords[j];
+    long distSq = dx * dx + dy * dy + dz * dz;
+    if (distSq <= radiusSquared) {
+      visitor.visit(i, j, distSq);
     }
-    return sortedPairData;
   }
 
-  private static int extractBoxA(long packed) {
-    return (int) ((packed >> 10) & 0x3FF);
+  private static long cellKey(long x, long y, long z) {
+    return (x << (2 * CELL_BITS)) | (y << CELL_BITS) | z;
   }
 
-  private static int extractBoxB(long packed) {
-    return (int) (packed & 0x3FF);
+  /**
+   * Upper bound on any pairwise squared distance: the bounding box diagonal.
+   */
+  private long maxDistanceSquared() {
+    long dx = span(xcoords);
+    long dy = span(ycoords);
+    long dz = span(zcoords);
+    return dx * dx + dy * dy + dz * dz;
+  }
+
+  private static int min(int[] coords) {
+    int min = Integer.MAX_VALUE;
+    for (int c : coords) {
+      min = Math.min(min, c);
+    }
+    return min;
+  }
+
+  private static long span(int[] coords) {
+    if (coords.length == 0) {
+      return 0;
+    }
+    int min = coords[0];
+    int max = coords[0];
+    for (int c : coords) {
+      min = Math.min(min, c);
+      max = Math.max(max, c);
+    }
+    return (long) max - min;
+  }
+
+  private int extractBoxA(long packed) {
+    return (int) ((packed >>> indexBits) & ((1L << indexBits) - 1));
+  }
+
+  private int extractBoxB(long packed) {
+    return (int) (packed & ((1L << indexBits) - 1));
   }
 
   long productOfThreeLargestCircuits(int connections) {
     var uf = new UnionFind(xcoords.length);
-    var pairs = getSortedPairData();
+    var pairs = getSortedPairData(connections);
 
-    int limit = Math.min(connections, pairs.length);
-    for (int i = 0; i < limit; i++) {
-      uf.union(extractBoxA(pairs[i]), extractBoxB(pairs[i]));
+    long limit = Math.min(connections, pairs.byteSize() / Long.BYTES);
+    for (long i = 0; i < limit; i++) {
+      long pair = pairs.getAtIndex(ValueLayout.JAVA_LONG, i);
+      uf.union(extractBoxA(pair), extractBoxB(pair));
     }
 
     var sizes = uf.getComponentSizes();
-    sizes.sort((a, b) -> Integer.compare(b, a));
+    sizes.sort();
 
     long product = 1;
     int count = Math.min(3, sizes.size());
-    for (int i = 0; i < count; i++) {
-      product *= sizes.get(i);
+    for (int i = 1; i <= count; i++) {
+      product *= sizes.get(sizes.size() - i);
     }
     return product;
   }
 
   long finalConnectionXcoordProduct() {
     var uf = new UnionFind(xcoords.length);
-    var pairs = getSortedPairData();
+    var pairs = getSortedPairData(0);
 
     int lastA = -1;
     int lastB = -1;
 
-    for (long pair : pairs) {
+    long pairCount = pairs.byteSize() / Long.BYTES;
+    for (long i = 0; i < pairCount; i++) {
+      long pair = pairs.getAtIndex(ValueLayout.JAVA_LONG, i);
       int boxA = extractBoxA(pair);
       int boxB = extractBoxB(pair);
 
@@ -121,4 +287,56 @@ final class Playground {
 
     return (long) xcoords[lastA] * xcoords[lastB];
   }
+
+  @FunctionalInterface
+  private interface PairVisitor {
+
+    void visit(int i, int j, long distanceSquared);
+  }
+
+  /**
+   * Counts pairs, and joins their boxes until every box is connected.
+   */
+  private static final class PairCount implements PairVisitor {
+
+    private final UnionFind boxes;
+    private final int boxCount;
+    private long pairs;
+
+    PairCount(int boxCount) {
+      this.boxes = new UnionFind(boxCount);
+      this.boxCount = boxCount;
+    }
+
+    @Override
+    public void visit(int i, int j, long distanceSquared) {
+      pairs++;
+      if (!boxes.isFullyConnected()) {
+        boxes.union(i, j);
+      }
+    }
+
+    boolean connectsAllBoxes() {
+      return boxCount < 2 || boxes.isFullyConnected();
+    }
+  }
+
+  /**
+   * Packs pairs into storage that holds them exactly.
+   */
+  private final class PairWriter implements PairVisitor {
+
+    private final MemorySegment packed;
+    private long size;
+
+    PairWriter(@NotNull MemorySegment packed) {
+      this.packed = packed;
+    }
+
+    @Override
+    public void visit(int i, int j, long distanceSquared) {
+      long pair = (distanceSquared << (2 * indexBits)) | ((long) i << indexBits) | j;
+      packed.setAtIndex(ValueLayout.JAVA_LONG, size++, pair);
+    }
+  }
 }
@@ -1,7 +1,6 @@
 package aoc.day08;
 
-import java.util.ArrayList;
-import java.util.List;
+import aoc.util.collect.IntArrayList;
 
 class UnionFind {
 
@@ -48,13 +47,13 @@ class UnionFind {
     return componentCount == 1;
   }
 
-  List<Integer> getComponentSizes() {
+  IntArrayList getComponentSizes() {
     int[] sizes = new int[parent.length];
     for (int i = 0; i < parent.length; i++) {
       sizes[find(i)]++;
     }
 
-    var result = new ArrayList<Integer>();
+    var result = new IntArrayList(componentCount);
     for (int size : sizes) {
       if (size > 0) {
         result.add(size);
@@ -1,26 +1,48 @@
 package aoc.day09;
 
-import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day09 {
+public final class Day09 implements Solution<MovieTheater> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day09.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day09/input");
-      var theater = MovieTheater.parse(lines);
-      SolutionRunner.run(LOG, () -> new Results(
-          theater.largestRectangleArea(),
-          theater.largestValidRectangleArea()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 9;
+  }
+
+  @Override
+  public long expectedMillis() {
+    return 85;
+  }
+
+  @Override
+  public @NotNull MovieTheater parse(@NotNull List<String> lines) {
+    return MovieTheater.parse(lines);
+  }
+
+  @Override
+  public @NotNull MovieTheater parse(@NotNull InputCursor cursor) {
+    return MovieTheater.parse(cursor);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull MovieTheater theater) {
+    return theater.largestRectangleArea();
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull MovieTheater theater) {
+    return theater.largestValidRectangleArea();
   }
 }
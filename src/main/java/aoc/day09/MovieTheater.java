@@ -1,5 +1,7 @@
 package aoc.day09;
 
+import aoc.util.InputCursor;
+import aoc.util.NumberScanner;
 import java.util.List;
 import org.jetbrains.annotations.NotNull;
 
@@ -7,7 +9,6 @@ final class MovieTheater {
 
   private final int[] xcoords;
   private final int[] ycoords;
-  private RectilinearPolygon polygon;
 
   private MovieTheater(int[] xcoords, int[] ycoords) {
     this.xcoords = xcoords;
@@ -32,6 +33,14 @@ final class MovieTheater {
     return new MovieTheater(xcoords, ycoords);
   }
 
+  /**
+   * Reads the {@code x,y} tiles from the rest of the cursor in one bulk scan.
+   */
+  static @NotNull MovieTheater parse(@NotNull InputCursor cursor) {
+    int[][] coords = NumberScanner.intColumns(cursor.remaining(), 2);
+    return new MovieTheater(coords[0], coords[1]);
+  }
+
   long largestRectangleArea() {
     int n = xcoords.length;
     long maxArea = 0;
@@ -49,14 +58,15 @@ final class MovieTheater {
   }
 
   long largestValidRectangleArea() {
-    polygon = new RectilinearPolygon(xcoords, ycoords);
+    // Local rather than a field, so both parts can read one theater from different threads
+    var polygon = new RectilinearPolygon(xcoords, ycoords);
 
     int n = xcoords.length;
     long maxArea = 0;
 
     for (int i = 0; i < n; i++) {
       for (int j = i + 1; j < n; j++) {
-        long area = computeValidArea(i, j);
+        long area = computeValidArea(polygon, i, j);
         if (area > maxArea) {
           maxArea = area;
         }
@@ -66,7 +76,7 @@ final class MovieTheater {
     return maxArea;
   }
 
-  private long computeValidArea(int i, int j) {
+  private long computeValidArea(@NotNull RectilinearPolygon polygon, int i, int j) {
     int x1 = xcoords[i];
     int y1 = ycoords[i];
     int x2 = xcoords[j];
@@ -99,9 +109,6 @@ final class MovieTheater {
   }
 
   boolean testContainsPoint(int x, int y) {
-    if (polygon == null) {
-      polygon = new RectilinearPolygon(xcoords, ycoords);
-    }
-    return polygon.containsPoint(x, y);
+    return new RectilinearPolygon(xcoords, ycoords).containsPoint(x, y);
   }
 }
@@ -1,45 +1,70 @@
 package aoc.day09;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.NavigableMap;
-import java.util.TreeMap;
-import org.jetbrains.annotations.Contract;
+import aoc.util.collect.IntArrayList;
+import aoc.util.interval.IntervalList;
+import aoc.util.metrics.Counter;
+import aoc.util.metrics.Metrics;
+import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * Represents a rectilinear (axis-aligned) polygon and provides efficient
  * point-in-polygon and rectangle containment tests.
+ *
+ * <p>Part 2 only asks about points whose coordinates are both vertex coordinates, so their
+ * answers are cached in a table with one byte per pair of distinct vertex {@code x} and
+ * {@code y}. The table is sized once, up front, so the queries never allocate.
  */
 final class RectilinearPolygon {
 
-  private final NavigableMap<Integer, List<Range>> verticalEdgesByX = new TreeMap<>();
-  private final NavigableMap<Integer, List<Range>> horizontalEdgesByY = new TreeMap<>();
-  private final Map<Long, Boolean> containsPointCache = new HashMap<>();
+  private static final byte UNKNOWN = 0;
+  private static final byte INSIDE = 1;
+  private static final byte OUTSIDE = 2;
+  private static final Counter CACHE_HITS = Metrics.counter("day09.containsPointCache.hits");
+  private static final Counter CACHE_MISSES = Metrics.counter("day09.containsPointCache.misses");
+
+  private final EdgeIndex verticalEdgesByX;
+  private final EdgeIndex horizontalEdgesByY;
+  // Distinct vertex coordinates, ascending, and the cached answers by their positions
+  private final int[] vertexXs;
+  private final int[] vertexYs;
+  private final byte[] containsPointCache;
 
   RectilinearPolygon(int @NotNull [] xcoords, int[] ycoords) {
+    var vertical = new EdgeIndex.Builder();
+    var horizontal = new EdgeIndex.Builder();
     int n = xcoords.length;
     for (int i = 0; i < n; i++) {
       int next = (i + 1) % n;
-      addEdge(xcoords[i], ycoords[i], xcoords[next], ycoords[next]);
-    }
-  }
-
-  private void addEdge(int x1, int y1, int x2, int y2) {
-    if (x1 == x2) {
-      verticalEdgesByX.computeIfAbsent(x1, _ -> new ArrayList<>())
-          .add(Range.of(y1, y2));
-    } else {
-      horizontalEdgesByY.computeIfAbsent(y1, _ -> new ArrayList<>())
-          .add(Range.of(x1, x2));
+      if (xcoords[i] == xcoords[next]) {
+        vertical.add(xcoords[i], ycoords[i], ycoords[next]);
+      } else {
+        horizontal.add(ycoords[i], xcoords[i], xcoords[next]);
+      }
     }
+    verticalEdgesByX = vertical.build();
+    horizontalEdgesByY = horizontal.build();
+    vertexXs = Arrays.stream(xcoords).sorted().distinct().toArray();
+    vertexYs = Arrays.stream(ycoords).sorted().distinct().toArray();
+    containsPointCache = new byte[Math.multiplyExact(vertexXs.length, vertexYs.length)];
   }
 
   boolean containsPoint(int x, int y) {
-    long key = ((long) x << 32) | (y & 0xFFFFFFFFL);
-    return containsPointCache.computeIfAbsent(key, _ -> computeContainsPoint(x, y));
+    int column = Arrays.binarySearch(vertexXs, x);
+    int row = Arrays.binarySearch(vertexYs, y);
+    if (column < 0 || row < 0) {
+      return computeContainsPoint(x, y);
+    }
+    int slot = row * vertexXs.length + column;
+    byte cached = containsPointCache[slot];
+    if (cached != UNKNOWN) {
+      CACHE_HITS.increment();
+      return cached == INSIDE;
+    }
+    CACHE_MISSES.increment();
+    boolean inside = computeContainsPoint(x, y);
+    containsPointCache[slot] = inside ? INSIDE : OUTSIDE;
+    return inside;
   }
 
   private boolean computeContainsPoint(int x, int y) {
@@ -47,64 +72,117 @@ final class RectilinearPolygon {
   }
 
   private boolean isOnEdge(int x, int y) {
-    return pointInRangeList(horizontalEdgesByY.get(y), x)
-        || pointInRangeList(verticalEdgesByX.get(x), y);
+    return horizontalEdgesByY.anyContains(y, x) || verticalEdgesByX.anyContains(x, y);
   }
 
-  private boolean pointInRangeList(List<Range> ranges, int value) {
-    if (ranges == null) {
-      return false;
+  private boolean hasOddCrossingsToRight(int x, int y) {
+    return (verticalEdgesByX.countHalfOpenCrossingsAfter(x, y) & 1) == 1;
+  }
+
+  boolean containsRectangle(int minX, int maxX, int minY, int maxY) {
+    return !verticalEdgesByX.anyOverlapStrictlyBetween(minX, maxX, minY, maxY)
+        && !horizontalEdgesByY.anyOverlapStrictlyBetween(minY, maxY, minX, maxX);
+  }
+
+  /**
+   * Edges parallel to one axis, sorted by the coordinate they share: a key column next to an
+   * {@link IntervalList} of the spans along the other axis. The edges with a given key, or a
+   * key range, are found by binary search and are contiguous, so every query runs without
+   * allocating.
+   */
+  private static final class EdgeIndex {
+
+    private final int[] keys;
+    private final IntervalList spans;
+
+    private EdgeIndex(int[] keys, IntervalList spans) {
+      this.keys = keys;
+      this.spans = spans;
     }
-    for (var range : ranges) {
-      if (range.contains(value)) {
-        return true;
+
+    /**
+     * Whether an edge at {@code key} covers {@code value}, end points included.
+     */
+    boolean anyContains(int key, int value) {
+      for (int i = firstAtLeast(key); i < keys.length && keys[i] == key; i++) {
+        if (value >= spans.start(i) && value <= spans.end(i)) {
+          return true;
+        }
       }
+      return false;
     }
-    return false;
-  }
 
-  private boolean hasOddCrossingsToRight(int x, int y) {
-    int crossings = 0;
-    for (var entry : verticalEdgesByX.tailMap(x, false).entrySet()) {
-      for (var edge : entry.getValue()) {
-        if (y > edge.min && y <= edge.max) {
+    /**
+     * Number of edges beyond {@code key} whose span {@code (min, max]} holds {@code value}.
+     */
+    int countHalfOpenCrossingsAfter(int key, int value) {
+      int crossings = 0;
+      for (int i = firstAtLeast(key + 1L); i < keys.length; i++) {
+        if (value > spans.start(i) && value <= spans.end(i)) {
           crossings++;
         }
       }
+      return crossings;
     }
-    return (crossings & 1) == 1;
-  }
 
-  boolean containsRectangle(int minX, int maxX, int minY, int maxY) {
-    return hasEdgeCrossingInterior(verticalEdgesByX, minX, maxX, minY, maxY)
-        && hasEdgeCrossingInterior(horizontalEdgesByY, minY, maxY, minX, maxX);
-  }
-
-  private boolean hasEdgeCrossingInterior(
-          @NotNull NavigableMap<Integer, List<Range>> edgeMap,
-          int keyMin, int keyMax, int rangeMin, int rangeMax) {
-    for (var edges : edgeMap.subMap(keyMin, false, keyMax, false).values()) {
-      for (var edge : edges) {
-        if (edge.overlaps(rangeMin, rangeMax)) {
-          return false;
+    /**
+     * Whether an edge keyed strictly between the bounds overlaps the open range.
+     */
+    boolean anyOverlapStrictlyBetween(int keyMin, int keyMax, int rangeMin, int rangeMax) {
+      int end = firstAtLeast(keyMax);
+      for (int i = firstAtLeast(keyMin + 1L); i < end; i++) {
+        if (spans.start(i) < rangeMax && spans.end(i) > rangeMin) {
+          return true;
         }
       }
+      return false;
     }
-    return true;
-  }
 
-  private record Range(int min, int max) {
-    @Contract("_, _ -> new")
-    static @NotNull Range of(int a, int b) {
-      return new Range(Math.min(a, b), Math.max(a, b));
+    /**
+     * Index of the first edge whose key is at least {@code key}.
+     */
+    private int firstAtLeast(long key) {
+      int low = 0;
+      int high = keys.length;
+      while (low < high) {
+        int mid = (low + high) >>> 1;
+        if (keys[mid] < key) {
+          low = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+      return low;
     }
 
-    boolean contains(int value) {
-      return value >= min && value <= max;
-    }
+    private static final class Builder {
+
+      private final IntArrayList keys = new IntArrayList();
+      private final IntervalList spans = new IntervalList();
+
+      void add(int key, int end1, int end2) {
+        keys.add(key);
+        spans.add(Math.min(end1, end2), Math.max(end1, end2));
+      }
 
-    boolean overlaps(int otherMin, int otherMax) {
-      return min < otherMax && max > otherMin;
+      @NotNull EdgeIndex build() {
+        int count = keys.size();
+        // Signed key in the high half, edge number in the low half: sorts by key
+        var order = new long[count];
+        for (int i = 0; i < count; i++) {
+          order[i] = ((long) keys.get(i) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        var sortedKeys = new int[count];
+        var sortedSpans = new IntervalList(count);
+        for (int i = 0; i < count; i++) {
+          int edge = (int) order[i];
+          sortedKeys[i] = keys.get(edge);
+          sortedSpans.add(spans.start(edge), spans.end(edge));
+        }
+        return new EdgeIndex(sortedKeys, sortedSpans);
+      }
     }
   }
 }
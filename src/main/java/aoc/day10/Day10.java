@@ -1,26 +1,54 @@
 package aoc.day10;
 
-import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import aoc.util.Strategy;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day10 {
+public final class Day10 implements Solution<Factory> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day10.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day10/input.txt");
-      var factory = Factory.parse(lines);
-      SolutionRunner.run(LOG, () -> new Results(
-          factory.minTotalButtonPresses(),
-          factory.minTotalJoltagePresses()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 10;
+  }
+
+  @Override
+  public long expectedMillis() {
+    return 66;
+  }
+
+  @Override
+  public @NotNull Factory parse(@NotNull List<String> lines) {
+    return Factory.parse(lines);
+  }
+
+  @Override
+  public @NotNull Factory parse(@NotNull InputCursor cursor) {
+    return Factory.parse(cursor.remaining());
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull Factory factory) {
+    return factory.minTotalButtonPresses();
+  }
+
+  @Override
+  public @NotNull List<Strategy<Factory>> strategies() {
+    return List.of(Strategy.part1("gf2", Factory::minTotalButtonPressesByElimination));
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull Factory factory) {
+    return factory.minTotalJoltagePresses();
   }
 }
@@ -1,130 +1,212 @@
 package aoc.day10;
 
-import java.util.ArrayList;
+import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.ParallelLines;
+import aoc.util.collect.IntArrayList;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.ToLongFunction;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * The factory's machines, one per line.
+ *
+ * <p>Machines are independent, so the factory keeps their encoded lines and each part parses
+ * and solves them in one parallel pass over the bytes.
+ */
 final class Factory {
 
-  private static final Pattern MACHINE_PATTERN =
-      Pattern.compile("\\[([.#]+)]\\s+((?:\\([^)]+\\)\\s*)+)\\{([^}]+)}");
-  private static final Pattern BUTTON_PATTERN = Pattern.compile("\\(([^)]+)\\)");
   private static final char LIGHT_ON = '#';
+  private static final char LIGHT_OFF = '.';
 
-  private final List<Machine> machines;
+  private final MemorySegment machines;
 
-  private Factory(List<Machine> machines) {
+  private Factory(MemorySegment machines) {
     this.machines = machines;
   }
 
   static @NotNull Factory parse(@NotNull List<String> lines) {
-    List<Machine> machines = new ArrayList<>();
-    for (String line : lines) {
-      if (!line.isBlank()) {
-        machines.add(parseMachine(line));
-      }
-    }
-    return new Factory(machines);
+    return parse(FileUtils.encode(lines));
   }
 
-  private static @NotNull Machine parseMachine(String line) {
-    Matcher matcher = MACHINE_PATTERN.matcher(line);
-    if (!matcher.find()) {
-      throw new IllegalArgumentException("Invalid machine format: " + line);
-    }
-
-    String lightDiagram = matcher.group(1);
-    int numLights = lightDiagram.length();
-    int targetState = parseTargetState(lightDiagram);
+  /**
+   * Wraps newline-separated machine descriptions, such as the rest of a mapped input.
+   */
+  static @NotNull Factory parse(@NotNull MemorySegment machines) {
+    return new Factory(machines);
+  }
 
-    String buttonSection = matcher.group(2);
-    List<List<Integer>> buttonIndices = new ArrayList<>();
-    Matcher buttonMatcher = BUTTON_PATTERN.matcher(buttonSection);
-    while (buttonMatcher.find()) {
-      buttonIndices.add(parseButtonIndices(buttonMatcher.group(1)));
-    }
+  long minTotalButtonPresses() {
+    return sumMachines(1, Machine::minButtonPressesPartOne);
+  }
 
-    String joltageSection = matcher.group(3);
-    int[] joltageTargets = parseJoltageTargets(joltageSection);
+  /**
+   * Part 1 solved by {@link Gf2Solver} rather than by trying every set of buttons.
+   */
+  long minTotalButtonPressesByElimination() {
+    return sumMachines(1, Machine::minButtonPressesByElimination);
+  }
 
-    return new Machine(numLights, targetState, buttonIndices, joltageTargets);
+  long minTotalJoltagePresses() {
+    return sumMachines(2, Machine::minButtonPressesPartTwo);
   }
 
-  private static int parseTargetState(@NotNull String diagram) {
-    int state = 0;
-    for (int i = 0; i < diagram.length(); i++) {
-      if (diagram.charAt(i) == LIGHT_ON) {
-        state |= (1 << i);
-      }
-    }
-    return state;
+  /**
+   * Parses and solves every machine in one parallel pass; each chunk of lines reads its
+   * machines into a single {@link Machine} and sums their presses on it.
+   */
+  private long sumMachines(int part, @NotNull ToLongFunction<Machine> solver) {
+    return ParallelLines.fold(machines, Machine::new,
+        (machine, cursor) -> machine.totalPresses += solveMachine(part, cursor, machine, solver),
+        (left, right) -> {
+          left.totalPresses += right.totalPresses;
+          return left;
+        }).totalPresses;
   }
 
-  private static @NotNull List<Integer> parseButtonIndices(@NotNull String buttonStr) {
-    List<Integer> indices = new ArrayList<>();
-    if (!buttonStr.isBlank()) {
-      for (String idx : buttonStr.split(",")) {
-        indices.add(Integer.parseInt(idx.trim()));
-      }
+  private static long solveMachine(int part, @NotNull InputCursor cursor,
+                                   @NotNull Machine machine,
+                                   @NotNull ToLongFunction<Machine> solver) {
+    long lineOffset = cursor.offset();
+    cursor.skipSpaces();
+    if (!cursor.hasRemaining()) {
+      return 0;
     }
-    return indices;
-  }
 
-  private static int @NotNull [] parseJoltageTargets(@NotNull String joltageStr) {
-    String[] parts = joltageStr.split(",");
-    int[] targets = new int[parts.length];
-    for (int i = 0; i < parts.length; i++) {
-      targets[i] = Integer.parseInt(parts[i].trim());
+    var event = new MachineSolveEvent();
+    event.begin();
+    machine.parse(cursor);
+    long presses = solver.applyAsLong(machine);
+    event.end();
+    if (event.shouldCommit()) {
+      event.part = part;
+      event.lineOffset = lineOffset;
+      event.buttons = machine.numButtons();
+      event.targets = part == 1 ? machine.numLights : machine.joltageTargets.size();
+      event.presses = presses;
+      event.commit();
     }
-    return targets;
+    return presses;
   }
 
-  long minTotalButtonPresses() {
-    return machines.parallelStream()
-        .mapToLong(Machine::minButtonPressesPartOne)
-        .sum();
-  }
+  /**
+   * The machine on the current line of a chunk, parsed into arrays that the next machine of
+   * the chunk reuses. They only grow when a machine is larger than every one before it, so a
+   * chunk allocates a few arrays rather than a set per machine.
+   */
+  private static final class Machine {
 
-  long minTotalJoltagePresses() {
-    return machines.parallelStream()
-        .mapToLong(Machine::minButtonPressesPartTwo)
-        .sum();
-  }
+    private final IntArrayList buttonCounters = new IntArrayList();
+    // End of each button's run in buttonCounters; the run starts where the previous one ends
+    private final IntArrayList buttonEnds = new IntArrayList();
+    private final IntArrayList joltageTargets = new IntArrayList();
+    private final GaussianSolver gaussian = new GaussianSolver();
+    private int numLights;
+    private int targetState;
+    private int[] buttonMasks = new int[0];
+    private int[][] coefficients = new int[0][0];
+    // Presses summed over the chunk's machines so far
+    private long totalPresses;
 
-  private record Machine(int numLights, int targetState,
-                         List<List<Integer>> buttonIndices, int[] joltageTargets) {
+    /**
+     * Parses a {@code [.##.] (3) (1,3) (2) {3,5,4,7}} machine on the cursor's current line.
+     */
+    void parse(@NotNull InputCursor cursor) {
+      if (!cursor.skip('[')) {
+        throw new IllegalArgumentException("Invalid machine format at byte " + cursor.offset());
+      }
+      numLights = 0;
+      targetState = 0;
+      while (!cursor.skip(']')) {
+        if (numLights == Integer.SIZE) {
+          throw new IllegalArgumentException(
+              "More than " + Integer.SIZE + " lights at byte " + cursor.offset());
+        }
+        if (cursor.skip(LIGHT_ON)) {
+          targetState |= 1 << numLights;
+        } else if (!cursor.skip(LIGHT_OFF)) {
+          // Also the end of the line, where ']' is missing
+          throw new IllegalArgumentException("Invalid light at byte " + cursor.offset());
+        }
+        numLights++;
+      }
+      cursor.skipSpaces();
+
+      buttonCounters.clear();
+      buttonEnds.clear();
+      while (cursor.skip('(')) {
+        parseNumbers(cursor, ')', buttonCounters);
+        buttonEnds.add(buttonCounters.size());
+        cursor.skipSpaces();
+      }
+
+      if (!cursor.skip('{')) {
+        throw new IllegalArgumentException("Missing joltage targets at byte " + cursor.offset());
+      }
+      joltageTargets.clear();
+      parseNumbers(cursor, '}', joltageTargets);
+    }
+
+    /**
+     * Reads a comma-separated list after its opening bracket, up to and including
+     * {@code close}, onto the end of {@code numbers}.
+     */
+    private static void parseNumbers(@NotNull InputCursor cursor, char close,
+                                     @NotNull IntArrayList numbers) {
+      cursor.skipSpaces();
+      while (cursor.hasRemaining() && !cursor.skip(close)) {
+        numbers.add(cursor.nextInt());
+        cursor.skipSpaces();
+        cursor.skip(',');
+      }
+    }
+
+    int numButtons() {
+      return buttonEnds.size();
+    }
 
     int minButtonPressesPartOne() {
-      int numButtons = buttonIndices.size();
+      int numButtons = numButtons();
       if (numButtons == 0) {
         return targetState == 0 ? 0 : -1;
       }
 
-      int[] buttonMasks = buildButtonMasks(numLights);
-      return findMinPresses(buttonMasks, numButtons);
+      buildButtonMasks(numLights);
+      return findMinPresses(numButtons);
+    }
+
+    int minButtonPressesByElimination() {
+      buildButtonMasks(numLights);
+      return Gf2Solver.minPresses(Arrays.copyOf(buttonMasks, numButtons()), targetState);
     }
 
-    private int @NotNull [] buildButtonMasks(int maxIndex) {
-      int[] masks = new int[buttonIndices.size()];
-      for (int b = 0; b < buttonIndices.size(); b++) {
+    private void buildButtonMasks(int maxIndex) {
+      int numButtons = numButtons();
+      if (buttonMasks.length < numButtons) {
+        buttonMasks = new int[numButtons];
+      }
+      int start = 0;
+      for (int b = 0; b < numButtons; b++) {
         int mask = 0;
-        for (int idx : buttonIndices.get(b)) {
+        int end = buttonEnds.get(b);
+        for (int i = start; i < end; i++) {
+          int idx = buttonCounters.get(i);
           if (idx < maxIndex) {
             mask |= (1 << idx);
           }
         }
-        masks[b] = mask;
+        buttonMasks[b] = mask;
+        start = end;
       }
-      return masks;
     }
 
-    private int findMinPresses(int[] buttonMasks, int numButtons) {
+    private int findMinPresses(int numButtons) {
       int minPresses = Integer.MAX_VALUE;
 
       for (int mask = 0; mask < (1 << numButtons); mask++) {
-        int state = computeState(buttonMasks, mask, numButtons);
+        int state = computeState(mask, numButtons);
         if (state == targetState) {
           int presses = Integer.bitCount(mask);
           minPresses = Math.min(minPresses, presses);
@@ -134,7 +216,7 @@ final class Factory {
       return minPresses == Integer.MAX_VALUE ? -1 : minPresses;
     }
 
-    private int computeState(int[] buttonMasks, int selectionMask, int numButtons) {
+    private int computeState(int selectionMask, int numButtons) {
       int state = 0;
       for (int b = 0; b < numButtons; b++) {
         if ((selectionMask & (1 << b)) != 0) {
@@ -145,21 +227,32 @@ final class Factory {
     }
 
     long minButtonPressesPartTwo() {
-      int numCounters = joltageTargets.length;
-      int numButtons = buttonIndices.size();
+      int numCounters = joltageTargets.size();
+      int numButtons = numButtons();
 
       // Build coefficient matrix: coefficients[counter][button] = 1 if button affects counter
       // For Part 2, button indices refer to counter indices
-      int[][] coefficients = new int[numCounters][numButtons];
+      if (coefficients.length < numCounters
+          || (numCounters > 0 && coefficients[0].length < numButtons)) {
+        int columns = Math.max(numButtons, coefficients.length > 0 ? coefficients[0].length : 0);
+        coefficients = new int[Math.max(numCounters, coefficients.length)][columns];
+      }
+      for (int c = 0; c < numCounters; c++) {
+        Arrays.fill(coefficients[c], 0, numButtons, 0);
+      }
+      int start = 0;
       for (int b = 0; b < numButtons; b++) {
-        for (int idx : buttonIndices.get(b)) {
+        int end = buttonEnds.get(b);
+        for (int i = start; i < end; i++) {
+          int idx = buttonCounters.get(i);
           if (idx < numCounters) {
             coefficients[idx][b] = 1;
           }
         }
+        start = end;
       }
 
-      return GaussianSolver.solve(coefficients, joltageTargets);
+      return gaussian.solve(coefficients, joltageTargets, numButtons);
     }
   }
 }
@@ -1,5 +1,9 @@
 package aoc.day10;
 
+import aoc.util.collect.IntArrayList;
+import aoc.util.metrics.Counter;
+import aoc.util.metrics.Histogram;
+import aoc.util.metrics.Metrics;
 import java.util.Arrays;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -7,102 +11,129 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Gaussian elimination solver with recursive enumeration for free variables.
  * Solves systems of linear equations over non-negative integers, minimizing the sum of variables.
+ *
+ * <p>A solver is reused for many systems, one at a time, and is not thread-safe.
  */
 final class GaussianSolver {
 
   private static final double EPS = 1e-8;
+  private static final Histogram FREE_VARIABLES =
+      Metrics.histogram("day10.gaussian.freeVariables", 0, 1, 2, 3, 4, 6, 8);
+  private static final Counter ASSIGNMENTS = Metrics.counter("day10.gaussian.assignments");
 
-  private final int numVars;
-  private final int numConstraints;
+  // Size of the system being solved; the arrays below may be larger, left by an earlier one
+  private int numVars;
+  private int numConstraints;
 
   // Variable expressions: varCoeffs[v][i] * x[i] + varConstants[v] = x[v]
-  private final double[][] varCoeffs;
-  private final double[] varConstants;
-  private final boolean[] freeFlags;
-  private final int[] upperBounds;
-
-  private GaussianSolver(int numVars, int numConstraints, int[] upperBounds) {
-    this.numVars = numVars;
-    this.numConstraints = numConstraints;
-    this.upperBounds = upperBounds;
-    this.varCoeffs = new double[numVars][numVars];
-    this.varConstants = new double[numVars];
-    this.freeFlags = new boolean[numVars];
-
-    // Initialize each variable as free: x[i] = 1*x[i] + 0
-    for (int i = 0; i < numVars; i++) {
-      varCoeffs[i][i] = 1.0;
-      freeFlags[i] = true;
-    }
-  }
-
-  static long solve(int[][] coefficients, int @NotNull [] targets) {
-    int numConstraints = targets.length;
-    if (numConstraints == 0 || coefficients.length == 0 || coefficients[0].length == 0) {
+  private double[][] varCoeffs = new double[0][0];
+  private double[] varConstants = new double[0];
+  private boolean[] freeFlags = new boolean[0];
+  private int[] upperBounds = new int[0];
+  // Equations still to eliminate: eqCoeffs[c][i] * x[i] + eqConstants[c] = 0
+  private double[][] eqCoeffs = new double[0][0];
+  private double[] eqConstants = new double[0];
+  private int[] freeVars = new int[0];
+  private int numFree;
+  private int[] values = new int[0];
+
+  /**
+   * Solves one system, reusing the arrays of the systems this solver solved before whenever
+   * they are large enough, so that a solver kept for many systems stops allocating.
+   *
+   * @param coefficients {@code coefficients[c][v]} for the first {@code targets.size()} rows
+   *     and {@code numVars} columns; anything beyond is ignored
+   * @param targets the value each constraint must sum to
+   * @return the smallest sum of the variables, or {@link Long#MAX_VALUE} if none fits
+   */
+  long solve(int @NotNull [][] coefficients, @NotNull IntArrayList targets, int numVars) {
+    int numConstraints = targets.size();
+    if (numConstraints == 0 || numVars == 0) {
       return allZero(targets) ? 0 : Long.MAX_VALUE;
     }
 
-    int numVars = coefficients[0].length;
-    var upperBounds = computeUpperBounds(coefficients, targets, numVars);
-    var solver = new GaussianSolver(numVars, numConstraints, upperBounds);
-
-    // Build equations and perform elimination
-    var eqCoeffs = new double[numConstraints][numVars];
-    var eqConstants = new double[numConstraints];
-
+    reset(numVars, numConstraints);
+    computeUpperBounds(coefficients, targets);
     for (int c = 0; c < numConstraints; c++) {
-      eqConstants[c] = -targets[c];
+      eqConstants[c] = -targets.get(c);
       for (int v = 0; v < numVars; v++) {
         eqCoeffs[c][v] = coefficients[c][v];
       }
     }
 
-    solver.performElimination(eqCoeffs, eqConstants);
-    return solver.findMinimum();
+    performElimination();
+    return findMinimum();
+  }
+
+  /**
+   * Sizes the arrays for the system and starts every variable free: x[i] = 1*x[i] + 0.
+   */
+  private void reset(int numVars, int numConstraints) {
+    this.numVars = numVars;
+    this.numConstraints = numConstraints;
+    if (varConstants.length < numVars) {
+      varCoeffs = new double[numVars][numVars];
+      varConstants = new double[numVars];
+      freeFlags = new boolean[numVars];
+      upperBounds = new int[numVars];
+      freeVars = new int[numVars];
+      values = new int[numVars];
+    }
+    // Equation rows are as wide as the variable arrays, so they grow with them too
+    if (eqCoeffs.length < numConstraints || eqCoeffs[0].length < varConstants.length) {
+      eqCoeffs = new double[Math.max(eqCoeffs.length, numConstraints)][varConstants.length];
+      eqConstants = new double[eqCoeffs.length];
+    }
+
+    for (int i = 0; i < numVars; i++) {
+      Arrays.fill(varCoeffs[i], 0, numVars, 0);
+      varCoeffs[i][i] = 1.0;
+      varConstants[i] = 0;
+      freeFlags[i] = true;
+      values[i] = 0;
+    }
   }
 
-  private static int @NotNull [] computeUpperBounds(
-      int[][] coefficients, int @NotNull [] targets, int numVars) {
-    var bounds = new int[numVars];
-    Arrays.fill(bounds, Integer.MAX_VALUE);
-    for (int c = 0; c < targets.length; c++) {
+  private void computeUpperBounds(int @NotNull [][] coefficients,
+                                  @NotNull IntArrayList targets) {
+    Arrays.fill(upperBounds, 0, numVars, Integer.MAX_VALUE);
+    for (int c = 0; c < numConstraints; c++) {
       for (int v = 0; v < numVars; v++) {
         if (coefficients[c][v] != 0) {
-          bounds[v] = Math.min(bounds[v], targets[c]);
+          upperBounds[v] = Math.min(upperBounds[v], targets.get(c));
         }
       }
     }
-    return bounds;
   }
 
   @Contract(pure = true)
-  private static boolean allZero(int @NotNull [] arr) {
-    for (int val : arr) {
-      if (val != 0) {
+  private static boolean allZero(@NotNull IntArrayList values) {
+    for (int i = 0; i < values.size(); i++) {
+      if (values.get(i) != 0) {
         return false;
       }
     }
     return true;
   }
 
-  private void performElimination(double[][] eqCoeffs, double[] eqConstants) {
+  private void performElimination() {
     for (int v = 0; v < numVars; v++) {
-      eliminateVariable(v, eqCoeffs, eqConstants);
+      eliminateVariable(v);
     }
   }
 
-  private void eliminateVariable(int v, double[][] eqCoeffs, double[] eqConstants) {
-    int pivotRow = findPivotRow(v, eqCoeffs);
+  private void eliminateVariable(int v) {
+    int pivotRow = findPivotRow(v);
     if (pivotRow < 0) {
       return;
     }
 
     double pivot = -eqCoeffs[pivotRow][v];
-    extractVariable(v, pivotRow, pivot, eqCoeffs, eqConstants);
-    substituteInEquations(v, eqCoeffs, eqConstants);
+    extractVariable(v, pivotRow, pivot);
+    substituteInEquations(v);
   }
 
-  private int findPivotRow(int v, double[][] eqCoeffs) {
+  private int findPivotRow(int v) {
     for (int e = 0; e < numConstraints; e++) {
       if (Math.abs(eqCoeffs[e][v]) >= EPS) {
         return e;
@@ -111,8 +142,7 @@ final class GaussianSolver {
     return -1;
   }
 
-  private void extractVariable(int v, int e, double pivot,
-                               double[][] eqCoeffs, double @NotNull [] eqConstants) {
+  private void extractVariable(int v, int e, double pivot) {
     freeFlags[v] = false;
     varConstants[v] = eqConstants[e] / pivot;
     for (int i = 0; i < numVars; i++) {
@@ -120,7 +150,7 @@ final class GaussianSolver {
     }
   }
 
-  private void substituteInEquations(int v, double[][] eqCoeffs, double[] eqConstants) {
+  private void substituteInEquations(int v) {
     for (int j = 0; j < numConstraints; j++) {
       double coeff = eqCoeffs[j][v];
       if (Math.abs(coeff) < EPS) {
@@ -136,33 +166,31 @@ final class GaussianSolver {
   }
 
   private long findMinimum() {
-    int[] freeVars = collectFreeVariables();
-    return enumerate(freeVars, 0, new int[numVars], Long.MAX_VALUE);
-  }
-
-  @Contract(pure = true)
-  private int @NotNull [] collectFreeVariables() {
-    int freeCount = 0;
-    for (int i = 0; i < numVars; i++) {
-      if (freeFlags[i]) {
-        freeCount++;
+    collectFreeVariables();
+    if (Metrics.ENABLED) {
+      // Enumeration never prunes, so it visits every combination of free variable values
+      long assignments = 1;
+      for (int i = 0; i < numFree; i++) {
+        assignments *= upperBounds[freeVars[i]] + 1L;
       }
+      FREE_VARIABLES.record(numFree);
+      ASSIGNMENTS.add(assignments);
     }
+    return enumerate(0, Long.MAX_VALUE);
+  }
 
-    var freeVars = new int[freeCount];
-    int idx = 0;
+  private void collectFreeVariables() {
+    numFree = 0;
     for (int i = 0; i < numVars; i++) {
       if (freeFlags[i]) {
-        freeVars[idx] = i;
-        idx++;
+        freeVars[numFree++] = i;
       }
     }
-    return freeVars;
   }
 
-  private long enumerate(int @NotNull [] freeVars, int depth, int[] values, long bestSoFar) {
-    if (depth == freeVars.length) {
-      return evaluate(values);
+  private long enumerate(int depth, long bestSoFar) {
+    if (depth == numFree) {
+      return evaluate();
     }
 
     int varIdx = freeVars[depth];
@@ -171,7 +199,7 @@ final class GaussianSolver {
 
     for (int x = 0; x <= bound; x++) {
       values[varIdx] = x;
-      long result = enumerate(freeVars, depth + 1, values, best);
+      long result = enumerate(depth + 1, best);
       if (result < best) {
         best = result;
       }
@@ -179,12 +207,12 @@ final class GaussianSolver {
     return best;
   }
 
-  private long evaluate(int[] values) {
+  private long evaluate() {
     long total = 0;
 
     // Evaluate variables in reverse order (dependent vars may reference later free vars)
     for (int i = numVars - 1; i >= 0; i--) {
-      double x = computeVariableValue(i, values);
+      double x = computeVariableValue(i);
 
       // Validate: must be non-negative integer
       if (x < -EPS) {
@@ -201,7 +229,7 @@ final class GaussianSolver {
     return total;
   }
 
-  private double computeVariableValue(int i, int[] values) {
+  private double computeVariableValue(int i) {
     if (freeFlags[i]) {
       return values[i];
     }
@@ -0,0 +1,110 @@
+package aoc.day10;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fewest button presses to reach a light pattern, by Gaussian elimination over GF(2).
+ *
+ * <p>Pressing a button twice cancels out, so an answer is a set of buttons whose masks XOR to
+ * the target: a solution of a linear system over GF(2) with a row per light and a column per
+ * button. After elimination every solution is fixed by the values of the free columns, so
+ * only {@code 2^free} sets are weighed instead of {@code 2^buttons}.
+ */
+final class Gf2Solver {
+
+  private Gf2Solver() {
+  }
+
+  /**
+   * Returns the fewest presses, or -1 if the target cannot be reached.
+   *
+   * @param buttonMasks the lights each button toggles, one bit per light
+   * @param target the lights that must end up on
+   */
+  static int minPresses(int @NotNull [] buttonMasks, int target) {
+    int numButtons = buttonMasks.length;
+    if (numButtons >= Long.SIZE) {
+      throw new IllegalArgumentException("At most 63 buttons are supported, got " + numButtons);
+    }
+    long rhsBit = 1L << numButtons;
+
+    // Row per light: bit b is set if button b toggles it, and rhsBit if it must end up on
+    int numLights = Integer.SIZE - Integer.numberOfLeadingZeros(target | orAll(buttonMasks));
+    long[] rows = new long[numLights];
+    for (int light = 0; light < numLights; light++) {
+      for (int b = 0; b < numButtons; b++) {
+        if ((buttonMasks[b] >>> light & 1) != 0) {
+          rows[light] |= 1L << b;
+        }
+      }
+      if ((target >>> light & 1) != 0) {
+        rows[light] |= rhsBit;
+      }
+    }
+
+    int rank = eliminate(rows, numButtons);
+    for (int r = rank; r < numLights; r++) {
+      if (rows[r] != 0) {
+        return -1;
+      }
+    }
+
+    long pivots = 0;
+    for (int r = 0; r < rank; r++) {
+      pivots |= Long.lowestOneBit(rows[r]);
+    }
+    long freeMask = (rhsBit - 1) & ~pivots;
+
+    // Each reduced row fixes its pivot button from the rhs and the free buttons it contains
+    int best = Integer.MAX_VALUE;
+    long free = 0;
+    do {
+      int presses = Long.bitCount(free);
+      for (int r = 0; r < rank && presses < best; r++) {
+        long parity = Long.bitCount(rows[r] & (free | rhsBit)) & 1;
+        presses += (int) parity;
+      }
+      best = Math.min(best, presses);
+      free = (free - freeMask) & freeMask;
+    } while (free != 0);
+    return best;
+  }
+
+  /**
+   * Reduces {@code rows} to reduced row echelon form in place.
+   *
+   * @return the rank; the first {@code rank} rows are the non-zero ones, each led by its pivot
+   */
+  private static int eliminate(long @NotNull [] rows, int numColumns) {
+    int rank = 0;
+    for (int column = 0; column < numColumns && rank < rows.length; column++) {
+      long bit = 1L << column;
+      int pivot = rank;
+      while (pivot < rows.length && (rows[pivot] & bit) == 0) {
+        pivot++;
+      }
+      if (pivot == rows.length) {
+        continue;
+      }
+
+      long pivotRow = rows[pivot];
+      rows[pivot] = rows[rank];
+      rows[rank] = pivotRow;
+      for (int r = 0; r < rows.length; r++) {
+        if (r != rank && (rows[r] & bit) != 0) {
+          rows[r] ^= pivotRow;
+        }
+      }
+      rank++;
+    }
+    return rank;
+  }
+
+  private static int orAll(int @NotNull [] masks) {
+    int all = 0;
+    for (int mask : masks) {
+      all |= mask;
+    }
+    return all;
+  }
+}
@@ -0,0 +1,36 @@
+package aoc.day10;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for solving a single machine in either part.
+ */
+@Name("aoc.day10.MachineSolve")
+@Label("Machine Solve")
+@Category({"Advent of Code", "Day 10"})
+@Description("Minimum button presses for one factory machine")
+@StackTrace(false)
+final class MachineSolveEvent extends Event {
+
+  @Label("Part")
+  int part;
+
+  @Label("Line Offset")
+  @Description("Byte offset of the machine's line in the input")
+  long lineOffset;
+
+  @Label("Buttons")
+  int buttons;
+
+  @Label("Targets")
+  @Description("Lights in part 1, joltage counters in part 2")
+  int targets;
+
+  @Label("Presses")
+  long presses;
+}
@@ -1,26 +1,37 @@
 package aoc.day11;
 
-import aoc.util.FileUtils;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import aoc.util.SolutionRunner.Results;
-import java.io.IOException;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day11 {
+public final class Day11 implements Solution<DeviceNetwork> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day11.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day11/input.txt");
-      var network = DeviceNetwork.parse(lines);
-      SolutionRunner.run(LOG, () -> new Results(
-          network.countPathsToOutput(),
-          network.countPathsThroughCheckpoints()
-      ));
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 11;
+  }
+
+  @Override
+  public @NotNull DeviceNetwork parse(@NotNull List<String> lines) {
+    return DeviceNetwork.parse(lines);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull DeviceNetwork network) {
+    return network.countPathsToOutput();
+  }
+
+  @Override
+  public @NotNull Object part2(@NotNull DeviceNetwork network) {
+    return network.countPathsThroughCheckpoints();
   }
 }
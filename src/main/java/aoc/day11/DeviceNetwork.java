@@ -1,5 +1,6 @@
 package aoc.day11;
 
+import aoc.util.collect.IntArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -10,14 +11,29 @@ import org.jetbrains.annotations.NotNull;
 /**
  * Represents a network of devices connected via directed edges.
  * Provides efficient path counting from a source node to a destination node.
+ *
+ * <p>Device names are resolved to dense indices when parsing, and the edges are stored as
+ * one flat array per network, so path counting only needs a memo array per query.
  */
-record DeviceNetwork(Map<String, List<String>> adjacencyList) {
+final class DeviceNetwork {
 
   private static final String PART1_START = "you";
   private static final String PART2_START = "svr";
   private static final String END_NODE = "out";
   private static final String CHECKPOINT_DAC = "dac";
   private static final String CHECKPOINT_FFT = "fft";
+  private static final long UNKNOWN = -1;
+
+  private final Map<String, Integer> indices;
+  // Device i connects to targets[firstTarget[i]] up to targets[firstTarget[i + 1]]
+  private final int[] firstTarget;
+  private final int[] targets;
+
+  private DeviceNetwork(Map<String, Integer> indices, int[] firstTarget, int[] targets) {
+    this.indices = indices;
+    this.firstTarget = firstTarget;
+    this.targets = targets;
+  }
 
   /**
    * Parses input lines into a DeviceNetwork.
@@ -25,25 +41,42 @@ record DeviceNetwork(Map<String, List<String>> adjacencyList) {
    */
   @Contract("_ -> new")
   static @NotNull DeviceNetwork parse(@NotNull List<String> lines) {
-    var adjacencyList = new HashMap<String, List<String>>();
+    var indices = new HashMap<String, Integer>();
+    var connections = new HashMap<Integer, int[]>();
 
     for (var line : lines) {
       var parts = line.split(": ");
-      var device = parts[0];
-      var connections = parts.length > 1
-          ? Arrays.asList(parts[1].split(" "))
-          : List.<String>of();
-      adjacencyList.put(device, connections);
+      int device = indexOf(indices, parts[0]);
+      var names = parts.length > 1 ? parts[1].split(" ") : new String[0];
+      var deviceTargets = new int[names.length];
+      for (int i = 0; i < names.length; i++) {
+        deviceTargets[i] = indexOf(indices, names[i]);
+      }
+      connections.put(device, deviceTargets);
     }
 
-    return new DeviceNetwork(adjacencyList);
+    var firstTarget = new int[indices.size() + 1];
+    var targets = new IntArrayList();
+    for (int device = 0; device < indices.size(); device++) {
+      firstTarget[device] = targets.size();
+      for (int target : connections.getOrDefault(device, new int[0])) {
+        targets.add(target);
+      }
+    }
+    firstTarget[indices.size()] = targets.size();
+
+    return new DeviceNetwork(indices, firstTarget, targets.toArray());
+  }
+
+  private static int indexOf(@NotNull Map<String, Integer> indices, @NotNull String name) {
+    return indices.computeIfAbsent(name, _ -> indices.size());
   }
 
   /**
    * Part 1: Counts all distinct paths from "you" to "out".
    */
   long countPathsToOutput() {
-    return countPaths(PART1_START, END_NODE, new HashMap<>());
+    return countPaths(PART1_START, END_NODE);
   }
 
   /**
@@ -54,39 +87,47 @@ record DeviceNetwork(Map<String, List<String>> adjacencyList) {
    */
   long countPathsThroughCheckpoints() {
     // Path: svr -> dac -> fft -> out
-    long dacFirst = countPaths(PART2_START, CHECKPOINT_DAC, new HashMap<>())
-        * countPaths(CHECKPOINT_DAC, CHECKPOINT_FFT, new HashMap<>())
-        * countPaths(CHECKPOINT_FFT, END_NODE, new HashMap<>());
+    long dacFirst = countPaths(PART2_START, CHECKPOINT_DAC)
+        * countPaths(CHECKPOINT_DAC, CHECKPOINT_FFT)
+        * countPaths(CHECKPOINT_FFT, END_NODE);
 
     // Path: svr -> fft -> dac -> out
-    long fftFirst = countPaths(PART2_START, CHECKPOINT_FFT, new HashMap<>())
-        * countPaths(CHECKPOINT_FFT, CHECKPOINT_DAC, new HashMap<>())
-        * countPaths(CHECKPOINT_DAC, END_NODE, new HashMap<>());
+    long fftFirst = countPaths(PART2_START, CHECKPOINT_FFT)
+        * countPaths(CHECKPOINT_FFT, CHECKPOINT_DAC)
+        * countPaths(CHECKPOINT_DAC, END_NODE);
 
     return dacFirst + fftFirst;
   }
 
-  private long countPaths(@NotNull String from, String to, Map<String, Long> memo) {
+  private long countPaths(@NotNull String from, @NotNull String to) {
     if (from.equals(to)) {
       return 1L;
     }
-
-    if (memo.containsKey(from)) {
-      return memo.get(from);
+    var fromIndex = indices.get(from);
+    var toIndex = indices.get(to);
+    if (fromIndex == null || toIndex == null) {
+      return 0L;
     }
 
-    var connections = adjacencyList.get(from);
-    if (connections == null || connections.isEmpty()) {
-      memo.put(from, 0L);
-      return 0L;
+    var memo = new long[indices.size()];
+    Arrays.fill(memo, UNKNOWN);
+    return countPaths(fromIndex, toIndex, memo);
+  }
+
+  private long countPaths(int from, int to, long @NotNull [] memo) {
+    if (from == to) {
+      return 1L;
+    }
+    if (memo[from] != UNKNOWN) {
+      return memo[from];
     }
 
     long pathCount = 0L;
-    for (var neighbor : connections) {
-      pathCount += countPaths(neighbor, to, memo);
+    for (int edge = firstTarget[from]; edge < firstTarget[from + 1]; edge++) {
+      pathCount += countPaths(targets[edge], to, memo);
     }
 
-    memo.put(from, pathCount);
+    memo[from] = pathCount;
     return pathCount;
   }
 }
@@ -1,5 +1,9 @@
 package aoc.day12;
 
+import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.ParallelLines;
+import java.lang.foreign.MemorySegment;
 import java.util.ArrayList;
 import java.util.List;
 import org.jetbrains.annotations.Contract;
@@ -7,27 +11,45 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Represents the Christmas tree farm with shapes and regions to check.
+ *
+ * <p>Regions are kept as their encoded lines: they are independent, so
+ * {@link #countFittingRegions()} parses and checks them in one parallel pass.
+ *
+ * @param regions the input from the first region line on
  */
-record ChristmasTreeFarm(Shape[] shapes, Region[] regions) {
+record ChristmasTreeFarm(Shape[] shapes, MemorySegment regions) {
 
   /**
    * Parse input into shapes and regions.
    */
   @Contract("_ -> new")
   static @NotNull ChristmasTreeFarm parse(List<String> lines) {
-    List<Shape> shapeList = new ArrayList<>();
-    List<Region> regionList = new ArrayList<>();
+    return parse(InputCursor.of(FileUtils.encode(lines)));
+  }
+
+  /**
+   * Parse from a cursor. Shapes are few and tiny so their lines are decoded; the region list
+   * that makes up the bulk of the input is left as bytes.
+   */
+  @Contract("_ -> new")
+  static @NotNull ChristmasTreeFarm parse(@NotNull InputCursor cursor) {
+    List<String> shapeLines = new ArrayList<>();
+    MemorySegment regions = MemorySegment.NULL;
 
-    int idx = parseShapes(lines, shapeList);
-    parseRegions(lines, idx, regionList);
+    while (cursor.nextLine()) {
+      if (isRegionLine(cursor)) {
+        regions = cursor.remaining();
+        break;
+      }
+      shapeLines.add(cursor.restOfLine());
+    }
 
-    return new ChristmasTreeFarm(
-        shapeList.toArray(Shape[]::new),
-        regionList.toArray(Region[]::new)
-    );
+    List<Shape> shapeList = new ArrayList<>();
+    parseShapes(shapeLines, shapeList);
+    return new ChristmasTreeFarm(shapeList.toArray(Shape[]::new), regions);
   }
 
-  private static int parseShapes(@NotNull List<String> lines, List<Shape> shapes) {
+  private static void parseShapes(@NotNull List<String> lines, List<Shape> shapes) {
     int i = 0;
     while (i < lines.size()) {
       String line = lines.get(i);
@@ -37,10 +59,6 @@ record ChristmasTreeFarm(Shape[] shapes, Region[] regions) {
         continue;
       }
 
-      if (isRegionLine(line)) {
-        break;
-      }
-
       if (isShapeHeaderLine(line)) {
         i++;
         i = parseOneShape(lines, i, shapes);
@@ -48,7 +66,6 @@ record ChristmasTreeFarm(Shape[] shapes, Region[] regions) {
         i++;
       }
     }
-    return i;
   }
 
   private static int parseOneShape(@NotNull List<String> lines, int startIdx, List<Shape> shapes) {
@@ -66,38 +83,40 @@ record ChristmasTreeFarm(Shape[] shapes, Region[] regions) {
     return i;
   }
 
-  private static void parseRegions(@NotNull List<String> lines, int startIdx,
-                                    List<Region> regions) {
-    for (int i = startIdx; i < lines.size(); i++) {
-      String line = lines.get(i);
-      if (isRegionLine(line)) {
-        regions.add(Region.parse(line));
+  private static boolean isRegionLine(@NotNull InputCursor cursor) {
+    int length = cursor.lineLength();
+    if (length == 0 || !Character.isDigit(cursor.lineByte(0))) {
+      return false;
+    }
+    boolean hasSeparator = false;
+    for (int i = 1; i < length; i++) {
+      int b = cursor.lineByte(i);
+      if (b == 'x') {
+        hasSeparator = true;
+      } else if (b == ':') {
+        return hasSeparator;
       }
     }
-  }
-
-  private static boolean isRegionLine(@NotNull String line) {
-    return !line.isBlank() && line.contains("x") && line.contains(":")
-        && Character.isDigit(line.charAt(0));
+    return false;
   }
 
   private static boolean isShapeHeaderLine(@NotNull String line) {
     return line.contains(":") && Character.isDigit(line.charAt(0));
   }
 
+  /**
+   * Number of region lines.
+   */
+  long regionCount() {
+    return ParallelLines.sum(regions, cursor -> isRegionLine(cursor) ? 1 : 0);
+  }
+
   /**
    * Count how many regions can fit all their listed presents.
    */
   long countFittingRegions() {
     var solver = new PlacementSolver(shapes);
-    long count = 0;
-
-    for (Region region : regions) {
-      if (solver.canFit(region)) {
-        count++;
-      }
-    }
-
-    return count;
+    return ParallelLines.sum(regions,
+        cursor -> isRegionLine(cursor) && solver.canFit(cursor) ? 1 : 0);
   }
 }
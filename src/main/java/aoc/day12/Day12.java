@@ -1,22 +1,49 @@
 package aoc.day12;
 
-import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.Solution;
 import aoc.util.SolutionRunner;
-import java.io.IOException;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-class Day12 {
+public final class Day12 implements Solution<ChristmasTreeFarm> {
 
   private static final Logger LOG = LoggerFactory.getLogger(Day12.class);
 
   void main() {
-    try {
-      var lines = FileUtils.readLines("day12/input.txt");
-      var farm = ChristmasTreeFarm.parse(lines);
-      SolutionRunner.runSingle(LOG, farm::countFittingRegions);
-    } catch (IOException e) {
-      LOG.error("Error reading input", e);
-    }
+    SolutionRunner.run(LOG, this);
+  }
+
+  @Override
+  public int day() {
+    return 12;
+  }
+
+  @Override
+  public @NotNull ChristmasTreeFarm parse(@NotNull List<String> lines) {
+    return ChristmasTreeFarm.parse(lines);
+  }
+
+  @Override
+  public @NotNull ChristmasTreeFarm parse(@NotNull InputCursor cursor) {
+    return ChristmasTreeFarm.parse(cursor);
+  }
+
+  @Override
+  public @NotNull Object part1(@NotNull ChristmasTreeFarm farm) {
+    return farm.countFittingRegions();
+  }
+
+  // Day 12 has no second puzzle
+  @Override
+  public @NotNull Object part2(@NotNull ChristmasTreeFarm farm) {
+    return NO_ANSWER;
+  }
+
+  @Override
+  public boolean hasPart2() {
+    return false;
   }
 }
@@ -1,5 +1,7 @@
 package aoc.day12;
 
+import aoc.util.InputCursor;
+import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -25,6 +27,59 @@ final class PlacementSolver {
   }
 
   boolean canFit(@NotNull Region region) {
+    var event = new RegionFitEvent();
+    event.begin();
+    boolean fits = fitsByAreaAndDimensions(region);
+    event.end();
+    if (event.shouldCommit()) {
+      event.width = region.width();
+      event.height = region.height();
+      event.presents = Arrays.stream(region.presentCounts()).sum();
+      event.fits = fits;
+      event.commit();
+    }
+    return fits;
+  }
+
+  /**
+   * Like {@link #canFit(Region)} for the {@code 12x5: 1 0 1 0 2 2} line at the cursor. The
+   * counts are weighed as they are read, so no {@link Region} or count array is built.
+   */
+  boolean canFit(@NotNull InputCursor cursor) {
+    var event = new RegionFitEvent();
+    event.begin();
+    int width = cursor.nextInt();
+    cursor.skip('x');
+    int height = cursor.nextInt();
+    cursor.skip(':');
+
+    int regionMinDim = Math.min(width, height);
+    int requiredArea = 0;
+    int presents = 0;
+    boolean shapesFit = true;
+    cursor.skipSpaces();
+    for (int i = 0; cursor.hasRemaining(); i++) {
+      int count = cursor.nextInt();
+      cursor.skipSpaces();
+      if (count > 0) {
+        requiredArea += count * shapeSizes[i];
+        shapesFit &= shapeMinDimensions[i] <= regionMinDim;
+      }
+      presents += count;
+    }
+    boolean fits = shapesFit && requiredArea <= width * height;
+    event.end();
+    if (event.shouldCommit()) {
+      event.width = width;
+      event.height = height;
+      event.presents = presents;
+      event.fits = fits;
+      event.commit();
+    }
+    return fits;
+  }
+
+  private boolean fitsByAreaAndDimensions(@NotNull Region region) {
     int[] counts = region.presentCounts();
     int regionArea = region.area();
     int regionMinDim = region.minDimension();
@@ -1,5 +1,7 @@
 package aoc.day12;
 
+import aoc.util.InputCursor;
+import java.util.Arrays;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -28,6 +30,30 @@ record Region(int width, int height, int[] presentCounts) {
     return new Region(width, height, counts);
   }
 
+  /**
+   * Parse a region line at the cursor without materialising it as a string.
+   */
+  @Contract("_ -> new")
+  static @NotNull Region parse(@NotNull InputCursor cursor) {
+    int width = cursor.nextInt();
+    cursor.skip('x');
+    int height = cursor.nextInt();
+    cursor.skip(':');
+
+    int[] counts = new int[8];
+    int n = 0;
+    cursor.skipSpaces();
+    while (cursor.hasRemaining()) {
+      if (n == counts.length) {
+        counts = Arrays.copyOf(counts, n * 2);
+      }
+      counts[n++] = cursor.nextInt();
+      cursor.skipSpaces();
+    }
+
+    return new Region(width, height, Arrays.copyOf(counts, n));
+  }
+
   int area() {
     return width * height;
   }
@@ -0,0 +1,31 @@
+package aoc.day12;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for deciding whether one region's presents fit.
+ */
+@Name("aoc.day12.RegionFit")
+@Label("Region Fit")
+@Category({"Advent of Code", "Day 12"})
+@Description("Placement check for one region under a tree")
+@StackTrace(false)
+final class RegionFitEvent extends Event {
+
+  @Label("Width")
+  int width;
+
+  @Label("Height")
+  int height;
+
+  @Label("Presents")
+  int presents;
+
+  @Label("Fits")
+  boolean fits;
+}
@@ -0,0 +1,31 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Dial rotations such as {@code L68} or {@code R48}, one per line. Size is the instruction count.
+ */
+public final class Day01Generator implements InputGenerator {
+
+  private static final int MAX_DISTANCE = 1000;
+
+  @Override
+  public int day() {
+    return 1;
+  }
+
+  @Override
+  public int realSize() {
+    return 4000;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    for (int i = 0; i < size; i++) {
+      char direction = random.nextBoolean() ? 'L' : 'R';
+      out.accept(direction + Integer.toString(random.nextInt(1, MAX_DISTANCE)));
+    }
+  }
+}
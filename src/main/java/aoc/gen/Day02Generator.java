@@ -0,0 +1,40 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Comma-separated {@code start-end} ID ranges on a single line. Size is the range count.
+ *
+ * <p>Widths stay bounded so that the scan strategy, which tests every ID in every range, can
+ * still check the closed-form parts.
+ */
+public final class Day02Generator implements InputGenerator {
+
+  private static final long MAX_START = 9_000_000_000L;
+  private static final int MAX_WIDTH = 100_000;
+
+  @Override
+  public int day() {
+    return 2;
+  }
+
+  @Override
+  public int realSize() {
+    return 40;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    var line = new StringBuilder(size * 24);
+    for (int i = 0; i < size; i++) {
+      long start = random.nextLong(1, MAX_START);
+      if (i > 0) {
+        line.append(',');
+      }
+      line.append(start).append('-').append(start + random.nextInt(MAX_WIDTH));
+    }
+    out.accept(line.toString());
+  }
+}
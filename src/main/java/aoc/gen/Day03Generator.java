@@ -0,0 +1,35 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Battery banks of 100 joltage digits from 1 to 9. Size is the bank count.
+ */
+public final class Day03Generator implements InputGenerator {
+
+  private static final int BANK_LENGTH = 100;
+
+  @Override
+  public int day() {
+    return 3;
+  }
+
+  @Override
+  public int realSize() {
+    return 200;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    var bank = new StringBuilder(BANK_LENGTH);
+    for (int i = 0; i < size; i++) {
+      bank.setLength(0);
+      for (int j = 0; j < BANK_LENGTH; j++) {
+        bank.append((char) ('1' + random.nextInt(9)));
+      }
+      out.accept(bank.toString());
+    }
+  }
+}
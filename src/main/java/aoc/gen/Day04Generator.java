@@ -0,0 +1,41 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Square grid of paper rolls ({@code @}) and empty floor. Size is the side length, so scaling
+ * grows the area rather than the side.
+ */
+public final class Day04Generator implements InputGenerator {
+
+  private static final double ROLL_DENSITY = 0.6;
+
+  @Override
+  public int day() {
+    return 4;
+  }
+
+  @Override
+  public int realSize() {
+    return 140;
+  }
+
+  @Override
+  public int sizeForScale(int scale) {
+    return (int) Math.round(realSize() * Math.sqrt(scale));
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    var line = new StringBuilder(size);
+    for (int row = 0; row < size; row++) {
+      line.setLength(0);
+      for (int col = 0; col < size; col++) {
+        line.append(random.nextDouble() < ROLL_DENSITY ? '@' : '.');
+      }
+      out.accept(line.toString());
+    }
+  }
+}
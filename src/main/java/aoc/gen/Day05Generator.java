@@ -0,0 +1,38 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fresh ID ranges, a blank line, then available ingredient IDs. Size is the range count; there
+ * are five IDs per range, as in the real input.
+ */
+public final class Day05Generator implements InputGenerator {
+
+  private static final long MAX_ID = 500_000_000_000_000L;
+  private static final long MAX_RANGE_WIDTH = 10_000_000_000_000L;
+  private static final int IDS_PER_RANGE = 5;
+
+  @Override
+  public int day() {
+    return 5;
+  }
+
+  @Override
+  public int realSize() {
+    return 200;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    for (int i = 0; i < size; i++) {
+      long start = random.nextLong(1, MAX_ID);
+      out.accept(start + "-" + (start + random.nextLong(MAX_RANGE_WIDTH)));
+    }
+    out.accept("");
+    for (long i = 0; i < (long) size * IDS_PER_RANGE; i++) {
+      out.accept(Long.toString(random.nextLong(1, MAX_ID)));
+    }
+  }
+}
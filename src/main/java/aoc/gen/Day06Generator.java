@@ -0,0 +1,72 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Worksheet of four number rows and an operator row, with problems separated by a blank column.
+ * Size is the problem count.
+ *
+ * <p>Every problem has one full-width number so no column inside it is blank, and numbers get
+ * narrower as the worksheet grows so the grand total of products still fits in a {@code long}.
+ */
+public final class Day06Generator implements InputGenerator {
+
+  private static final int NUMBER_ROWS = 4;
+  private static final int MAX_DIGITS = 4;
+
+  @Override
+  public int day() {
+    return 6;
+  }
+
+  @Override
+  public int realSize() {
+    return 1000;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    int digits = digitsFor(size);
+    int cellWidth = digits + 1;
+    int lowestFullWidth = (int) Math.pow(10, digits - 1);
+    int limit = lowestFullWidth * 10;
+
+    var rows = new StringBuilder[NUMBER_ROWS + 1];
+    for (int r = 0; r <= NUMBER_ROWS; r++) {
+      rows[r] = new StringBuilder(size * cellWidth);
+    }
+
+    for (int p = 0; p < size; p++) {
+      int fullWidthRow = random.nextInt(NUMBER_ROWS);
+      for (int r = 0; r < NUMBER_ROWS; r++) {
+        int value = r == fullWidthRow
+            ? random.nextInt(lowestFullWidth, limit)
+            : random.nextInt(1, limit);
+        var number = Integer.toString(value);
+        var padding = " ".repeat(digits - number.length());
+        rows[r].append(random.nextBoolean() ? padding + number : number + padding).append(' ');
+      }
+      rows[NUMBER_ROWS].append(random.nextBoolean() ? '+' : '*').append(" ".repeat(digits));
+    }
+
+    for (var row : rows) {
+      out.accept(row.toString());
+    }
+  }
+
+  /**
+   * Widest cell for which {@code size} problems of at most {@code 10^(digits * rows)} each
+   * cannot overflow when summed.
+   */
+  private static int digitsFor(int size) {
+    for (int digits = MAX_DIGITS; digits > 1; digits--) {
+      double largestProblem = Math.pow(10, (double) digits * NUMBER_ROWS);
+      if (largestProblem * size < Long.MAX_VALUE) {
+        return digits;
+      }
+    }
+    return 1;
+  }
+}
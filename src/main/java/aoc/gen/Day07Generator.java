@@ -0,0 +1,56 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Square tachyon manifold with the start at the top centre and splitters on every other row.
+ * Size is the side length, so scaling grows the area rather than the side.
+ *
+ * <p>Each splitter row can at most double the number of timelines, so splitter rows are spread
+ * out to never exceed {@value #MAX_SPLITTER_ROWS} and keep part 2 within a {@code long}.
+ */
+public final class Day07Generator implements InputGenerator {
+
+  private static final double SPLITTER_DENSITY = 0.4;
+  private static final int MAX_SPLITTER_ROWS = 62;
+
+  @Override
+  public int day() {
+    return 7;
+  }
+
+  @Override
+  public int realSize() {
+    return 141;
+  }
+
+  @Override
+  public int sizeForScale(int scale) {
+    return (int) Math.round(realSize() * Math.sqrt(scale));
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    if (size < 2) {
+      throw new IllegalArgumentException("Manifold needs at least two rows, got " + size);
+    }
+    int stride = 2 * Math.ceilDiv((size - 1) / 2, MAX_SPLITTER_ROWS);
+    var line = new StringBuilder(size);
+    for (int row = 0; row < size; row++) {
+      line.setLength(0);
+      boolean splitterRow = row > 0 && stride > 0 && row % stride == 0;
+      for (int col = 0; col < size; col++) {
+        if (row == 0) {
+          line.append(col == size / 2 ? 'S' : '.');
+        } else if (splitterRow && random.nextDouble() < SPLITTER_DENSITY) {
+          line.append('^');
+        } else {
+          line.append('.');
+        }
+      }
+      out.accept(line.toString());
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Junction boxes as {@code x,y,z} points. Size is the box count.
+ *
+ * <p>The solver sorts pairs in one packed {@code long[]}, with the squared distance above two
+ * box indices. The coordinate range shrinks as the box count grows so both always fit, even
+ * for the widest pair.
+ */
+public final class Day08Generator implements InputGenerator {
+
+  private static final int MAX_COORDINATE = 100_000;
+  // Twenty index bits each still leave ten bits per coordinate
+  private static final int MAX_BOXES = 1 << 20;
+
+  @Override
+  public int day() {
+    return 8;
+  }
+
+  @Override
+  public int realSize() {
+    return 1000;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    if (size > MAX_BOXES) {
+      throw new IllegalArgumentException(
+          "Day 8 packs two box indices per pair; at most " + MAX_BOXES + " boxes, got " + size);
+    }
+    int bound = coordinateBound(size);
+    for (int i = 0; i < size; i++) {
+      out.accept(random.nextInt(bound) + "," + random.nextInt(bound) + "," + random.nextInt(bound));
+    }
+  }
+
+  /**
+   * Largest coordinate range whose squared diagonal (under {@code 4 * bound^2}) leaves room for
+   * two box indices in a signed {@code long}.
+   */
+  private static int coordinateBound(int boxes) {
+    int indexBits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, boxes - 1));
+    int distanceBits = Long.SIZE - 1 - 2 * indexBits;
+    int coordinateBits = (distanceBits - 2) / 2;
+    return (int) Math.min(MAX_COORDINATE, 1L << coordinateBits);
+  }
+}
@@ -0,0 +1,50 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Red tiles as {@code x,y} vertices of a rectilinear polygon, in order. Size is the tile count.
+ *
+ * <p>The polygon is a staircase over the x-axis: a run of steps of random width and height,
+ * closed along {@code y = 0}. It is always simple, and every step edge creates new candidate
+ * rectangles for part 2.
+ */
+public final class Day09Generator implements InputGenerator {
+
+  private static final int MAX_STEP = 200;
+  private static final int MAX_HEIGHT = 100_000;
+
+  @Override
+  public int day() {
+    return 9;
+  }
+
+  @Override
+  public int realSize() {
+    return 496;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    if (size < 4 || size % 2 != 0) {
+      throw new IllegalArgumentException("A rectilinear polygon needs an even vertex count >= 4");
+    }
+    int steps = size / 2 - 1;
+    int x = random.nextInt(1, MAX_STEP);
+    int previousY = 0;
+    out.accept(x + ",0");
+    for (int i = 0; i < steps; i++) {
+      int y = random.nextInt(1, MAX_HEIGHT);
+      if (y == previousY) {
+        y++;
+      }
+      out.accept(x + "," + y);
+      x += random.nextInt(1, MAX_STEP);
+      out.accept(x + "," + y);
+      previousY = y;
+    }
+    out.accept(x + ",0");
+  }
+}
@@ -0,0 +1,70 @@
+package aoc.gen;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Factory machines: a light diagram, button wirings and joltage targets. Size is the machine
+ * count.
+ *
+ * <p>Each machine is built backwards from a random number of presses per button, so the lights
+ * and joltages are always reachable. Every button is wired to at least one light and every
+ * light to at least one button.
+ */
+public final class Day10Generator implements InputGenerator {
+
+  private static final int MIN_LIGHTS = 4;
+  private static final int MAX_LIGHTS = 10;
+  private static final int EXTRA_BUTTONS = 3;
+  private static final int MAX_PRESSES = 15;
+
+  @Override
+  public int day() {
+    return 10;
+  }
+
+  @Override
+  public int realSize() {
+    return 200;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    for (int m = 0; m < size; m++) {
+      out.accept(machine(random));
+    }
+  }
+
+  private static @NotNull String machine(@NotNull SplittableRandom random) {
+    int lights = random.nextInt(MIN_LIGHTS, MAX_LIGHTS + 1);
+    int buttons = lights + random.nextInt(EXTRA_BUTTONS + 1);
+    var joltage = new int[lights];
+    var lit = new boolean[lights];
+
+    var buttonText = new StringBuilder();
+    for (int b = 0; b < buttons; b++) {
+      int presses = random.nextInt(MAX_PRESSES + 1);
+      var wiring = new ArrayList<String>();
+      for (int light = 0; light < lights; light++) {
+        if (random.nextInt(3) == 0 || light == b % lights) {
+          joltage[light] += presses;
+          lit[light] ^= (presses & 1) == 1;
+          wiring.add(Integer.toString(light));
+        }
+      }
+      buttonText.append(" (").append(String.join(",", wiring)).append(')');
+    }
+
+    var line = new StringBuilder().append('[');
+    for (boolean on : lit) {
+      line.append(on ? '#' : '.');
+    }
+    line.append(']').append(buttonText).append(" {");
+    for (int light = 0; light < lights; light++) {
+      line.append(light == 0 ? "" : ",").append(joltage[light]);
+    }
+    return line.append('}').toString();
+  }
+}
@@ -0,0 +1,121 @@
+package aoc.gen;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Device network as {@code name: outputs...} lines. Size is the device count.
+ *
+ * <p>Devices are laid out in layers between {@code svr} and {@code out}. Every device feeds
+ * the next layer and is fed by the previous one, so all devices lie on some path to
+ * {@code out} and the graph is acyclic. Path counts are tracked while edges are added, and an
+ * optional edge is dropped if it would push any count past what a {@code long} can sum.
+ */
+public final class Day11Generator implements InputGenerator {
+
+  private static final Set<String> RESERVED = Set.of("svr", "you", "fft", "dac", "out");
+  private static final int MAX_EXTRA_EDGES = 3;
+  private static final int LAYERS = 40;
+  private static final int MIN_DEVICES = 6;
+
+  @Override
+  public int day() {
+    return 11;
+  }
+
+  @Override
+  public int realSize() {
+    return 600;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    if (size < MIN_DEVICES) {
+      throw new IllegalArgumentException("Need at least " + MIN_DEVICES + " devices, got " + size);
+    }
+    var names = deviceNames(size);
+    var paths = new long[size];
+    paths[0] = 1;
+    long pathLimit = Long.MAX_VALUE / size;
+    int width = Math.max(1, (size - 2) / LAYERS);
+
+    // Layer 0 is svr alone and the final layer is out alone
+    int layerStart = 0;
+    int layerEnd = 1;
+    while (layerEnd < size) {
+      int nextEnd = Math.min(size - 1, layerEnd + width);
+      if (nextEnd == layerEnd) {
+        nextEnd = size;
+      }
+      addLayerEdges(random, names, paths, pathLimit, layerStart, layerEnd, nextEnd, out);
+      layerStart = layerEnd;
+      layerEnd = nextEnd;
+    }
+  }
+
+  private static void addLayerEdges(SplittableRandom random, List<String> names, long[] paths,
+                                    long pathLimit, int from, int to, int nextEnd,
+                                    Consumer<String> out) {
+    int layerWidth = to - from;
+    var targets = new ArrayList<List<Integer>>(layerWidth);
+    for (int i = from; i < to; i++) {
+      targets.add(new ArrayList<>());
+    }
+    // Round-robin gives every next-layer device exactly one mandatory parent
+    for (int j = to; j < nextEnd; j++) {
+      int parent = from + (j - to) % layerWidth;
+      targets.get(parent - from).add(j);
+      paths[j] = paths[parent];
+    }
+    for (int i = from; i < to; i++) {
+      var connections = targets.get(i - from);
+      int extra = random.nextInt(MAX_EXTRA_EDGES + 1);
+      for (int e = 0; e < extra; e++) {
+        int target = to + random.nextInt(nextEnd - to);
+        if (paths[target] <= pathLimit - paths[i]) {
+          paths[target] += paths[i];
+          connections.add(target);
+        }
+      }
+      if (!connections.isEmpty()) {
+        var line = new StringBuilder(names.get(i)).append(':');
+        for (int target : connections) {
+          line.append(' ').append(names.get(target));
+        }
+        out.accept(line.toString());
+      }
+    }
+  }
+
+  private static @NotNull List<String> deviceNames(int devices) {
+    var names = new ArrayList<String>(devices);
+    int next = 0;
+    while (names.size() < devices) {
+      var name = encodeName(next);
+      next++;
+      if (!RESERVED.contains(name)) {
+        names.add(name);
+      }
+    }
+    names.set(0, "svr");
+    names.set(1, "you");
+    names.set(devices / 3, "fft");
+    names.set(devices * 2 / 3, "dac");
+    names.set(devices - 1, "out");
+    return names;
+  }
+
+  private static @NotNull String encodeName(int index) {
+    var name = new StringBuilder();
+    int remaining = index;
+    do {
+      name.append((char) ('a' + remaining % 26));
+      remaining /= 26;
+    } while (remaining > 0 || name.length() < 3);
+    return name.toString();
+  }
+}
@@ -0,0 +1,55 @@
+package aoc.gen;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Six 3x3 present shapes followed by {@code WxH: counts...} regions. Size is the region count.
+ *
+ * <p>Every shape includes its centre cell so none is empty.
+ */
+public final class Day12Generator implements InputGenerator {
+
+  private static final int SHAPE_COUNT = 6;
+  private static final int SHAPE_SIDE = 3;
+  private static final int MIN_SIDE = 4;
+  private static final int MAX_SIDE = 50;
+  private static final int MAX_PRESENTS = 60;
+
+  @Override
+  public int day() {
+    return 12;
+  }
+
+  @Override
+  public int realSize() {
+    return 1000;
+  }
+
+  @Override
+  public void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out) {
+    for (int s = 0; s < SHAPE_COUNT; s++) {
+      out.accept(s + ":");
+      for (int row = 0; row < SHAPE_SIDE; row++) {
+        var shapeRow = new StringBuilder(SHAPE_SIDE);
+        for (int col = 0; col < SHAPE_SIDE; col++) {
+          shapeRow.append(row == 1 && col == 1 || random.nextInt(4) > 0 ? '#' : '.');
+        }
+        out.accept(shapeRow.toString());
+      }
+      out.accept("");
+    }
+
+    var region = new StringBuilder();
+    for (int r = 0; r < size; r++) {
+      region.setLength(0);
+      region.append(random.nextInt(MIN_SIDE, MAX_SIDE)).append('x')
+          .append(random.nextInt(MIN_SIDE, MAX_SIDE)).append(':');
+      for (int s = 0; s < SHAPE_COUNT; s++) {
+        region.append(' ').append(random.nextInt(MAX_PRESENTS / SHAPE_COUNT));
+      }
+      out.accept(region.toString());
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package aoc.gen;
+
+import aoc.util.SolutionRunner;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes generated inputs for every day, or the days given as arguments.
+ *
+ * <p>Files land in {@code <out>/dayNN/input.txt}, the same layout as
+ * {@code src/main/resources}, so pointing {@code aoc.input.dir} at the output directory runs the
+ * normal solvers against them. Options: {@code --scale N} (default 10), {@code --seed S} and
+ * {@code --out DIR} (default {@code build/generated-inputs/x<scale>}).
+ */
+public final class GenerateInputs {
+
+  private static final Logger LOG = LoggerFactory.getLogger(GenerateInputs.class);
+  private static final int DEFAULT_SCALE = 10;
+
+  private GenerateInputs() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    int scale = DEFAULT_SCALE;
+    long seed = InputGenerator.DEFAULT_SEED;
+    Path out = null;
+    Set<Integer> days = new HashSet<>();
+
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--scale" -> scale = Integer.parseInt(args[++i]);
+        case "--seed" -> seed = Long.parseLong(args[++i]);
+        case "--out" -> out = Path.of(args[++i]);
+        default -> days.add(Integer.parseInt(args[i]));
+      }
+    }
+    if (scale < 1) {
+      throw new IllegalArgumentException("Scale must be positive, got " + scale);
+    }
+    if (out == null) {
+      out = Path.of("build", "generated-inputs", "x" + scale);
+    }
+
+    for (var generator : InputGenerators.all()) {
+      if (days.isEmpty() || days.contains(generator.day())) {
+        generate(generator, scale, seed, out);
+      }
+    }
+  }
+
+  private static void generate(@NotNull InputGenerator generator, int scale, long seed,
+                               @NotNull Path out) throws IOException {
+    int size = generator.sizeForScale(scale);
+    var path = out.resolve("day%02d".formatted(generator.day())).resolve("input.txt");
+
+    long start = System.nanoTime();
+    generator.write(path, seed, size);
+    long elapsed = System.nanoTime() - start;
+
+    LOG.info("Day {}: size {} ({}x) -> {} ({} bytes) in {}",
+        generator.day(), size, scale, path, Files.size(path),
+        SolutionRunner.formatDuration(Duration.ofNanos(elapsed)));
+  }
+}
@@ -0,0 +1,90 @@
+package aoc.gen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Deterministic synthetic puzzle input for a single day.
+ *
+ * <p>Sizes are measured in the day's natural unit (instructions, ranges, grid side, boxes, ...)
+ * and {@link #realSize()} is the size of a real puzzle input in that unit, so inputs can be
+ * scaled relative to the real thing. Every generated input is solvable: it parses, has an
+ * answer for each part, and keeps those answers within the solvers' {@code long} arithmetic.
+ */
+public interface InputGenerator {
+
+  /**
+   * Seed used by benchmarks and the generator task unless another is given.
+   */
+  long DEFAULT_SEED = 2025;
+
+  /**
+   * The puzzle day, 1-based.
+   */
+  int day();
+
+  /**
+   * Size of a real puzzle input, in this generator's unit.
+   */
+  int realSize();
+
+  /**
+   * Size of an input roughly {@code scale} times larger than a real one.
+   */
+  default int sizeForScale(int scale) {
+    return Math.multiplyExact(realSize(), scale);
+  }
+
+  /**
+   * Emits an input of the given size one line at a time.
+   *
+   * @throws IllegalArgumentException if no solvable input of that size exists
+   */
+  void generate(@NotNull SplittableRandom random, int size, @NotNull Consumer<String> out);
+
+  /**
+   * Generates an input the size of a real one in memory.
+   */
+  default @NotNull List<String> realLines(long seed) {
+    return lines(seed, realSize());
+  }
+
+  /**
+   * Generates an input in memory.
+   */
+  default @NotNull List<String> lines(long seed, int size) {
+    var lines = new ArrayList<String>();
+    generate(new SplittableRandom(seed), size, lines::add);
+    return lines;
+  }
+
+  /**
+   * Generates an input straight to a file, one line per row as {@code FileUtils} reads it.
+   */
+  default void write(@NotNull Path path, long seed, int size) throws IOException {
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+      generate(new SplittableRandom(seed), size, line -> {
+        try {
+          writer.write(line);
+          writer.newLine();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+}
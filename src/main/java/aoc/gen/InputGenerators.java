@@ -0,0 +1,39 @@
+package aoc.gen;
+
+import java.util.List;
+import java.util.Optional;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Registry of the per-day input generators.
+ */
+public final class InputGenerators {
+
+  private static final List<InputGenerator> ALL = List.of(
+      new Day01Generator(),
+      new Day02Generator(),
+      new Day03Generator(),
+      new Day04Generator(),
+      new Day05Generator(),
+      new Day06Generator(),
+      new Day07Generator(),
+      new Day08Generator(),
+      new Day09Generator(),
+      new Day10Generator(),
+      new Day11Generator(),
+      new Day12Generator()
+  );
+
+  private InputGenerators() {
+  }
+
+  public static @NotNull List<InputGenerator> all() {
+    return ALL;
+  }
+
+  public static @NotNull Optional<InputGenerator> forDay(int day) {
+    return ALL.stream()
+        .filter(generator -> generator.day() == day)
+        .findFirst();
+  }
+}
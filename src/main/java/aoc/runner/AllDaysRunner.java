@@ -0,0 +1,194 @@
+package aoc.runner;
+
+import aoc.util.FileUtils;
+import aoc.util.FlightRecording;
+import aoc.util.Measurement;
+import aoc.util.MeasurementOptions;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.SolutionRunner.Results;
+import aoc.util.Solutions;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs every registered {@link Solution} in a single JVM.
+ *
+ * <p>Inputs are prefetched on virtual threads while the days execute concurrently on a shared
+ * pool, slowest expected day first so the longest task never starts last. Day numbers given
+ * as arguments restrict the run to those days; {@code --sequential} runs one day at a time
+ * for uncontended timings. {@link MeasurementOptions} apply per day, and
+ * {@value FlightRecording#PROPERTY} records the whole run.
+ */
+public final class AllDaysRunner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AllDaysRunner.class);
+  private static final String SEQUENTIAL_FLAG = "--sequential";
+
+  private AllDaysRunner() {
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    var requestedDays = new HashSet<Integer>();
+    boolean sequential = false;
+    for (var arg : args) {
+      if (SEQUENTIAL_FLAG.equals(arg)) {
+        sequential = true;
+      } else {
+        requestedDays.add(Integer.parseInt(arg));
+      }
+    }
+
+    var solutions = selectSolutions(requestedDays);
+    int parallelism = sequential ? 1 : Runtime.getRuntime().availableProcessors();
+    var options = MeasurementOptions.fromSystemProperties();
+
+    List<DayOutcome> outcomes;
+    long elapsed;
+    try (var _ = FlightRecording.fromSystemProperties()) {
+      long start = System.nanoTime();
+      outcomes = runAll(solutions, parallelism, options);
+      elapsed = System.nanoTime() - start;
+    }
+
+    outcomes.forEach(AllDaysRunner::log);
+    long cpuNanos = outcomes.stream().mapToLong(DayOutcome::elapsedNanos).sum();
+    LOG.info("All {} days completed in {} (sum of day times {})",
+        outcomes.size(),
+        SolutionRunner.formatDuration(Duration.ofNanos(elapsed)),
+        SolutionRunner.formatDuration(Duration.ofNanos(cpuNanos)));
+  }
+
+  private static @NotNull List<Solution<?>> selectSolutions(@NotNull Set<Integer> days) {
+    return Solutions.all().stream()
+        .filter(solution -> days.isEmpty() || days.contains(solution.day()))
+        .toList();
+  }
+
+  /**
+   * Runs the given solutions and returns their outcomes ordered by day.
+   *
+   * @param solutions the solutions to run
+   * @param parallelism number of days solved at the same time
+   * @param options per-day measurement settings
+   * @return one outcome per solution, ordered by day
+   */
+  public static @NotNull List<DayOutcome> runAll(
+      @NotNull List<Solution<?>> solutions, int parallelism,
+      @NotNull MeasurementOptions options) throws InterruptedException {
+    var outcomes = new ArrayList<DayOutcome>();
+
+    try (var io = Executors.newVirtualThreadPerTaskExecutor();
+         var pool = Executors.newFixedThreadPool(parallelism)) {
+      Map<Integer, Future<List<String>>> inputs = new HashMap<>();
+      for (var solution : solutions) {
+        inputs.put(solution.day(), io.submit(() -> FileUtils.readLines(solution.inputName())));
+      }
+
+      // The pool's queue is FIFO, so submitting slowest-first makes it run slowest-first
+      var futures = new ArrayList<Future<DayOutcome>>();
+      solutions.stream()
+          .sorted(Comparator.comparingLong(Solution<?>::expectedMillis).reversed())
+          .forEach(solution -> futures.add(pool.submit(
+              () -> runDay(solution, inputs.get(solution.day()), options))));
+
+      for (var future : futures) {
+        outcomes.add(awaitOutcome(future));
+      }
+    }
+
+    outcomes.sort(Comparator.comparingInt(DayOutcome::day));
+    return outcomes;
+  }
+
+  private static @NotNull DayOutcome awaitOutcome(@NotNull Future<DayOutcome> future)
+      throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      // runDay captures solver failures itself, so this only covers scheduling errors
+      throw new IllegalStateException("Day task failed unexpectedly", e.getCause());
+    }
+  }
+
+  private static <T> @NotNull DayOutcome runDay(
+      @NotNull Solution<T> solution, @NotNull Future<List<String>> input,
+      @NotNull MeasurementOptions options) {
+    try {
+      var lines = input.get();
+      if (options.enabled()) {
+        var measured = Measurement.measure(() -> SolutionRunner.solve(solution, lines),
+            options.warmupIterations(), options.measuredIterations());
+        var measurement = measured.measurement();
+        return DayOutcome.success(solution.day(), measured.result(),
+            measurement.medianNanos(), measurement.toText());
+      }
+
+      long start = System.nanoTime();
+      var results = SolutionRunner.solve(solution, lines);
+      return DayOutcome.success(solution.day(), results, System.nanoTime() - start, "");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return DayOutcome.failure(solution.day(), "interrupted");
+    } catch (ExecutionException e) {
+      return DayOutcome.failure(solution.day(), "could not read input: " + e.getCause());
+    } catch (RuntimeException e) {
+      return DayOutcome.failure(solution.day(), e.toString());
+    }
+  }
+
+  private static void log(@NotNull DayOutcome outcome) {
+    if (outcome.failed()) {
+      LOG.info("Day {}: failed - {}", outcome.day(), outcome.detail());
+      return;
+    }
+
+    LOG.info("Day {}: Part 1: {} | Part 2: {} | Time: {}",
+        outcome.day(),
+        outcome.results().part1(),
+        outcome.results().part2(),
+        SolutionRunner.formatDuration(Duration.ofNanos(outcome.elapsedNanos())));
+    if (!outcome.detail().isEmpty()) {
+      LOG.info("Day {} stats: {}", outcome.day(), outcome.detail());
+    }
+  }
+
+  /**
+   * Result of running one day.
+   *
+   * @param day the puzzle day
+   * @param results the answers, or {@code null} when the day failed
+   * @param elapsedNanos single-run time, or the median in measurement mode
+   * @param detail measurement summary on success, failure reason otherwise
+   */
+  public record DayOutcome(int day, Results results, long elapsedNanos, @NotNull String detail) {
+
+    @Contract("_, _, _, _ -> new")
+    static @NotNull DayOutcome success(
+        int day, @NotNull Results results, long elapsedNanos, @NotNull String stats) {
+      return new DayOutcome(day, results, elapsedNanos, stats);
+    }
+
+    @Contract("_, _ -> new")
+    static @NotNull DayOutcome failure(int day, @NotNull String reason) {
+      return new DayOutcome(day, null, 0, reason);
+    }
+
+    public boolean failed() {
+      return results == null;
+    }
+  }
+}
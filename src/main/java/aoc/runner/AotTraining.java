@@ -0,0 +1,25 @@
+package aoc.runner;
+
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Training workload for the JDK AOT cache.
+ *
+ * <p>Runs every day through {@link SolutionRunner#run(org.slf4j.Logger, aoc.util.Solution)},
+ * the same path a day's own {@code main} takes, so a JVM started with
+ * {@code -XX:AOTCacheOutput} records the classes, lambda linkage and profiles that single-day
+ * runs need. Days whose input is missing are logged and skipped by the runner.
+ */
+public final class AotTraining {
+
+  private AotTraining() {
+  }
+
+  public static void main(String[] args) {
+    for (var solution : Solutions.all()) {
+      SolutionRunner.run(LoggerFactory.getLogger(solution.getClass()), solution);
+    }
+  }
+}
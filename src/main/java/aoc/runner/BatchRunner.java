@@ -0,0 +1,207 @@
+package aoc.runner;
+
+import aoc.util.JsonWriter;
+import aoc.util.Measurement;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Solves every input file in a directory with one day's solver, in a single JVM.
+ *
+ * <p>Files are listed lazily and solved in parallel, and a semaphore bounds how many inputs
+ * are read but not yet solved. Memory therefore stays flat however large the corpus is. Each
+ * result is appended to a JSON Lines file as soon as it is known, so lines appear in completion
+ * order. At the end the runner logs throughput and per-input latency percentiles. If any
+ * result could not be written, the run fails with that error once every input is done.
+ *
+ * <p>Options: {@code --day N} and {@code --dir DIR} (required), {@code --out FILE} (default
+ * {@code build/batch/dayNN.jsonl}), {@code --threads N} (default one per core) and
+ * {@code --max-resident N} (default twice the thread count).
+ */
+public final class BatchRunner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BatchRunner.class);
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private BatchRunner() {
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int day = 0;
+    Path directory = null;
+    Path out = null;
+    int threads = Runtime.getRuntime().availableProcessors();
+    int maxResident = 0;
+
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--day" -> day = Integer.parseInt(args[++i]);
+        case "--dir" -> directory = Path.of(args[++i]);
+        case "--out" -> out = Path.of(args[++i]);
+        case "--threads" -> threads = Integer.parseInt(args[++i]);
+        case "--max-resident" -> maxResident = Integer.parseInt(args[++i]);
+        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+    if (directory == null || !Files.isDirectory(directory)) {
+      throw new IllegalArgumentException("Input directory not found: " + directory);
+    }
+    int requestedDay = day;
+    var solution = Solutions.forDay(day)
+        .orElseThrow(() -> new IllegalArgumentException("No solution for day " + requestedDay));
+    if (out == null) {
+      out = Path.of("build", "batch", "day%02d.jsonl".formatted(day));
+    }
+    if (maxResident < 1) {
+      maxResident = 2 * threads;
+    }
+
+    run(solution, directory, out, threads, maxResident);
+  }
+
+  /**
+   * Solves every regular file in {@code directory} and writes one JSON line per file.
+   *
+   * @param solution the day's solver
+   * @param directory the inputs, one puzzle input per file
+   * @param out JSON Lines results file, replaced if it exists
+   * @param threads number of inputs solved at the same time
+   * @param maxResident number of inputs allowed in memory at the same time
+   * @throws IOException if the directory cannot be listed or a result cannot be written
+   */
+  public static void run(@NotNull Solution<?> solution, @NotNull Path directory,
+                         @NotNull Path out, int threads, int maxResident)
+      throws IOException, InterruptedException {
+    if (threads < 1 || maxResident < threads) {
+      throw new IllegalArgumentException(
+          "Need at least one thread and as many resident inputs as threads, got %d and %d"
+              .formatted(threads, maxResident));
+    }
+    if (out.getParent() != null) {
+      Files.createDirectories(out.getParent());
+    }
+
+    var residentSlots = new Semaphore(maxResident);
+    var samples = new Samples();
+    var failures = new AtomicInteger();
+    var writeError = new AtomicReference<IOException>();
+
+    long start = System.nanoTime();
+    try (var writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8);
+         var pool = Executors.newFixedThreadPool(threads);
+         var files = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+      for (var file : files) {
+        // Blocks the lister, not the workers, once maxResident inputs are in flight
+        residentSlots.acquire();
+        pool.execute(() -> {
+          try {
+            var line = solveFile(solution, file, samples, failures);
+            write(writer, line);
+          } catch (IOException e) {
+            // Thrown from a pool task it would be lost, so keep it for the caller
+            if (!writeError.compareAndSet(null, e)) {
+              writeError.get().addSuppressed(e);
+            }
+          } finally {
+            residentSlots.release();
+          }
+        });
+      }
+    }
+    long elapsed = System.nanoTime() - start;
+    if (writeError.get() != null) {
+      throw new IOException("Could not write results to " + out, writeError.get());
+    }
+
+    report(solution.day(), samples.toArray(), failures.get(), elapsed, out);
+  }
+
+  private static @NotNull String solveFile(@NotNull Solution<?> solution, @NotNull Path file,
+                                           @NotNull Samples samples,
+                                           @NotNull AtomicInteger failures) {
+    var result = JsonWriter.object().field("file", file.getFileName().toString());
+    try {
+      var lines = Files.readAllLines(file);
+      long start = System.nanoTime();
+      var results = SolutionRunner.solve(solution, lines);
+      long elapsed = System.nanoTime() - start;
+      samples.add(elapsed);
+      result.field("part1", String.valueOf(results.part1()))
+          .field("part2", String.valueOf(results.part2()))
+          .field("nanos", elapsed);
+    } catch (IOException | RuntimeException e) {
+      failures.incrementAndGet();
+      result.field("error", String.valueOf(e));
+    }
+    return result.toString();
+  }
+
+  private static void write(@NotNull BufferedWriter writer, @NotNull String line)
+      throws IOException {
+    synchronized (writer) {
+      writer.write(line);
+      writer.newLine();
+    }
+  }
+
+  private static void report(int day, long @NotNull [] samples, int failures, long elapsedNanos,
+                             @NotNull Path out) {
+    int inputs = samples.length + failures;
+    LOG.info("Day {}: {} inputs ({} failed) in {}, {} inputs/s -> {}",
+        day, inputs, failures,
+        SolutionRunner.formatDuration(Duration.ofNanos(elapsedNanos)),
+        "%.1f".formatted(inputs * NANOS_PER_SECOND / Math.max(1, elapsedNanos)),
+        out);
+    if (samples.length == 0) {
+      return;
+    }
+
+    var latency = Measurement.fromSamples(samples, 0, 0, 0);
+    LOG.info("Day {} latency: min={} median={} p90={} p99={} max={}",
+        day,
+        format(latency.minNanos()),
+        format(latency.medianNanos()),
+        format(latency.p90Nanos()),
+        format(latency.p99Nanos()),
+        format(latency.maxNanos()));
+  }
+
+  private static @NotNull String format(long nanos) {
+    return SolutionRunner.formatDuration(Duration.ofNanos(nanos));
+  }
+
+  /**
+   * Growable, thread-safe list of latency samples.
+   */
+  private static final class Samples {
+
+    private long[] values = new long[1024];
+    private int size;
+
+    synchronized void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    synchronized long @NotNull [] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+}
@@ -0,0 +1,272 @@
+package aoc.runner;
+
+import aoc.gen.InputGenerator;
+import aoc.gen.InputGenerators;
+import aoc.util.Measurement;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.TreeMap;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Estimates how each day's solve time and allocation grow with the size of its input.
+ *
+ * <p>Every day with a generator is parsed and solved on a geometric series of generated input
+ * sizes centred on the size of a real input: with the defaults, a quarter, a half, one, two and
+ * four times a real input. Size is measured in input bytes, so the exponents read the same for
+ * every day: about 1 for a linear pass, a little over 1 for a sort, 2 for a loop over all
+ * pairs. A least-squares line through the log-log points of the fastest time and of allocated
+ * bytes against input bytes gives the two exponents. The fastest of several runs is the least
+ * noisy estimate on small inputs, where a real input of most days solves in microseconds.
+ *
+ * <p>The exponents are compared against a baseline file of {@code dayNN.time} and
+ * {@code dayNN.allocation} entries. A day whose exponent rose by more than the tolerance is
+ * logged as an error, and the run fails at the end. Allocation is read from the calling thread
+ * only, like {@link Measurement}, so work handed to a fork-join pool does not count.
+ *
+ * <p>Day numbers given as arguments restrict the run to those days. Options:
+ * {@code --steps N} input sizes (default 5), {@code --factor N} ratio between sizes
+ * (default 2), {@code --warmup N} runs at every size before timing (default 5),
+ * {@code --iterations N} (default 7),
+ * {@code --tolerance X} allowed rise of an exponent (default 0.25), {@code --baseline FILE}
+ * (default {@value #DEFAULT_BASELINE}) and {@code --update-baseline}, which writes the
+ * measured exponents to the baseline instead of checking them.
+ */
+public final class ComplexityRunner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ComplexityRunner.class);
+  private static final String DEFAULT_BASELINE = "config/complexity-baseline.properties";
+
+  private ComplexityRunner() {
+  }
+
+  /**
+   * Time and allocation exponents of one day, as in {@code time ~ bytes^time}.
+   */
+  record Exponents(double time, double allocation) {
+  }
+
+  /**
+   * One solved input size.
+   *
+   * @param size input size in the generator's unit
+   * @param inputBytes bytes in the generated input, newlines included
+   * @param minNanos fastest time to parse and solve both parts
+   * @param allocatedBytes bytes the calling thread allocated per solve
+   */
+  record Point(int size, long inputBytes, long minNanos, long allocatedBytes) {
+  }
+
+  public static void main(String[] args) throws IOException {
+    var days = new HashSet<Integer>();
+    int steps = 5;
+    int factor = 2;
+    int warmup = 5;
+    int iterations = 7;
+    double tolerance = 0.25;
+    var baselineFile = Path.of(DEFAULT_BASELINE);
+    boolean updateBaseline = false;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--steps" -> steps = Integer.parseInt(args[++i]);
+        case "--factor" -> factor = Integer.parseInt(args[++i]);
+        case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+        case "--iterations" -> iterations = Integer.parseInt(args[++i]);
+        case "--tolerance" -> tolerance = Double.parseDouble(args[++i]);
+        case "--baseline" -> baselineFile = Path.of(args[++i]);
+        case "--update-baseline" -> updateBaseline = true;
+        default -> days.add(Integer.parseInt(args[i]));
+      }
+    }
+
+    var baseline = new Properties();
+    if (Files.exists(baselineFile)) {
+      try (Reader reader = Files.newBufferedReader(baselineFile)) {
+        baseline.load(reader);
+      }
+    }
+
+    int regressions = 0;
+    for (var solution : Solutions.all()) {
+      var generator = InputGenerators.forDay(solution.day());
+      if ((!days.isEmpty() && !days.contains(solution.day())) || generator.isEmpty()) {
+        continue;
+      }
+      var points = measure(solution, generator.get(),
+          sizes(generator.get().realSize(), steps, factor), warmup, iterations);
+      if (points.size() < 2) {
+        LOG.warn("Day {}: fewer than two input sizes could be generated, skipped",
+            solution.day());
+        continue;
+      }
+
+      var exponents = fit(points);
+      LOG.info("Day {}: time ~ n^{}, allocation ~ n^{}", solution.day(),
+          format(exponents.time()), format(exponents.allocation()));
+      if (updateBaseline) {
+        baseline.setProperty(key(solution.day(), "time"), format(exponents.time()));
+        baseline.setProperty(key(solution.day(), "allocation"), format(exponents.allocation()));
+      } else {
+        for (var regression : regressions(solution.day(), exponents, baseline, tolerance)) {
+          LOG.error("Day {}: {}", solution.day(), regression);
+          regressions++;
+        }
+      }
+    }
+
+    if (updateBaseline) {
+      if (baselineFile.getParent() != null) {
+        Files.createDirectories(baselineFile.getParent());
+      }
+      // Sorted and without the date Properties.store adds, so reruns diff cleanly
+      var lines = new ArrayList<String>();
+      lines.add("# Complexity exponents against input bytes, see ComplexityRunner");
+      new TreeMap<>(baseline).forEach((key, value) -> lines.add(key + "=" + value));
+      Files.write(baselineFile, lines);
+      LOG.info("Baseline written to {}", baselineFile);
+    } else if (regressions > 0) {
+      throw new IllegalStateException(regressions + " complexity exponents rose over baseline");
+    }
+  }
+
+  /**
+   * {@code steps} sizes, each {@code factor} times the one before, with the middle one at
+   * {@code realSize}. Sizes that round to the same value or below 1 are dropped.
+   */
+  static @NotNull List<Integer> sizes(int realSize, int steps, int factor) {
+    if (steps < 2 || factor < 2) {
+      throw new IllegalArgumentException(
+          "Need at least two steps and a factor of at least 2, got " + steps + " and " + factor);
+    }
+    var sizes = new ArrayList<Integer>();
+    for (int step = 0; step < steps; step++) {
+      double size = realSize * Math.pow(factor, step - steps / 2);
+      int rounded = (int) Math.round(size);
+      if (rounded >= 1 && (sizes.isEmpty() || sizes.getLast() < rounded)) {
+        sizes.add(rounded);
+      }
+    }
+    return sizes;
+  }
+
+  /**
+   * Exponents of the least-squares power laws through the points.
+   */
+  static @NotNull Exponents fit(@NotNull List<Point> points) {
+    var logBytes = new double[points.size()];
+    var logNanos = new double[points.size()];
+    var logAllocated = new double[points.size()];
+    for (int i = 0; i < points.size(); i++) {
+      var point = points.get(i);
+      logBytes[i] = Math.log(point.inputBytes());
+      // Zero cannot be logged; one byte or nanosecond is below any real measurement
+      logNanos[i] = Math.log(Math.max(1, point.minNanos()));
+      logAllocated[i] = Math.log(Math.max(1, point.allocatedBytes()));
+    }
+    return new Exponents(slope(logBytes, logNanos), slope(logBytes, logAllocated));
+  }
+
+  /**
+   * Slope of the least-squares line through {@code (x[i], y[i])}.
+   */
+  static double slope(double @NotNull [] x, double @NotNull [] y) {
+    double meanX = 0;
+    double meanY = 0;
+    for (int i = 0; i < x.length; i++) {
+      meanX += x[i] / x.length;
+      meanY += y[i] / y.length;
+    }
+    double covariance = 0;
+    double variance = 0;
+    for (int i = 0; i < x.length; i++) {
+      covariance += (x[i] - meanX) * (y[i] - meanY);
+      variance += (x[i] - meanX) * (x[i] - meanX);
+    }
+    if (variance == 0) {
+      throw new IllegalArgumentException("Need at least two distinct x values");
+    }
+    return covariance / variance;
+  }
+
+  /**
+   * Descriptions of the exponents that rose more than {@code tolerance} over the baseline.
+   * Exponents missing from the baseline are not checked.
+   */
+  static @NotNull List<String> regressions(int day, @NotNull Exponents exponents,
+                                           @NotNull Properties baseline, double tolerance) {
+    var regressions = new ArrayList<String>();
+    checkExponent(regressions, "time", exponents.time(),
+        baseline.getProperty(key(day, "time")), tolerance);
+    checkExponent(regressions, "allocation", exponents.allocation(),
+        baseline.getProperty(key(day, "allocation")), tolerance);
+    return regressions;
+  }
+
+  private static void checkExponent(@NotNull List<String> regressions, @NotNull String name,
+                                    double exponent, String baseline, double tolerance) {
+    if (baseline != null && exponent > Double.parseDouble(baseline) + tolerance) {
+      regressions.add("%s exponent %s rose over baseline %s".formatted(
+          name, format(exponent), baseline));
+    }
+  }
+
+  private static @NotNull List<Point> measure(@NotNull Solution<?> solution,
+                                              @NotNull InputGenerator generator,
+                                              @NotNull List<Integer> sizes, int warmup,
+                                              int iterations) {
+    var inputs = new ArrayList<List<String>>();
+    var generatedSizes = new ArrayList<Integer>();
+    for (int size : sizes) {
+      try {
+        inputs.add(generator.lines(InputGenerator.DEFAULT_SEED, size));
+        generatedSizes.add(size);
+      } catch (IllegalArgumentException e) {
+        LOG.warn("Day {} size={}: not generated, {}", solution.day(), size, e.getMessage());
+      }
+    }
+    // Warm up on every size before timing any, or the first sizes timed run less optimised
+    // code than the last and flatten the slope
+    for (var lines : inputs) {
+      for (int i = 0; i < warmup; i++) {
+        SolutionRunner.solve(solution, lines);
+      }
+    }
+
+    var points = new ArrayList<Point>();
+    for (int i = 0; i < inputs.size(); i++) {
+      var lines = inputs.get(i);
+      long inputBytes = lines.stream().mapToLong(line -> line.length() + 1L).sum();
+      var measurement = Measurement.measure(
+          () -> SolutionRunner.solve(solution, lines), 0, iterations).measurement();
+      var point = new Point(generatedSizes.get(i), inputBytes, measurement.minNanos(),
+          measurement.allocatedBytesPerRun());
+      LOG.info("Day {} size={} ({}): fastest {}, allocated {}", solution.day(), point.size(),
+          Measurement.formatBytes(inputBytes),
+          SolutionRunner.formatDuration(Duration.ofNanos(point.minNanos())),
+          Measurement.formatBytes(point.allocatedBytes()));
+      points.add(point);
+    }
+    return points;
+  }
+
+  private static @NotNull String key(int day, @NotNull String exponent) {
+    return "day%02d.%s".formatted(day, exponent);
+  }
+
+  private static @NotNull String format(double exponent) {
+    return String.format(Locale.ROOT, "%.2f", exponent);
+  }
+}
@@ -0,0 +1,99 @@
+package aoc.runner;
+
+import aoc.util.FileUtils;
+import aoc.util.Measurement;
+import aoc.util.RunContext;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports how each day's solve time scales with the size of its fork-join pool.
+ *
+ * <p>Every day is parsed and solved with a dedicated {@link ForkJoinPool} of 1, 2, 4 ... up to
+ * the number of cores (plus the core count itself), bound through {@link RunContext}. Each
+ * pool size gets its own warmup and measured iterations, and the runner logs the median time,
+ * the speedup over one thread and the parallel efficiency (speedup per thread). Days without
+ * parallel steps show a flat line, which is expected.
+ *
+ * <p>Day numbers given as arguments restrict the run to those days. Options:
+ * {@code --max-threads N} (default one per core), {@code --warmup N} (default 3) and
+ * {@code --iterations N} (default 10). Inputs are read like {@code runDay}'s, so
+ * {@code aoc.input.dir} can point at larger generated inputs.
+ */
+public final class ScalingRunner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ScalingRunner.class);
+  private static final double PERCENT = 100.0;
+
+  private ScalingRunner() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    var days = new HashSet<Integer>();
+    int maxThreads = Runtime.getRuntime().availableProcessors();
+    int warmup = 3;
+    int iterations = 10;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--max-threads" -> maxThreads = Integer.parseInt(args[++i]);
+        case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+        case "--iterations" -> iterations = Integer.parseInt(args[++i]);
+        default -> days.add(Integer.parseInt(args[i]));
+      }
+    }
+
+    var threadCounts = threadCounts(maxThreads);
+    for (var solution : Solutions.all()) {
+      if (days.isEmpty() || days.contains(solution.day())) {
+        var lines = FileUtils.readLines(solution.inputName());
+        report(solution, lines, threadCounts, warmup, iterations);
+      }
+    }
+  }
+
+  /**
+   * Powers of two below {@code maxThreads}, then {@code maxThreads} itself.
+   */
+  static @NotNull List<Integer> threadCounts(int maxThreads) {
+    if (maxThreads < 1) {
+      throw new IllegalArgumentException("Need at least one thread, got " + maxThreads);
+    }
+    var counts = new ArrayList<Integer>();
+    for (int threads = 1; threads < maxThreads; threads *= 2) {
+      counts.add(threads);
+    }
+    counts.add(maxThreads);
+    return counts;
+  }
+
+  private static void report(@NotNull Solution<?> solution, @NotNull List<String> lines,
+                             @NotNull List<Integer> threadCounts, int warmup, int iterations) {
+    long baselineNanos = 0;
+    for (int threads : threadCounts) {
+      long median;
+      try (var pool = new ForkJoinPool(threads)) {
+        median = RunContext.withPool(pool, () ->
+            Measurement.measure(() -> SolutionRunner.solve(solution, lines), warmup, iterations)
+                .measurement()
+                .medianNanos());
+      }
+      if (baselineNanos == 0) {
+        baselineNanos = median;
+      }
+      double speedup = (double) baselineNanos / Math.max(1, median);
+      LOG.info("Day {} threads={}: median {}, speedup {}x, efficiency {}%",
+          solution.day(), threads, SolutionRunner.formatDuration(Duration.ofNanos(median)),
+          "%.2f".formatted(speedup), "%.0f".formatted(PERCENT * speedup / threads));
+    }
+  }
+}
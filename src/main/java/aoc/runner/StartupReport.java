@@ -0,0 +1,115 @@
+package aoc.runner;
+
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the launch-to-exit time of each day with and without an AOT cache.
+ *
+ * <p>Every day runs in fresh JVMs that use this process's {@code java} binary and class path,
+ * so a cache trained by {@link AotTraining} on the same class path stays valid. {@code aoc.*}
+ * system properties are forwarded, so {@code aoc.input.dir} selects the inputs as usual.
+ * Options: {@code --cache FILE} (required) and {@code --runs N} (default 5, median reported).
+ * Day numbers given as arguments restrict the report to those days.
+ */
+public final class StartupReport {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StartupReport.class);
+  private static final int DEFAULT_RUNS = 5;
+  private static final String FORWARDED_PREFIX = "aoc.";
+
+  private StartupReport() {
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    Path cache = null;
+    int runs = DEFAULT_RUNS;
+    Set<Integer> days = new HashSet<>();
+
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--cache" -> cache = Path.of(args[++i]);
+        case "--runs" -> runs = Integer.parseInt(args[++i]);
+        default -> days.add(Integer.parseInt(args[i]));
+      }
+    }
+    if (cache == null || !Files.isRegularFile(cache)) {
+      throw new IllegalArgumentException("AOT cache not found: " + cache);
+    }
+    if (runs < 1) {
+      throw new IllegalArgumentException("Runs must be positive, got " + runs);
+    }
+
+    long coldTotal = 0;
+    long aotTotal = 0;
+    for (var solution : Solutions.all()) {
+      if (!days.isEmpty() && !days.contains(solution.day())) {
+        continue;
+      }
+      long cold = medianNanos(command(solution, List.of()), runs);
+      long aot = medianNanos(command(solution, List.of("-XX:AOTCache=" + cache)), runs);
+      coldTotal += cold;
+      aotTotal += aot;
+      LOG.info("Day {}: cold {} | AOT {} | {}", solution.day(), format(cold), format(aot),
+          speedup(cold, aot));
+    }
+    LOG.info("Total: cold {} | AOT {} | {}", format(coldTotal), format(aotTotal),
+        speedup(coldTotal, aotTotal));
+  }
+
+  private static @NotNull List<String> command(
+      @NotNull Solution<?> solution, @NotNull List<String> jvmOptions) {
+    var command = new ArrayList<String>();
+    command.add(ProcessHandle.current().info().command()
+        .orElseThrow(() -> new IllegalStateException("Cannot locate the java launcher")));
+    command.add("-cp");
+    command.add(System.getProperty("java.class.path"));
+    command.addAll(jvmOptions);
+    System.getProperties().stringPropertyNames().stream()
+        .filter(name -> name.startsWith(FORWARDED_PREFIX))
+        .sorted()
+        .forEach(name -> command.add("-D" + name + "=" + System.getProperty(name)));
+    command.add(solution.getClass().getName());
+    return command;
+  }
+
+  private static long medianNanos(@NotNull List<String> command, int runs)
+      throws IOException, InterruptedException {
+    long[] samples = new long[runs];
+    for (int i = 0; i < runs; i++) {
+      long start = System.nanoTime();
+      var process = new ProcessBuilder(command)
+          .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+          .redirectError(ProcessBuilder.Redirect.DISCARD)
+          .start();
+      int exitCode = process.waitFor();
+      samples[i] = System.nanoTime() - start;
+      if (exitCode != 0) {
+        throw new IllegalStateException("Exit code " + exitCode + " from " + command.getLast());
+      }
+    }
+    Arrays.sort(samples);
+    return samples[runs / 2];
+  }
+
+  private static @NotNull String format(long nanos) {
+    return SolutionRunner.formatDuration(Duration.ofNanos(nanos));
+  }
+
+  private static @NotNull String speedup(long cold, long aot) {
+    return "%.1fx".formatted((double) cold / aot);
+  }
+}
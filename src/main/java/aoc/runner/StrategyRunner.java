@@ -0,0 +1,156 @@
+package aoc.runner;
+
+import aoc.gen.InputGenerator;
+import aoc.gen.InputGenerators;
+import aoc.util.Measurement;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import aoc.util.Strategy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Checks each day's alternative {@link Strategy strategies} against its reference parts and
+ * times them head to head.
+ *
+ * <p>For every day that registers strategies, inputs are generated for a run of seeds and
+ * parsed once each. The reference part and every strategy for that part then solve the same
+ * parsed input. Any answer that differs from the reference is logged with its seed, and the
+ * run fails at the end if there was one. Afterwards, the reference and the strategies are timed
+ * on the same parsed input from the first seed, each warmed up first.
+ *
+ * <p>Day numbers given as arguments restrict the run to those days. Options:
+ * {@code --seeds N} (default 20), {@code --scale N} input size relative to a real input
+ * (default 1), {@code --warmup N} (default 5) and {@code --iterations N} timed runs per
+ * implementation (default 20; 0 only cross-checks).
+ */
+public final class StrategyRunner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StrategyRunner.class);
+  private static final String REFERENCE = "reference";
+
+  private StrategyRunner() {
+  }
+
+  public static void main(String[] args) {
+    var days = new HashSet<Integer>();
+    int seeds = 20;
+    int scale = 1;
+    int warmup = 5;
+    int iterations = 20;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--seeds" -> seeds = Integer.parseInt(args[++i]);
+        case "--scale" -> scale = Integer.parseInt(args[++i]);
+        case "--warmup" -> warmup = Integer.parseInt(args[++i]);
+        case "--iterations" -> iterations = Integer.parseInt(args[++i]);
+        default -> days.add(Integer.parseInt(args[i]));
+      }
+    }
+    if (seeds < 1 || scale < 1) {
+      throw new IllegalArgumentException("Need at least one seed and a scale of at least 1");
+    }
+
+    int disagreements = 0;
+    for (var solution : withStrategies(days)) {
+      var generator = InputGenerators.forDay(solution.day())
+          .orElseThrow(() -> new IllegalStateException("No generator for day " + solution.day()));
+      int size = generator.sizeForScale(scale);
+      for (int s = 0; s < seeds; s++) {
+        long seed = InputGenerator.DEFAULT_SEED + s;
+        for (var disagreement : crossCheck(solution, generator.lines(seed, size))) {
+          LOG.error("Day {} seed {}: {}", solution.day(), seed, disagreement);
+          disagreements++;
+        }
+      }
+      LOG.info("Day {}: strategies cross-checked on {} inputs", solution.day(), seeds);
+      if (iterations > 0) {
+        compare(solution, generator.lines(InputGenerator.DEFAULT_SEED, size), warmup, iterations);
+      }
+    }
+
+    if (disagreements > 0) {
+      throw new IllegalStateException(disagreements + " strategy answers disagreed");
+    }
+  }
+
+  private static @NotNull List<Solution<?>> withStrategies(@NotNull Set<Integer> days) {
+    return Solutions.all().stream()
+        .filter(solution -> days.isEmpty() || days.contains(solution.day()))
+        .filter(solution -> !solution.strategies().isEmpty())
+        .toList();
+  }
+
+  /**
+   * Solves one input with every strategy and the matching reference part.
+   *
+   * @return a description of each strategy whose answer differs from the reference, or that
+   *     failed
+   */
+  static <T> @NotNull List<String> crossCheck(
+      @NotNull Solution<T> solution, @NotNull List<String> lines) {
+    T input = solution.parse(lines);
+    var expected = new Object[] {null, solution.part1(input), solution.part2(input)};
+
+    var disagreements = new ArrayList<String>();
+    for (var strategy : solution.strategies()) {
+      String answer;
+      try {
+        answer = String.valueOf(strategy.solve(input));
+      } catch (RuntimeException e) {
+        answer = "failed with " + e;
+      }
+      var reference = String.valueOf(expected[strategy.part()]);
+      if (!reference.equals(answer)) {
+        disagreements.add("part %d %s = %s, reference = %s"
+            .formatted(strategy.part(), strategy.name(), answer, reference));
+      }
+    }
+    return disagreements;
+  }
+
+  private static <T> void compare(@NotNull Solution<T> solution, @NotNull List<String> lines,
+                                  int warmup, int iterations) {
+    T input = solution.parse(lines);
+    for (int part = 1; part <= 2; part++) {
+      int strategyPart = part;
+      var strategies = solution.strategies().stream()
+          .filter(strategy -> strategy.part() == strategyPart)
+          .toList();
+      if (strategies.isEmpty()) {
+        continue;
+      }
+
+      Supplier<Object> reference = part == 1
+          ? () -> solution.part1(input)
+          : () -> solution.part2(input);
+      long referenceNanos = time(solution.day(), part, REFERENCE, reference, warmup, iterations,
+          0);
+      for (var strategy : strategies) {
+        time(solution.day(), part, strategy.name(), () -> strategy.solve(input), warmup,
+            iterations, referenceNanos);
+      }
+    }
+  }
+
+  private static long time(int day, int part, @NotNull String name,
+                           @NotNull Supplier<Object> body, int warmup, int iterations,
+                           long referenceNanos) {
+    var measurement = Measurement.measure(body, warmup, iterations).measurement();
+    long median = measurement.medianNanos();
+    String speedup = referenceNanos > 0
+        ? " (%.1fx speedup)".formatted((double) referenceNanos / Math.max(1, median))
+        : "";
+    LOG.info("Day {} part {} {}: median {}{}", day, part, name,
+        SolutionRunner.formatDuration(Duration.ofNanos(median)), speedup);
+    return median;
+  }
+}
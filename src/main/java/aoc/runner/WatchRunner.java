@@ -0,0 +1,184 @@
+package aoc.runner;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import aoc.util.FileUtils;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Re-solves one day whenever its input file changes, in the same warm JVM.
+ *
+ * <p>The input's directory is registered with a {@link WatchService}; every burst of changes
+ * to the file triggers one parse and solve, and each run logs its parse and part timings. Run
+ * numbers grow with each change, so later runs show steady-state JIT rather than a cold start.
+ *
+ * <p>Parsed inputs are cached by a hash of the file contents, so saving an unchanged file or
+ * reverting an edit skips parsing and reuses whatever the parsed model has derived and cached,
+ * such as Day 8's sorted pairs. Both parts already share one parsed model, so it is never
+ * mutated by a part.
+ *
+ * <p>Options: {@code --day N} (required). The input is resolved like {@code runDay}'s, so
+ * {@code aoc.input.dir} applies.
+ */
+public final class WatchRunner<T> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(WatchRunner.class);
+  private static final int CACHED_INPUTS = 4;
+  // Editors often save in several writes; wait this long for a burst of events to end
+  private static final long SETTLE_MILLIS = 50;
+
+  private final Solution<T> solution;
+  private final Map<String, T> parsedByHash =
+      new LinkedHashMap<>(CACHED_INPUTS * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+          return size() > CACHED_INPUTS;
+        }
+      };
+  private int runs;
+
+  WatchRunner(@NotNull Solution<T> solution) {
+    this.solution = solution;
+  }
+
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int day = 0;
+    for (int i = 0; i < args.length; i++) {
+      if ("--day".equals(args[i])) {
+        day = Integer.parseInt(args[++i]);
+      } else {
+        throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+    int requestedDay = day;
+    var solution = Solutions.forDay(day)
+        .orElseThrow(() -> new IllegalArgumentException("No solution for day " + requestedDay));
+
+    new WatchRunner<>(solution).watch(FileUtils.inputPath(solution.inputName()));
+  }
+
+  /**
+   * Solves {@code input} once, then again after every change until the thread is interrupted
+   * or the input's directory goes away.
+   */
+  void watch(@NotNull Path input) throws IOException, InterruptedException {
+    var directory = input.toAbsolutePath().getParent();
+    var fileName = input.getFileName();
+    try (var watcher = directory.getFileSystem().newWatchService()) {
+      directory.register(watcher, ENTRY_CREATE, ENTRY_MODIFY);
+      logRun(input);
+      LOG.info("Watching {} for changes", input);
+
+      while (true) {
+        var key = watcher.take();
+        boolean changed = drain(key, fileName);
+        WatchKey next;
+        while ((next = watcher.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+          changed |= drain(next, fileName);
+        }
+        if (!key.isValid()) {
+          LOG.warn("{} is no longer accessible, stopping", directory);
+          return;
+        }
+        if (changed) {
+          logRun(input);
+        }
+      }
+    }
+  }
+
+  /**
+   * Consumes a key's pending events and re-arms it.
+   *
+   * @return whether any event was for {@code fileName}
+   */
+  private static boolean drain(@NotNull WatchKey key, @NotNull Path fileName) {
+    boolean matched = false;
+    for (var event : key.pollEvents()) {
+      matched |= fileName.equals(event.context());
+    }
+    key.reset();
+    return matched;
+  }
+
+  private void logRun(@NotNull Path input) {
+    try {
+      var run = solve(input);
+      LOG.info("Run {}: part 1 = {}, part 2 = {}", run.number(), run.results().part1(),
+          run.results().part2());
+      LOG.info("Run {}: parse {}{}, part 1 {}, part 2 {}", run.number(),
+          format(run.parseNanos()), run.reusedParse() ? " (unchanged input, reused)" : "",
+          format(run.part1Nanos()), format(run.part2Nanos()));
+    } catch (IOException e) {
+      LOG.error("Could not read {}", input, e);
+    } catch (RuntimeException e) {
+      // A half-edited input is expected while watching; keep going
+      LOG.error("Run failed on {}", input, e);
+    }
+  }
+
+  /**
+   * Reads, parses and solves {@code input}, reusing the parsed model of identical contents.
+   */
+  @NotNull Run solve(@NotNull Path input) throws IOException {
+    byte[] bytes = Files.readAllBytes(input);
+    String hash = sha256(bytes);
+    int number = ++runs;
+
+    long start = System.nanoTime();
+    T parsed = parsedByHash.get(hash);
+    boolean reused = parsed != null;
+    if (!reused) {
+      List<String> lines = new String(bytes, StandardCharsets.UTF_8).lines().toList();
+      parsed = solution.parse(lines);
+      parsedByHash.put(hash, parsed);
+    }
+    long parsedAt = System.nanoTime();
+    Object part1 = solution.part1(parsed);
+    long part1At = System.nanoTime();
+    Object part2 = solution.part2(parsed);
+    long part2At = System.nanoTime();
+
+    return new Run(number, new SolutionRunner.Results(part1, part2), reused,
+        parsedAt - start, part1At - parsedAt, part2At - part1At);
+  }
+
+  private static @NotNull String sha256(byte @NotNull [] bytes) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+    }
+  }
+
+  private static @NotNull String format(long nanos) {
+    return SolutionRunner.formatDuration(Duration.ofNanos(nanos));
+  }
+
+  /**
+   * One parse and solve of the watched input.
+   */
+  record Run(int number, SolutionRunner.Results results, boolean reusedParse, long parseNanos,
+             long part1Nanos, long part2Nanos) {
+  }
+}
@@ -0,0 +1,61 @@
+package aoc.server;
+
+import aoc.util.JsonWriter;
+import aoc.util.metrics.Histogram;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Request counters and solve latency for one day.
+ *
+ * <p>Latency buckets run from 100 µs to 10 s in a 1-2-5 progression, so any latency lands
+ * within a factor of 2.5 of its bucket bound. Like the solver metrics, the histogram stays
+ * empty when {@code aoc.metrics} is {@code false}; the request counters always count.
+ */
+final class DayMetrics {
+
+  private static final long NANOS_PER_MICROSECOND = 1000;
+  private static final long[] LATENCY_BOUNDS_NANOS = {
+      100 * NANOS_PER_MICROSECOND,
+      200 * NANOS_PER_MICROSECOND,
+      500 * NANOS_PER_MICROSECOND,
+      1_000 * NANOS_PER_MICROSECOND,
+      2_000 * NANOS_PER_MICROSECOND,
+      5_000 * NANOS_PER_MICROSECOND,
+      10_000 * NANOS_PER_MICROSECOND,
+      20_000 * NANOS_PER_MICROSECOND,
+      50_000 * NANOS_PER_MICROSECOND,
+      100_000 * NANOS_PER_MICROSECOND,
+      200_000 * NANOS_PER_MICROSECOND,
+      500_000 * NANOS_PER_MICROSECOND,
+      1_000_000 * NANOS_PER_MICROSECOND,
+      2_000_000 * NANOS_PER_MICROSECOND,
+      5_000_000 * NANOS_PER_MICROSECOND,
+      10_000_000 * NANOS_PER_MICROSECOND,
+  };
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final Histogram latency = new Histogram("latencyNanos", LATENCY_BOUNDS_NANOS);
+
+  /**
+   * Records a request that reached the solver.
+   *
+   * @param nanos time spent parsing and solving, excluding the wait for a solve slot
+   * @param failed whether the solver rejected the input
+   */
+  void record(long nanos, boolean failed) {
+    requests.increment();
+    if (failed) {
+      failures.increment();
+    }
+    latency.record(nanos);
+  }
+
+  @NotNull JsonWriter toJson() {
+    return JsonWriter.object()
+        .field("requests", requests.sum())
+        .field("failures", failures.sum())
+        .raw("latencyNanos", latency.toJson());
+  }
+}
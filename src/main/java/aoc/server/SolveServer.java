@@ -0,0 +1,251 @@
+package aoc.server;
+
+import aoc.util.JsonWriter;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Long-running HTTP front end that keeps a warmed JVM and solves inputs posted to it.
+ *
+ * <p>Endpoints, bound to the loopback interface only:
+ * <ul>
+ *   <li>{@code POST /day/{n}} - the body is a raw puzzle input; responds with both answers
+ *       as JSON, solved by the same {@link Solution} code the runners use</li>
+ *   <li>{@code GET /metrics} - per-day request and failure counts and latency histograms</li>
+ * </ul>
+ *
+ * <p>Each request is handled on its own virtual thread, so waiting requests cost almost
+ * nothing, while a semaphore caps how many solves run at once (by default one per core). A
+ * request only reads its body once it holds a solve slot, and bodies over the size limit are
+ * refused with 413, so memory stays bounded by the number of slots times that limit.
+ * Options: {@code --port N} (default 8080, 0 picks a free port), {@code --max-solves N} and
+ * {@code --max-body-bytes N} (default 64 MiB).
+ */
+public final class SolveServer implements AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SolveServer.class);
+  private static final int DEFAULT_PORT = 8080;
+  private static final long DEFAULT_MAX_BODY_BYTES = 64L << 20;
+  private static final String DAY_PATH = "/day/";
+  private static final String METRICS_PATH = "/metrics";
+  private static final String JSON = "application/json";
+  private static final int OK = 200;
+  private static final int BAD_REQUEST = 400;
+  private static final int NOT_FOUND = 404;
+  private static final int METHOD_NOT_ALLOWED = 405;
+  private static final int CONTENT_TOO_LARGE = 413;
+  private static final int SERVICE_UNAVAILABLE = 503;
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final Map<Integer, Solution<?>> solutions = new TreeMap<>();
+  private final Map<Integer, DayMetrics> metrics = new ConcurrentHashMap<>();
+  private final int maxConcurrentSolves;
+  private final Semaphore solveSlots;
+  private final int maxBodyBytes;
+
+  private SolveServer(@NotNull HttpServer server, int maxConcurrentSolves, int maxBodyBytes) {
+    this.server = server;
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.maxConcurrentSolves = maxConcurrentSolves;
+    this.solveSlots = new Semaphore(maxConcurrentSolves);
+    this.maxBodyBytes = maxBodyBytes;
+    for (var solution : Solutions.all()) {
+      solutions.put(solution.day(), solution);
+    }
+
+    server.createContext(DAY_PATH, this::handleSolve);
+    server.createContext(METRICS_PATH, this::handleMetrics);
+    server.setExecutor(executor);
+  }
+
+  /**
+   * Binds to the loopback interface and starts serving, accepting inputs of up to 64 MiB.
+   *
+   * @param port port to listen on, or 0 for any free port
+   * @param maxConcurrentSolves number of solves allowed to run at the same time
+   * @return the running server
+   * @throws IOException if the port cannot be bound
+   */
+  public static @NotNull SolveServer start(int port, int maxConcurrentSolves) throws IOException {
+    return start(port, maxConcurrentSolves, DEFAULT_MAX_BODY_BYTES);
+  }
+
+  /**
+   * Like {@link #start(int, int)}, refusing inputs larger than {@code maxBodyBytes}.
+   */
+  public static @NotNull SolveServer start(int port, int maxConcurrentSolves, long maxBodyBytes)
+      throws IOException {
+    if (maxConcurrentSolves < 1) {
+      throw new IllegalArgumentException(
+          "At least one concurrent solve is required, got " + maxConcurrentSolves);
+    }
+    // Bodies are read into one array, so the limit cannot exceed what an array can hold
+    if (maxBodyBytes < 0 || maxBodyBytes >= Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Body limit out of range: " + maxBodyBytes);
+    }
+    var address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    var solveServer = new SolveServer(
+        HttpServer.create(address, 0), maxConcurrentSolves, (int) maxBodyBytes);
+    solveServer.server.start();
+    return solveServer;
+  }
+
+  public static void main(String[] args) throws IOException {
+    int port = DEFAULT_PORT;
+    int maxSolves = Runtime.getRuntime().availableProcessors();
+    long maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+    for (int i = 0; i < args.length; i++) {
+      switch (args[i]) {
+        case "--port" -> port = Integer.parseInt(args[++i]);
+        case "--max-solves" -> maxSolves = Integer.parseInt(args[++i]);
+        case "--max-body-bytes" -> maxBodyBytes = Long.parseLong(args[++i]);
+        default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+      }
+    }
+
+    var solveServer = start(port, maxSolves, maxBodyBytes);
+    LOG.info("Serving {} days on http://localhost:{} with up to {} concurrent solves",
+        solveServer.solutions.size(), solveServer.port(), maxSolves);
+  }
+
+  /**
+   * The bound port, useful when started with port 0.
+   */
+  public int port() {
+    return server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.close();
+  }
+
+  private void handleSolve(@NotNull HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!"POST".equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().set("Allow", "POST");
+        respond(exchange, METHOD_NOT_ALLOWED, error("Use POST with the puzzle input as body"));
+        return;
+      }
+
+      var solution = solutions.get(parseDay(exchange.getRequestURI().getPath()));
+      if (solution == null) {
+        respond(exchange, NOT_FOUND, error("No solution for " + exchange.getRequestURI()));
+        return;
+      }
+
+      var declaredLength = exchange.getRequestHeaders().getFirst("Content-Length");
+      if (declaredLength != null && Long.parseLong(declaredLength) > maxBodyBytes) {
+        respond(exchange, CONTENT_TOO_LARGE, tooLarge());
+        return;
+      }
+      try {
+        solveSlots.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        respond(exchange, SERVICE_UNAVAILABLE, error("Interrupted while waiting to solve"));
+        return;
+      }
+      try {
+        // Read one byte past the limit to tell a body of exactly the limit from a larger one
+        var body = exchange.getRequestBody().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+          respond(exchange, CONTENT_TOO_LARGE, tooLarge());
+          return;
+        }
+        var lines = new String(body, StandardCharsets.US_ASCII).lines().toList();
+        respond(exchange, solve(solution, lines));
+      } finally {
+        solveSlots.release();
+      }
+    }
+  }
+
+  private @NotNull String tooLarge() {
+    return error("Input is larger than " + maxBodyBytes + " bytes");
+  }
+
+  private static int parseDay(@NotNull String path) {
+    try {
+      return Integer.parseInt(path.substring(DAY_PATH.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private @NotNull Response solve(@NotNull Solution<?> solution, @NotNull List<String> lines) {
+    var dayMetrics = metrics.computeIfAbsent(solution.day(), _ -> new DayMetrics());
+    long start = System.nanoTime();
+    try {
+      var results = SolutionRunner.solve(solution, lines);
+      long elapsed = System.nanoTime() - start;
+      dayMetrics.record(elapsed, false);
+      return new Response(OK, JsonWriter.object()
+          .field("day", solution.day())
+          .field("part1", String.valueOf(results.part1()))
+          .field("part2", String.valueOf(results.part2()))
+          .field("nanos", elapsed)
+          .toString());
+    } catch (RuntimeException e) {
+      dayMetrics.record(System.nanoTime() - start, true);
+      LOG.debug("Day {} rejected its input", solution.day(), e);
+      return new Response(BAD_REQUEST, error(String.valueOf(e)));
+    }
+  }
+
+  private void handleMetrics(@NotNull HttpExchange exchange) throws IOException {
+    try (exchange) {
+      var days = JsonWriter.object();
+      new TreeMap<>(metrics).forEach(
+          (day, dayMetrics) -> days.raw(Integer.toString(day), dayMetrics.toJson().toString()));
+      var available = new ArrayList<String>();
+      solutions.keySet().forEach(day -> available.add(Integer.toString(day)));
+      respond(exchange, OK, JsonWriter.object()
+          .raw("availableDays", JsonWriter.array(available))
+          .field("maxConcurrentSolves", maxConcurrentSolves)
+          .field("solvesInProgress", maxConcurrentSolves - solveSlots.availablePermits())
+          .raw("days", days.toString())
+          .toString());
+    }
+  }
+
+  private static @NotNull String error(@NotNull String message) {
+    return JsonWriter.object().field("error", message).toString();
+  }
+
+  private static void respond(@NotNull HttpExchange exchange, @NotNull Response response)
+      throws IOException {
+    respond(exchange, response.status(), response.body());
+  }
+
+  private static void respond(@NotNull HttpExchange exchange, int status, @NotNull String body)
+      throws IOException {
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", JSON);
+    exchange.sendResponseHeaders(status, bytes.length);
+    exchange.getResponseBody().write(bytes);
+  }
+
+  private record Response(int status, @NotNull String body) {
+  }
+}
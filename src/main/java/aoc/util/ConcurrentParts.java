@@ -0,0 +1,71 @@
+package aoc.util;
+
+import java.util.concurrent.StructuredTaskScope;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Solves the two parts of a day side by side, as subtasks of a {@link StructuredTaskScope}.
+ *
+ * <p>Both parts read the parsed input without changing it, so they can share it. Each part
+ * runs in a virtual thread of its own and is timed there; the scope waits for both, and when
+ * one part fails the other is cancelled and the failure rethrown on the calling thread. Scoped
+ * values bound by the caller, such as the {@link RunContext} pool, carry over into both parts.
+ * A day then takes about as long as its slower part.
+ *
+ * <p>{@code StructuredTaskScope} is still a preview API, so this class, unlike the rest of the
+ * runner, needs {@code --enable-preview}. {@link SolutionRunner} only loads it when
+ * {@value SolutionRunner#CONCURRENT_PARTS_PROPERTY} is set.
+ */
+public final class ConcurrentParts {
+
+  private ConcurrentParts() {
+  }
+
+  /**
+   * Answers of both parts and how long each took in its own thread.
+   */
+  public record Timed(@NotNull SolutionRunner.Results results, long part1Nanos,
+                      long part2Nanos) {
+  }
+
+  private record Part(Object answer, long nanos) {
+  }
+
+  /**
+   * Solves both parts of a two-part day at the same time.
+   *
+   * @throws IllegalStateException if interrupted while waiting for the parts
+   */
+  public static <T> @NotNull Timed solve(
+      @NotNull Solution<T> solution, @NotNull T input, long inputBytes) {
+    try (var scope = StructuredTaskScope.open()) {
+      var part1 = scope.fork(() -> timed(solution.day(), SolutionPhaseEvent.PART_1, inputBytes,
+          () -> solution.part1(input)));
+      var part2 = scope.fork(() -> timed(solution.day(), SolutionPhaseEvent.PART_2, inputBytes,
+          () -> solution.part2(input)));
+      scope.join();
+      return new Timed(new SolutionRunner.Results(part1.get().answer(), part2.get().answer()),
+          part1.get().nanos(), part2.get().nanos());
+    } catch (StructuredTaskScope.FailedException e) {
+      // Rethrow what the part threw, so failures look the same as in a sequential run
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while solving day " + solution.day(), e);
+    }
+  }
+
+  private static @NotNull Part timed(
+      int day, @NotNull String phase, long inputBytes, @NotNull Supplier<Object> part) {
+    long start = System.nanoTime();
+    var answer = SolutionPhaseEvent.record(day, phase, inputBytes, part);
+    return new Part(answer, System.nanoTime() - start);
+  }
+}
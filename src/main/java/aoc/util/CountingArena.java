@@ -0,0 +1,43 @@
+package aoc.util;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared arena that counts the bytes allocated from it.
+ *
+ * <p>Everything allocated is freed together by {@link #close()}. The count covers every
+ * allocation since the arena was opened, so it is the off-heap footprint of whatever used the
+ * arena. Allocation is safe from any thread.
+ */
+public final class CountingArena implements Arena {
+
+  private final Arena arena = Arena.ofShared();
+  private final LongAdder allocatedBytes = new LongAdder();
+
+  @Override
+  public @NotNull MemorySegment allocate(long byteSize, long byteAlignment) {
+    var segment = arena.allocate(byteSize, byteAlignment);
+    allocatedBytes.add(byteSize);
+    return segment;
+  }
+
+  @Override
+  public MemorySegment.@NotNull Scope scope() {
+    return arena.scope();
+  }
+
+  @Override
+  public void close() {
+    arena.close();
+  }
+
+  /**
+   * Bytes allocated so far, including those of segments already out of use.
+   */
+  public long allocatedBytes() {
+    return allocatedBytes.sum();
+  }
+}
@@ -1,27 +1,86 @@
 package aoc.util;
 
 import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 public class FileUtils {
 
   private static final String TXT_EXTENSION = ".txt";
-  private static final String RESOURCES_PATH = "src/main/resources";
+  // Overridable so generated inputs (see aoc.gen) can stand in for the real ones
+  private static final String INPUT_DIR_PROPERTY = "aoc.input.dir";
+  private static final String RESOURCES_PATH =
+      System.getProperty(INPUT_DIR_PROPERTY, "src/main/resources");
 
   @Contract("_ -> new")
   public static @NotNull List<String> readLines(String filename) throws IOException {
     return Files.readAllLines(resolveInputPath(filename));
   }
 
+  /**
+   * Lazily reads an input file; the stream must be closed to release the file.
+   */
+  public static @NotNull Stream<String> streamLines(String filename) throws IOException {
+    return Files.lines(resolveInputPath(filename));
+  }
+
   public static @NotNull String readAsString(String filename) throws IOException {
     return Files.readString(resolveInputPath(filename));
   }
 
+  /**
+   * Maps an input file read-only and returns a cursor over it. Nothing is copied onto the
+   * heap; the mapping is released when the cursor is closed.
+   */
+  @Contract("_ -> new")
+  public static @NotNull InputCursor map(String filename) throws IOException {
+    return map(resolveInputPath(filename));
+  }
+
+  /**
+   * Maps an arbitrary file read-only; see {@link #map(String)}.
+   */
+  @Contract("_ -> new")
+  public static @NotNull InputCursor map(@NotNull Path path) throws IOException {
+    var arena = Arena.ofShared();
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+      return InputCursor.owning(segment, arena);
+    } catch (IOException | RuntimeException e) {
+      arena.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Encodes lines as a newline-separated ASCII segment, the layout of a mapped input, so
+   * parsers that work on bytes can also take decoded lines.
+   */
+  public static @NotNull MemorySegment encode(@NotNull List<String> lines) {
+    return MemorySegment.ofArray(String.join("\n", lines).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * The file a resource-relative input name such as {@code day04/input} resolves to, honouring
+   * the {@value #INPUT_DIR_PROPERTY} override.
+   */
+  public static @NotNull Path inputPath(@NotNull String filename) {
+    return resolveInputPath(filename);
+  }
+
   private static @NotNull Path resolveInputPath(@NotNull String filename) {
     String fullFilename =
         filename.endsWith(TXT_EXTENSION) ? filename : filename + TXT_EXTENSION;
@@ -30,24 +89,65 @@ public class FileUtils {
 
   public static @NotNull List<List<String>> splitByBlankLines(@NotNull List<String> lines) {
     var groups = new ArrayList<List<String>>();
-    var currentGroup = new ArrayList<String>();
+    sections(lines.iterator()).forEachRemaining(groups::add);
+    return groups;
+  }
+
+  /**
+   * Hands each blank-line separated section to {@code sectionConsumer} as soon as it has been
+   * read, so only one section is held in memory at a time.
+   *
+   * @param lines the lines to group; a lazy source such as {@link #streamLines(String)} is
+   *     read one section ahead
+   * @param sectionConsumer receives the section index and its lines, which it may keep
+   */
+  public static void forEachSection(@NotNull Stream<String> lines,
+                                    @NotNull BiConsumer<Integer, List<String>> sectionConsumer) {
+    var sections = sections(lines.iterator());
+    int index = 0;
+    while (sections.hasNext()) {
+      sectionConsumer.accept(index++, sections.next());
+    }
+  }
 
-    for (var line : lines) {
-      if (line.isBlank()) {
-        if (!currentGroup.isEmpty()) {
-          groups.add(new ArrayList<>(currentGroup));
-          currentGroup.clear();
+  /**
+   * Lazily groups lines into blank-line separated sections. Consecutive blank lines never
+   * produce empty sections.
+   */
+  public static @NotNull Iterator<List<String>> sections(@NotNull Iterator<String> lines) {
+    return new Iterator<>() {
+      private List<String> next;
+
+      @Override
+      public boolean hasNext() {
+        if (next == null) {
+          next = readSection(lines);
         }
-      } else {
-        currentGroup.add(line);
+        return !next.isEmpty();
       }
-    }
 
-    // Add last group if not empty
-    if (!currentGroup.isEmpty()) {
-      groups.add(currentGroup);
-    }
+      @Override
+      public List<String> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        var section = next;
+        next = null;
+        return section;
+      }
+    };
+  }
 
-    return groups;
+  private static @NotNull List<String> readSection(@NotNull Iterator<String> lines) {
+    var section = new ArrayList<String>();
+    while (lines.hasNext()) {
+      var line = lines.next();
+      if (!line.isBlank()) {
+        section.add(line);
+      } else if (!section.isEmpty()) {
+        break;
+      }
+    }
+    return section;
   }
 }
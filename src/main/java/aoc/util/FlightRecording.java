@@ -0,0 +1,74 @@
+package aoc.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Optional Java Flight Recorder session around a run.
+ *
+ * <p>When {@value #PROPERTY} names a file, a recording with the JDK's {@code profile} settings
+ * is started and written there on {@link #close()}. Besides the JDK's own sampling it contains
+ * the {@code aoc.*} events: one per solution phase and one per inner work item, such as a
+ * Day 10 machine or a Day 4 removal round. Without the property this does nothing.
+ */
+public final class FlightRecording implements AutoCloseable {
+
+  public static final String PROPERTY = "aoc.jfr";
+
+  private static final Logger LOG = LoggerFactory.getLogger(FlightRecording.class);
+  private static final String SETTINGS = "profile";
+
+  private final Recording recording;
+  private final Path destination;
+
+  private FlightRecording(Recording recording, Path destination) {
+    this.recording = recording;
+    this.destination = destination;
+  }
+
+  /**
+   * Starts a recording if {@value #PROPERTY} is set.
+   */
+  @Contract(" -> new")
+  public static @NotNull FlightRecording fromSystemProperties() {
+    var file = System.getProperty(PROPERTY);
+    if (file == null || file.isBlank()) {
+      return new FlightRecording(null, null);
+    }
+
+    try {
+      var recording = new Recording(Configuration.getConfiguration(SETTINGS));
+      recording.setName("aoc");
+      recording.start();
+      return new FlightRecording(recording, Path.of(file));
+    } catch (IOException | ParseException e) {
+      LOG.error("Could not start flight recording", e);
+      return new FlightRecording(null, null);
+    }
+  }
+
+  /**
+   * Stops the recording, if any, and dumps it to the requested file.
+   */
+  @Override
+  public void close() {
+    if (recording == null) {
+      return;
+    }
+
+    try (recording) {
+      recording.stop();
+      recording.dump(destination);
+      LOG.info("Flight recording written to {}", destination.toAbsolutePath());
+    } catch (IOException e) {
+      LOG.error("Could not write flight recording to {}", destination, e);
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package aoc.util;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Forward-only, line-oriented reader over a read-only {@link MemorySegment}.
+ *
+ * <p>Input is consumed one line at a time: {@link #nextLine()} moves to the next line and all
+ * other read operations are bounded by that line, returning {@code -1} or {@code false} at
+ * its end. Numbers are decoded straight from the bytes, so walking a whole file with
+ * {@code nextLine}, {@code nextInt}, {@code nextLong}, {@code skip} and {@code peekByte}
+ * allocates nothing. Input is assumed to be ASCII; a trailing {@code '\r'} is dropped from
+ * each line.
+ *
+ * <p>Cursors over mapped files own the mapping and must be closed. A cursor is not
+ * thread-safe, although the underlying segment may be read from any thread.
+ */
+public final class InputCursor implements AutoCloseable {
+
+  private static final byte NEWLINE = '\n';
+  private static final byte CARRIAGE_RETURN = '\r';
+  private static final byte SPACE = ' ';
+  private static final byte MINUS = '-';
+  // Fewer decimal digits than this always fit in a long
+  private static final int MAX_SAFE_DIGITS = 19;
+
+  private final MemorySegment segment;
+  private final Arena arena;
+  private final long start;
+  private final long size;
+
+  private long position;
+  private long lineStart;
+  private long lineEnd;
+  private long nextLineStart;
+
+  private InputCursor(@NotNull MemorySegment segment, Arena arena, long start, long end) {
+    this.segment = segment;
+    this.arena = arena;
+    this.start = start;
+    this.size = end;
+    rewind();
+  }
+
+  /**
+   * Wraps a segment whose lifetime is managed by the caller.
+   */
+  @Contract("_ -> new")
+  public static @NotNull InputCursor of(@NotNull MemorySegment segment) {
+    return new InputCursor(segment, null, 0, segment.byteSize());
+  }
+
+  /**
+   * Reads only the lines in {@code [start, end)} of a segment, which must begin at a line
+   * start; {@link #offset()} stays relative to the whole segment.
+   */
+  @Contract("_, _, _ -> new")
+  static @NotNull InputCursor of(@NotNull MemorySegment segment, long start, long end) {
+    return new InputCursor(segment, null, start, end);
+  }
+
+  /**
+   * Wraps in-memory text, mainly for tests and small inputs.
+   */
+  @Contract("_ -> new")
+  public static @NotNull InputCursor of(@NotNull String text) {
+    return of(MemorySegment.ofArray(text.getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  /**
+   * Wraps a mapped segment; closing the cursor closes {@code owner} and unmaps it.
+   */
+  @Contract("_, _ -> new")
+  static @NotNull InputCursor owning(@NotNull MemorySegment segment, @NotNull Arena owner) {
+    return new InputCursor(segment, owner, 0, segment.byteSize());
+  }
+
+  /**
+   * The whole underlying segment, independent of the cursor position.
+   */
+  public @NotNull MemorySegment segment() {
+    return segment;
+  }
+
+  /**
+   * Moves to the start of the next line.
+   *
+   * @return {@code false} once the input is exhausted
+   */
+  public boolean nextLine() {
+    if (nextLineStart >= size) {
+      position = size;
+      lineStart = size;
+      lineEnd = size;
+      return false;
+    }
+
+    lineStart = nextLineStart;
+    position = lineStart;
+    long end = lineStart;
+    while (end < size && byteAt(end) != NEWLINE) {
+      end++;
+    }
+    nextLineStart = end + 1;
+    if (end > lineStart && byteAt(end - 1) == CARRIAGE_RETURN) {
+      end--;
+    }
+    lineEnd = end;
+    return true;
+  }
+
+  /**
+   * Returns to the beginning of the input; {@link #nextLine()} must be called again.
+   */
+  public void rewind() {
+    position = start;
+    lineStart = start;
+    lineEnd = start;
+    nextLineStart = start;
+  }
+
+  /**
+   * Number of bytes in the current line, excluding the line terminator.
+   */
+  public int lineLength() {
+    return (int) (lineEnd - lineStart);
+  }
+
+  /**
+   * Byte at {@code index} within the current line, without moving the cursor.
+   */
+  public int lineByte(int index) {
+    return byteAt(lineStart + index);
+  }
+
+  /**
+   * Whether unread bytes remain on the current line.
+   */
+  public boolean hasRemaining() {
+    return position < lineEnd;
+  }
+
+  /**
+   * The next byte of the current line without consuming it, or {@code -1} at the line end.
+   */
+  public int peekByte() {
+    return position < lineEnd ? byteAt(position) : -1;
+  }
+
+  /**
+   * Consumes the next byte if it equals {@code expected}.
+   *
+   * @return whether the byte was consumed
+   */
+  public boolean skip(char expected) {
+    if (position < lineEnd && byteAt(position) == expected) {
+      position++;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Consumes any run of spaces at the cursor.
+   */
+  public void skipSpaces() {
+    while (position < lineEnd && byteAt(position) == SPACE) {
+      position++;
+    }
+  }
+
+  /**
+   * Decodes an optionally negative decimal number, skipping leading spaces.
+   *
+   * @throws NumberFormatException if no digit is found at the cursor, or the number does not
+   *     fit in a {@code long}
+   */
+  public long nextLong() {
+    skipSpaces();
+    long signStart = position;
+    boolean negative = skip((char) MINUS);
+    long start = position;
+    long value = 0;
+    while (position < lineEnd) {
+      int digit = byteAt(position) - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      value = value * 10 + digit;
+      position++;
+    }
+    if (position == start) {
+      throw new NumberFormatException("Expected a number at byte offset " + start);
+    }
+    if (position - start >= MAX_SAFE_DIGITS) {
+      // Only this many digits can overflow; let the JDK check them, and fail if they do
+      var digits = segment.asSlice(signStart, position - signStart)
+          .toArray(ValueLayout.JAVA_BYTE);
+      return Long.parseLong(new String(digits, StandardCharsets.US_ASCII));
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * Decodes an {@code int}; see {@link #nextLong()}.
+   *
+   * @throws ArithmeticException if the value does not fit in an {@code int}
+   */
+  public int nextInt() {
+    return Math.toIntExact(nextLong());
+  }
+
+  /**
+   * Decodes the unread rest of the current line as a string. Allocates.
+   */
+  public @NotNull String restOfLine() {
+    var bytes = segment.asSlice(position, lineEnd - position).toArray(ValueLayout.JAVA_BYTE);
+    position = lineEnd;
+    return new String(bytes, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Decodes every remaining line as strings, for parsers that have not been ported. Allocates.
+   */
+  public @NotNull List<String> remainingLines() {
+    var lines = new ArrayList<String>();
+    if (position < lineEnd) {
+      lines.add(restOfLine());
+    }
+    while (nextLine()) {
+      lines.add(restOfLine());
+    }
+    return lines;
+  }
+
+  /**
+   * Offset of the cursor within {@link #segment()}.
+   */
+  public long offset() {
+    return position;
+  }
+
+  /**
+   * The unread input from the cursor to the end, for bulk decoders such as
+   * {@link NumberScanner}; the cursor moves to the end of the input.
+   */
+  public @NotNull MemorySegment remaining() {
+    var rest = segment.asSlice(position, size - position);
+    position = size;
+    lineStart = size;
+    lineEnd = size;
+    nextLineStart = size;
+    return rest;
+  }
+
+  private int byteAt(long offset) {
+    return segment.get(ValueLayout.JAVA_BYTE, offset);
+  }
+
+  @Override
+  public void close() {
+    if (arena != null) {
+      arena.close();
+    }
+  }
+}
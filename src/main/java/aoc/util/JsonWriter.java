@@ -0,0 +1,87 @@
+package aoc.util;
+
+import java.util.List;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Minimal builder for flat JSON objects, used for machine-readable run reports.
+ */
+public final class JsonWriter {
+
+  private final StringBuilder json = new StringBuilder("{");
+  private boolean empty = true;
+
+  private JsonWriter() {
+  }
+
+  @Contract(" -> new")
+  public static @NotNull JsonWriter object() {
+    return new JsonWriter();
+  }
+
+  /**
+   * Joins already-encoded JSON values into an array.
+   *
+   * @param values encoded JSON values
+   * @return the encoded array
+   */
+  public static @NotNull String array(@NotNull List<String> values) {
+    return "[" + String.join(",", values) + "]";
+  }
+
+  public @NotNull JsonWriter field(@NotNull String name, @NotNull Object value) {
+    return raw(name, quote(value.toString()));
+  }
+
+  public @NotNull JsonWriter field(@NotNull String name, long value) {
+    return raw(name, Long.toString(value));
+  }
+
+  public @NotNull JsonWriter field(@NotNull String name, double value) {
+    return raw(name, Double.isFinite(value) ? Double.toString(value) : "null");
+  }
+
+  /**
+   * Adds a field whose value is already valid JSON, such as a nested object or array.
+   */
+  public @NotNull JsonWriter raw(@NotNull String name, @NotNull String encodedValue) {
+    if (!empty) {
+      json.append(',');
+    }
+    json.append(quote(name)).append(':').append(encodedValue);
+    empty = false;
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return empty;
+  }
+
+  @Override
+  public String toString() {
+    return json + "}";
+  }
+
+  private static @NotNull String quote(@NotNull String value) {
+    var quoted = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      switch (ch) {
+        case '"' -> quoted.append("\\\"");
+        case '\\' -> quoted.append("\\\\");
+        case '\n' -> quoted.append("\\n");
+        case '\r' -> quoted.append("\\r");
+        case '\t' -> quoted.append("\\t");
+        default -> {
+          if (ch < ' ') {
+            quoted.append("\\u%04x".formatted((int) ch));
+          } else {
+            quoted.append(ch);
+          }
+        }
+      }
+    }
+    return quoted.append('"').toString();
+  }
+}
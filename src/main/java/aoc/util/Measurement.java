@@ -0,0 +1,178 @@
+package aoc.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Timing statistics for repeated, warmed-up executions of a solution.
+ *
+ * <p>Allocation is read from the calling thread only, so work a solver hands to other
+ * threads (parallel streams, parallel sorts) is not included in {@code allocatedBytesPerRun}.
+ * GC counts and times cover the whole JVM during the measured window.
+ *
+ * @param iterations number of measured runs
+ * @param minNanos fastest run
+ * @param medianNanos median run
+ * @param p90Nanos 90th percentile run
+ * @param p99Nanos 99th percentile run
+ * @param maxNanos slowest run
+ * @param allocatedBytesPerRun mean bytes allocated by the calling thread per run
+ * @param gcCount garbage collections during the measured runs
+ * @param gcMillis time spent in garbage collection during the measured runs
+ */
+public record Measurement(
+    int iterations,
+    long minNanos,
+    long medianNanos,
+    long p90Nanos,
+    long p99Nanos,
+    long maxNanos,
+    long allocatedBytesPerRun,
+    long gcCount,
+    long gcMillis) {
+
+  private static final double P90 = 0.90;
+  private static final double P99 = 0.99;
+  private static final double MEDIAN = 0.50;
+  private static final long BYTES_PER_KIB = 1024;
+  private static final long BYTES_PER_MIB = BYTES_PER_KIB * BYTES_PER_KIB;
+
+  /**
+   * Runs {@code body} for the given warmup and measured iterations.
+   *
+   * @param body the work to measure; its last result is returned
+   * @param warmupIterations runs discarded before measuring
+   * @param measuredIterations runs that contribute to the statistics, at least one
+   * @param <T> result type
+   * @return the last result together with the statistics
+   */
+  public static <T> @NotNull Measured<T> measure(
+      @NotNull Supplier<T> body, int warmupIterations, int measuredIterations) {
+    if (measuredIterations < 1) {
+      throw new IllegalArgumentException("At least one measured iteration is required");
+    }
+
+    for (int i = 0; i < warmupIterations; i++) {
+      body.get();
+    }
+
+    var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long[] samples = new long[measuredIterations];
+    long gcCountBefore = totalGcCount();
+    long gcMillisBefore = totalGcMillis();
+    long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+
+    T result = null;
+    for (int i = 0; i < measuredIterations; i++) {
+      long start = System.nanoTime();
+      result = body.get();
+      samples[i] = System.nanoTime() - start;
+    }
+
+    long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    var measurement = fromSamples(samples, allocated / measuredIterations,
+        totalGcCount() - gcCountBefore, totalGcMillis() - gcMillisBefore);
+    return new Measured<>(result, measurement);
+  }
+
+  /**
+   * Builds statistics from raw per-run durations.
+   *
+   * @param samplesNanos per-run durations; sorted in place
+   */
+  @Contract("_, _, _, _ -> new")
+  public static @NotNull Measurement fromSamples(
+      long @NotNull [] samplesNanos, long allocatedBytesPerRun, long gcCount, long gcMillis) {
+    Arrays.sort(samplesNanos);
+    return new Measurement(
+        samplesNanos.length,
+        samplesNanos[0],
+        percentile(samplesNanos, MEDIAN),
+        percentile(samplesNanos, P90),
+        percentile(samplesNanos, P99),
+        samplesNanos[samplesNanos.length - 1],
+        allocatedBytesPerRun,
+        gcCount,
+        gcMillis);
+  }
+
+  /**
+   * Nearest-rank percentile of an ascending array.
+   */
+  static long percentile(long @NotNull [] sorted, double fraction) {
+    int rank = (int) Math.ceil(fraction * sorted.length);
+    return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+  }
+
+  private static long totalGcCount() {
+    long count = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, gc.getCollectionCount());
+    }
+    return count;
+  }
+
+  private static long totalGcMillis() {
+    long millis = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      millis += Math.max(0, gc.getCollectionTime());
+    }
+    return millis;
+  }
+
+  /**
+   * Single-line human-readable summary.
+   */
+  public @NotNull String toText() {
+    return "n=%d min=%s median=%s p90=%s p99=%s max=%s alloc=%s/run gc=%d (%d ms)".formatted(
+        iterations,
+        SolutionRunner.formatDuration(Duration.ofNanos(minNanos)),
+        SolutionRunner.formatDuration(Duration.ofNanos(medianNanos)),
+        SolutionRunner.formatDuration(Duration.ofNanos(p90Nanos)),
+        SolutionRunner.formatDuration(Duration.ofNanos(p99Nanos)),
+        SolutionRunner.formatDuration(Duration.ofNanos(maxNanos)),
+        formatBytes(allocatedBytesPerRun),
+        gcCount,
+        gcMillis);
+  }
+
+  /**
+   * Encodes the statistics as a JSON object builder so callers can add context fields.
+   */
+  public @NotNull JsonWriter toJson() {
+    return JsonWriter.object()
+        .field("iterations", iterations)
+        .field("minNanos", minNanos)
+        .field("medianNanos", medianNanos)
+        .field("p90Nanos", p90Nanos)
+        .field("p99Nanos", p99Nanos)
+        .field("maxNanos", maxNanos)
+        .field("allocatedBytesPerRun", allocatedBytesPerRun)
+        .field("gcCount", gcCount)
+        .field("gcMillis", gcMillis);
+  }
+
+  /**
+   * A byte count in B, KiB or MiB, whichever reads best.
+   */
+  public static @NotNull String formatBytes(long bytes) {
+    if (bytes < BYTES_PER_KIB) {
+      return bytes + " B";
+    } else if (bytes < BYTES_PER_MIB) {
+      return "%.1f KiB".formatted((double) bytes / BYTES_PER_KIB);
+    } else {
+      return "%.1f MiB".formatted((double) bytes / BYTES_PER_MIB);
+    }
+  }
+
+  /**
+   * The last result of a measured body together with its statistics.
+   */
+  public record Measured<T>(T result, @NotNull Measurement measurement) {
+  }
+}
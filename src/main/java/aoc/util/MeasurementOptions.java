@@ -0,0 +1,51 @@
+package aoc.util;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Controls whether {@link SolutionRunner} times a single cold run or a warmed-up series.
+ *
+ * <p>Read from system properties so the Gradle tasks can pass them through unchanged:
+ * <ul>
+ *   <li>{@code aoc.measure.warmup} - discarded runs before measuring (default 5)</li>
+ *   <li>{@code aoc.measure.iterations} - measured runs; measurement mode is off when absent</li>
+ *   <li>{@code aoc.measure.json} - file to append one JSON object per measured run to</li>
+ * </ul>
+ *
+ * @param warmupIterations runs discarded before measuring
+ * @param measuredIterations measured runs, zero for the classic single cold run
+ * @param jsonReport optional JSON Lines file for machine-readable results
+ */
+public record MeasurementOptions(
+    int warmupIterations, int measuredIterations, Optional<Path> jsonReport) {
+
+  public static final String WARMUP_PROPERTY = "aoc.measure.warmup";
+  public static final String ITERATIONS_PROPERTY = "aoc.measure.iterations";
+  public static final String JSON_PROPERTY = "aoc.measure.json";
+
+  private static final int DEFAULT_WARMUP = 5;
+
+  public MeasurementOptions {
+    if (warmupIterations < 0 || measuredIterations < 0) {
+      throw new IllegalArgumentException("Iteration counts must not be negative");
+    }
+  }
+
+  @Contract(" -> new")
+  public static @NotNull MeasurementOptions fromSystemProperties() {
+    return new MeasurementOptions(
+        Integer.getInteger(WARMUP_PROPERTY, DEFAULT_WARMUP),
+        Integer.getInteger(ITERATIONS_PROPERTY, 0),
+        Optional.ofNullable(System.getProperty(JSON_PROPERTY)).map(Path::of));
+  }
+
+  /**
+   * Whether repeated measurement is requested instead of a single cold run.
+   */
+  public boolean enabled() {
+    return measuredIterations > 0;
+  }
+}
@@ -0,0 +1,126 @@
+package aoc.util;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Folds the lines of a newline-separated input in parallel, straight from its bytes.
+ *
+ * <p>The input is split recursively into byte ranges that end on line boundaries, about four
+ * per fork-join worker. Each range is a task that walks its lines with its own
+ * {@link InputCursor} into its own accumulator; accumulators are combined in input order as
+ * the tasks join. Tasks run in the {@link RunContext#pool() run context's pool}, so the
+ * per-line function runs concurrently and may only share thread-safe state.
+ *
+ * <p>This suits days whose lines are independent records: each line can be parsed and solved
+ * in the same pass, and no {@code List<String>} or list of parsed records is ever built.
+ */
+public final class ParallelLines {
+
+  private static final int CHUNKS_PER_WORKER = 4;
+  private static final long MIN_CHUNK_BYTES = 1024;
+  private static final byte NEWLINE = '\n';
+
+  private ParallelLines() {
+  }
+
+  /**
+   * Sums {@code line} over every line of {@code input}.
+   *
+   * @param line called with a cursor positioned at the start of each line, blank ones included
+   */
+  public static long sum(@NotNull MemorySegment input, @NotNull ToLongFunction<InputCursor> line) {
+    long[] total = fold(input, () -> new long[1],
+        (sum, cursor) -> sum[0] += line.applyAsLong(cursor),
+        (left, right) -> {
+          left[0] += right[0];
+          return left;
+        });
+    return total[0];
+  }
+
+  /**
+   * Folds every line of {@code input} into per-chunk accumulators and combines them.
+   *
+   * @param newAccumulator creates the accumulator for one chunk
+   * @param line called with a chunk's accumulator and a cursor positioned at the start of each
+   *     line, blank ones included
+   * @param combine merges the accumulators of two adjacent chunks, earlier chunk first
+   */
+  public static <A> A fold(@NotNull MemorySegment input, @NotNull Supplier<A> newAccumulator,
+      @NotNull BiConsumer<A, InputCursor> line, @NotNull BinaryOperator<A> combine) {
+    var pool = RunContext.pool();
+    long chunkBytes = Math.max(MIN_CHUNK_BYTES,
+        input.byteSize() / ((long) pool.getParallelism() * CHUNKS_PER_WORKER));
+    return pool.invoke(
+        new Chunk<>(input, 0, input.byteSize(), chunkBytes, newAccumulator, line, combine));
+  }
+
+  /**
+   * Offset just past the first newline at or after {@code from}, or {@code end} if none.
+   */
+  private static long nextLineStart(@NotNull MemorySegment input, long from, long end) {
+    for (long offset = from; offset < end; offset++) {
+      if (input.get(ValueLayout.JAVA_BYTE, offset) == NEWLINE) {
+        return offset + 1;
+      }
+    }
+    return end;
+  }
+
+  private static final class Chunk<A> extends RecursiveTask<A> {
+
+    private final transient MemorySegment input;
+    private final long start;
+    private final long end;
+    private final long chunkBytes;
+    private final transient Supplier<A> newAccumulator;
+    private final transient BiConsumer<A, InputCursor> line;
+    private final transient BinaryOperator<A> combine;
+
+    Chunk(MemorySegment input, long start, long end, long chunkBytes, Supplier<A> newAccumulator,
+        BiConsumer<A, InputCursor> line, BinaryOperator<A> combine) {
+      this.input = input;
+      this.start = start;
+      this.end = end;
+      this.chunkBytes = chunkBytes;
+      this.newAccumulator = newAccumulator;
+      this.line = line;
+      this.combine = combine;
+    }
+
+    @Override
+    protected A compute() {
+      long middle = end - start > chunkBytes
+          ? nextLineStart(input, start + (end - start) / 2, end)
+          : end;
+      if (middle >= end) {
+        return foldLines();
+      }
+
+      var left = split(start, middle);
+      left.fork();
+      A right = split(middle, end).compute();
+      return combine.apply(left.join(), right);
+    }
+
+    private Chunk<A> split(long from, long to) {
+      return new Chunk<>(input, from, to, chunkBytes, newAccumulator, line, combine);
+    }
+
+    private A foldLines() {
+      A accumulator = newAccumulator.get();
+      var cursor = InputCursor.of(input, start, end);
+      while (cursor.nextLine()) {
+        line.accept(accumulator, cursor);
+      }
+      return accumulator;
+    }
+  }
+}
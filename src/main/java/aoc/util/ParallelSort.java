@@ -0,0 +1,198 @@
+package aoc.util;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Parallel merge sort of a {@code long[]} in the {@link RunContext} pool.
+ *
+ * <p>{@link Arrays#parallelSort(long[])} always sizes its work from the common pool, so it
+ * cannot be pinned or scaled with a dedicated pool. This one splits the array into about four
+ * runs per worker, sorts the runs with {@link Arrays#sort(long[], int, int)} in parallel, and
+ * merges adjacent runs in parallel through a scratch array of the same length.
+ *
+ * <p>Segments of {@code long}s sort the same way. Off-heap ones, which may be longer than any
+ * array, sort each run in a heap array of at most {@value #MAX_HEAP_RUN_LENGTH} values and merge
+ * through an off-heap scratch segment. Under {@link RunContext#withStorage} the scratch comes
+ * from the bound arena, so it is counted with the solve's other storage and freed with it;
+ * otherwise it is freed when the sort returns.
+ */
+public final class ParallelSort {
+
+  private static final int CHUNKS_PER_WORKER = 4;
+  private static final int MIN_CHUNK_LENGTH = 1 << 13;
+  private static final int MAX_HEAP_RUN_LENGTH = 1 << 20;
+
+  private ParallelSort() {
+  }
+
+  public static void sort(long @NotNull [] values) {
+    sort(values, RunContext.pool());
+  }
+
+  static void sort(long @NotNull [] values, @NotNull ForkJoinPool pool) {
+    int workers = pool.getParallelism();
+    int chunkLength = Math.max(MIN_CHUNK_LENGTH, values.length / (workers * CHUNKS_PER_WORKER));
+    if (workers == 1 || values.length <= chunkLength) {
+      Arrays.sort(values);
+      return;
+    }
+    pool.invoke(new SortTask(values, new long[values.length], 0, values.length, chunkLength));
+  }
+
+  /**
+   * Sorts a segment of {@code long}s. A segment over a whole heap {@code long[]} sorts as that
+   * array.
+   */
+  public static void sort(@NotNull MemorySegment values) {
+    sort(values, RunContext.pool());
+  }
+
+  static void sort(@NotNull MemorySegment values, @NotNull ForkJoinPool pool) {
+    if (values.heapBase().orElse(null) instanceof long[] array
+        && (long) array.length * Long.BYTES == values.byteSize()) {
+      sort(array, pool);
+      return;
+    }
+    long length = values.byteSize() / Long.BYTES;
+    long runLength = Math.clamp(length / ((long) pool.getParallelism() * CHUNKS_PER_WORKER),
+        MIN_CHUNK_LENGTH, MAX_HEAP_RUN_LENGTH);
+    if (length <= runLength) {
+      SegmentSortTask.sortRun(values, 0, length);
+      return;
+    }
+    if (RunContext.hasStorage()) {
+      var scratch = RunContext.allocateLongs(length);
+      pool.invoke(new SegmentSortTask(values, scratch, 0, length, runLength));
+      return;
+    }
+    try (var arena = Arena.ofShared()) {
+      var scratch = arena.allocate(values.byteSize(), Long.BYTES);
+      pool.invoke(new SegmentSortTask(values, scratch, 0, length, runLength));
+    }
+  }
+
+  private static final class SortTask extends RecursiveAction {
+
+    private final long[] values;
+    private final long[] scratch;
+    private final int from;
+    private final int to;
+    private final int chunkLength;
+
+    SortTask(long[] values, long[] scratch, int from, int to, int chunkLength) {
+      this.values = values;
+      this.scratch = scratch;
+      this.from = from;
+      this.to = to;
+      this.chunkLength = chunkLength;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunkLength) {
+        Arrays.sort(values, from, to);
+        return;
+      }
+
+      int middle = (from + to) >>> 1;
+      invokeAll(new SortTask(values, scratch, from, middle, chunkLength),
+          new SortTask(values, scratch, middle, to, chunkLength));
+      merge(middle);
+    }
+
+    private void merge(int middle) {
+      if (values[middle - 1] <= values[middle]) {
+        return;
+      }
+      int left = from;
+      int right = middle;
+      int out = from;
+      while (left < middle && right < to) {
+        scratch[out++] = values[left] <= values[right] ? values[left++] : values[right++];
+      }
+      System.arraycopy(values, left, scratch, out, middle - left);
+      out += middle - left;
+      System.arraycopy(values, right, scratch, out, to - right);
+      System.arraycopy(scratch, from, values, from, to - from);
+    }
+  }
+
+  /**
+   * {@link SortTask} over segments, with {@code long} indices.
+   */
+  private static final class SegmentSortTask extends RecursiveAction {
+
+    private final MemorySegment values;
+    private final MemorySegment scratch;
+    private final long from;
+    private final long to;
+    private final long runLength;
+
+    SegmentSortTask(MemorySegment values, MemorySegment scratch, long from, long to,
+                    long runLength) {
+      this.values = values;
+      this.scratch = scratch;
+      this.from = from;
+      this.to = to;
+      this.runLength = runLength;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= runLength) {
+        sortRun(values, from, to);
+        return;
+      }
+
+      long middle = (from + to) >>> 1;
+      invokeAll(new SegmentSortTask(values, scratch, from, middle, runLength),
+          new SegmentSortTask(values, scratch, middle, to, runLength));
+      merge(middle);
+    }
+
+    static void sortRun(@NotNull MemorySegment values, long from, long to) {
+      long[] run = values.asSlice(from * Long.BYTES, (to - from) * Long.BYTES)
+          .toArray(ValueLayout.JAVA_LONG);
+      Arrays.sort(run);
+      MemorySegment.copy(MemorySegment.ofArray(run), 0, values, from * Long.BYTES,
+          (to - from) * Long.BYTES);
+    }
+
+    private void merge(long middle) {
+      if (get(values, middle - 1) <= get(values, middle)) {
+        return;
+      }
+      long left = from;
+      long right = middle;
+      long out = from;
+      while (left < middle && right < to) {
+        long leftValue = get(values, left);
+        long rightValue = get(values, right);
+        if (leftValue <= rightValue) {
+          scratch.setAtIndex(ValueLayout.JAVA_LONG, out++, leftValue);
+          left++;
+        } else {
+          scratch.setAtIndex(ValueLayout.JAVA_LONG, out++, rightValue);
+          right++;
+        }
+      }
+      MemorySegment.copy(values, left * Long.BYTES, scratch, out * Long.BYTES,
+          (middle - left) * Long.BYTES);
+      out += middle - left;
+      MemorySegment.copy(values, right * Long.BYTES, scratch, out * Long.BYTES,
+          (to - right) * Long.BYTES);
+      MemorySegment.copy(scratch, from * Long.BYTES, values, from * Long.BYTES,
+          (to - from) * Long.BYTES);
+    }
+
+    private static long get(@NotNull MemorySegment segment, long index) {
+      return segment.getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package aoc.util;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Execution settings that runners hand to the solver code running under them.
+ *
+ * <p>Parallel solvers take their fork-join pool from {@link #pool()} instead of hard-wiring the
+ * common pool, so a runner can pin, size or isolate them. {@link #withPool} binds a pool for
+ * the extent of one call through a {@link ScopedValue}. Code that is already running inside a
+ * fork-join task keeps using that task's pool, so nested parallel steps stay in the same pool.
+ *
+ * <p>Solvers also take their largest primitive arrays from {@link #allocateBytes},
+ * {@link #allocateInts} and {@link #allocateLongs}. These are heap arrays unless
+ * {@link #withStorage} binds an arena, in which case they live off the heap until the runner
+ * closes the arena. Like the pool, the arena is not seen by fork-join tasks, so a solver
+ * allocates before it forks.
+ */
+public final class RunContext {
+
+  private static final ScopedValue<ForkJoinPool> POOL = ScopedValue.newInstance();
+  private static final ScopedValue<Arena> STORAGE = ScopedValue.newInstance();
+
+  private RunContext() {
+  }
+
+  /**
+   * The pool parallel solver steps should run in: the current task's pool, else the pool bound
+   * by {@link #withPool}, else the common pool.
+   */
+  public static @NotNull ForkJoinPool pool() {
+    var current = ForkJoinTask.getPool();
+    if (current != null) {
+      return current;
+    }
+    return POOL.orElse(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Runs {@code body} on the calling thread with {@code pool} as its {@link #pool()}.
+   */
+  public static <T> T withPool(@NotNull ForkJoinPool pool, @NotNull Supplier<T> body) {
+    return ScopedValue.where(POOL, pool).call(body::get);
+  }
+
+  /**
+   * Runs {@code body} on the calling thread with its large arrays allocated from {@code arena}.
+   * The arena must be usable from every thread the solver uses, and must stay open as long as
+   * anything {@code body} returns refers to those arrays.
+   */
+  public static <T> T withStorage(@NotNull Arena arena, @NotNull Supplier<T> body) {
+    return ScopedValue.where(STORAGE, arena).call(body::get);
+  }
+
+  /**
+   * Whether {@link #withStorage} bound an arena for the calling thread.
+   */
+  static boolean hasStorage() {
+    return STORAGE.isBound();
+  }
+
+  /**
+   * Zeroed storage for {@code count} bytes, from the bound arena or else a heap array.
+   *
+   * @throws IllegalArgumentException if no arena is bound and a heap array cannot be that long
+   */
+  public static @NotNull MemorySegment allocateBytes(long count) {
+    if (STORAGE.isBound()) {
+      return STORAGE.get().allocate(count, 1);
+    }
+    return MemorySegment.ofArray(new byte[heapLength(count, "bytes")]);
+  }
+
+  /**
+   * Zeroed storage for {@code count} ints, from the bound arena or else a heap array.
+   *
+   * @throws IllegalArgumentException if no arena is bound and a heap array cannot be that long
+   */
+  public static @NotNull MemorySegment allocateInts(long count) {
+    if (STORAGE.isBound()) {
+      return STORAGE.get().allocate(Math.multiplyExact(count, Integer.BYTES), Integer.BYTES);
+    }
+    return MemorySegment.ofArray(new int[heapLength(count, "ints")]);
+  }
+
+  /**
+   * Zeroed storage for {@code count} longs, from the bound arena or else a heap array.
+   *
+   * @throws IllegalArgumentException if no arena is bound and a heap array cannot be that long
+   */
+  public static @NotNull MemorySegment allocateLongs(long count) {
+    if (STORAGE.isBound()) {
+      return STORAGE.get().allocate(Math.multiplyExact(count, Long.BYTES), Long.BYTES);
+    }
+    return MemorySegment.ofArray(new long[heapLength(count, "longs")]);
+  }
+
+  private static int heapLength(long count, @NotNull String unit) {
+    // The largest array length every JVM accepts
+    if (count < 0 || count > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException(
+          "Cannot hold " + count + " " + unit + " in a heap array; use off-heap storage");
+    }
+    return (int) count;
+  }
+}
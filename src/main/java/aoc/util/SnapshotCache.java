@@ -0,0 +1,262 @@
+package aoc.util;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache for expensive derived primitive arrays, keyed by a content hash of the input
+ * they were built from and the version of the code that built them.
+ *
+ * <p>Disabled unless {@value #DIR_PROPERTY} names a directory. A hit memory-maps the stored
+ * array and returns it without copying; a miss computes the array, writes it, and evicts the
+ * least recently used snapshots once the directory exceeds {@value #MAX_BYTES_PROPERTY} bytes
+ * (1 GiB by default). Bumping a key's version orphans older snapshots of that name, which are
+ * deleted on the next write. Cache failures are logged and fall back to computing.
+ */
+public final class SnapshotCache {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SnapshotCache.class);
+
+  private static final String DIR_PROPERTY = "aoc.snapshot.dir";
+  private static final String MAX_BYTES_PROPERTY = "aoc.snapshot.maxBytes";
+  private static final long DEFAULT_MAX_BYTES = 1L << 30;
+  private static final String EXTENSION = ".bin";
+
+  private static final long MAGIC = 0x3150414e_53434f41L; // "AOCSNAP1" little-endian
+  private static final long HEADER_BYTES = 2 * Long.BYTES;
+
+  private SnapshotCache() {
+  }
+
+  /**
+   * Returns the cached array for {@code key}, or computes and caches it.
+   *
+   * @param key identifies the input and code version the array derives from
+   * @param compute builds the array on a miss
+   * @return the array as a read-only segment of {@code long}s
+   */
+  public static @NotNull MemorySegment longs(@NotNull Key key, @NotNull Supplier<long[]> compute) {
+    return longSegment(key, () -> MemorySegment.ofArray(compute.get()));
+  }
+
+  /**
+   * Like {@link #longs}, for an array built as a segment of {@code long}s, such as off-heap
+   * storage. On a miss the computed segment itself is returned read-only, so it stays valid
+   * only as long as the arena it came from.
+   */
+  public static @NotNull MemorySegment longSegment(@NotNull Key key,
+                                                   @NotNull Supplier<MemorySegment> compute) {
+    var directory = directory();
+    if (directory.isEmpty()) {
+      return compute.get().asReadOnly();
+    }
+
+    var path = directory.get().resolve(key.fileName());
+    var cached = load(path);
+    if (cached.isPresent()) {
+      LOG.debug("Snapshot hit {}", path);
+      return cached.get();
+    }
+
+    var values = compute.get();
+    try {
+      store(path, values);
+      deleteOtherVersions(directory.get(), key);
+      evict(directory.get(), maxBytes());
+    } catch (IOException e) {
+      LOG.warn("Could not write snapshot {}", path, e);
+    }
+    return values.asReadOnly();
+  }
+
+  /**
+   * Starts a key for snapshots called {@code name}; bump {@code version} whenever the code
+   * producing them changes.
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull Key key(@NotNull String name, int version) {
+    return new Key(name, version);
+  }
+
+  private static @NotNull Optional<Path> directory() {
+    return Optional.ofNullable(System.getProperty(DIR_PROPERTY)).map(Path::of);
+  }
+
+  private static long maxBytes() {
+    return Long.getLong(MAX_BYTES_PROPERTY, DEFAULT_MAX_BYTES);
+  }
+
+  private static @NotNull Optional<MemorySegment> load(@NotNull Path path) {
+    if (!Files.isRegularFile(path)) {
+      return Optional.empty();
+    }
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = channel.size();
+      // The auto arena unmaps the file once the segment is no longer reachable
+      var file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, Arena.ofAuto());
+      if (size < HEADER_BYTES
+          || file.get(ValueLayout.JAVA_LONG, 0) != MAGIC
+          || file.get(ValueLayout.JAVA_LONG, Long.BYTES) * Long.BYTES != size - HEADER_BYTES) {
+        LOG.warn("Discarding corrupt snapshot {}", path);
+        Files.deleteIfExists(path);
+        return Optional.empty();
+      }
+      Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+      return Optional.of(file.asSlice(HEADER_BYTES));
+    } catch (IOException e) {
+      LOG.warn("Could not read snapshot {}", path, e);
+      return Optional.empty();
+    }
+  }
+
+  private static void store(@NotNull Path path, @NotNull MemorySegment values)
+      throws IOException {
+    Files.createDirectories(path.getParent());
+    var temp = Files.createTempFile(path.getParent(), "snapshot", ".tmp");
+    try {
+      long size = HEADER_BYTES + values.byteSize();
+      try (var arena = Arena.ofConfined();
+           var channel = FileChannel.open(temp, StandardOpenOption.READ,
+               StandardOpenOption.WRITE)) {
+        var file = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+        file.set(ValueLayout.JAVA_LONG, 0, MAGIC);
+        file.set(ValueLayout.JAVA_LONG, Long.BYTES, values.byteSize() / Long.BYTES);
+        MemorySegment.copy(values, 0, file, HEADER_BYTES, values.byteSize());
+        file.force();
+      }
+      Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private static void deleteOtherVersions(@NotNull Path directory, @NotNull Key key)
+      throws IOException {
+    var current = key.versionPrefix();
+    for (var path : snapshots(directory)) {
+      var fileName = path.getFileName().toString();
+      if (fileName.startsWith(key.namePrefix()) && !fileName.startsWith(current)) {
+        Files.deleteIfExists(path);
+      }
+    }
+  }
+
+  private static void evict(@NotNull Path directory, long maxBytes) throws IOException {
+    var files = new ArrayList<Path>(snapshots(directory));
+    long total = 0;
+    for (var file : files) {
+      total += Files.size(file);
+    }
+    if (total <= maxBytes) {
+      return;
+    }
+
+    files.sort(Comparator.comparing(SnapshotCache::lastModified));
+    for (var file : files) {
+      if (total <= maxBytes) {
+        break;
+      }
+      total -= Files.size(file);
+      Files.deleteIfExists(file);
+      LOG.debug("Evicted snapshot {}", file);
+    }
+  }
+
+  private static @NotNull List<Path> snapshots(@NotNull Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(file -> file.getFileName().toString().endsWith(EXTENSION)).toList();
+    }
+  }
+
+  private static @NotNull FileTime lastModified(@NotNull Path path) {
+    try {
+      return Files.getLastModifiedTime(path);
+    } catch (IOException e) {
+      return FileTime.fromMillis(0);
+    }
+  }
+
+  /**
+   * Snapshot identity: a name, a code version and a SHA-256 digest of the source data.
+   */
+  public static final class Key {
+
+    private final String name;
+    private final int version;
+    private final MessageDigest digest;
+    private String hash;
+
+    private Key(@NotNull String name, int version) {
+      this.name = name;
+      this.version = version;
+      try {
+        this.digest = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is required by every Java platform", e);
+      }
+    }
+
+    /**
+     * Adds an array to the hashed content, including its length.
+     */
+    @Contract("_ -> this")
+    public @NotNull Key add(int @NotNull [] values) {
+      add(values.length);
+      var bytes = new byte[values.length * Integer.BYTES];
+      MemorySegment.copy(values, 0, MemorySegment.ofArray(bytes), ValueLayout.JAVA_INT_UNALIGNED,
+          0, values.length);
+      digest.update(bytes);
+      return this;
+    }
+
+    /**
+     * Adds a single value to the hashed content.
+     */
+    @Contract("_ -> this")
+    public @NotNull Key add(long value) {
+      if (hash != null) {
+        throw new IllegalStateException("Key " + name + " is already in use");
+      }
+      for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+        digest.update((byte) (value >>> shift));
+      }
+      return this;
+    }
+
+    private @NotNull String namePrefix() {
+      return name + "-v";
+    }
+
+    private @NotNull String versionPrefix() {
+      return namePrefix() + version + "-";
+    }
+
+    private @NotNull String fileName() {
+      if (hash == null) {
+        hash = HexFormat.of().formatHex(digest.digest());
+      }
+      return versionPrefix() + hash + EXTENSION;
+    }
+  }
+}
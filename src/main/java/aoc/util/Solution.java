@@ -0,0 +1,84 @@
+package aoc.util;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A single day's puzzle, split into a parse phase and two independent parts.
+ *
+ * <p>Implementations are registered in {@code META-INF/services/aoc.util.Solution} so runners
+ * can discover and drive every day in-process through {@link java.util.ServiceLoader}.
+ *
+ * @param <T> the parsed input shared by both parts
+ */
+public interface Solution<T> {
+
+  /**
+   * What {@link #part2} returns for a day without a second part.
+   */
+  String NO_ANSWER = "-";
+
+  /**
+   * The puzzle day, 1-based.
+   */
+  int day();
+
+  /**
+   * Parses raw input lines into the model both parts operate on.
+   */
+  @NotNull T parse(@NotNull List<String> lines);
+
+  /**
+   * Parses from a lazy line source, such as {@link FileUtils#streamLines(String)}, which the
+   * runner uses to read input files. Days that can parse a section at a time override this
+   * so that the whole input is never held; the default collects the lines.
+   */
+  default @NotNull T parse(@NotNull Stream<String> lines) {
+    return parse(lines.toList());
+  }
+
+  /**
+   * Parses straight from a mapped input. Days with a ported parser override this; the default
+   * decodes the remaining lines and delegates to {@link #parse(List)}.
+   */
+  default @NotNull T parse(@NotNull InputCursor cursor) {
+    return parse(cursor.remainingLines());
+  }
+
+  @NotNull Object part1(@NotNull T input);
+
+  /**
+   * Solves part 2, or returns {@link #NO_ANSWER} if the day has none.
+   */
+  @NotNull Object part2(@NotNull T input);
+
+  /**
+   * Whether {@link #part2} has an answer to compute; runners skip timing it when it does not.
+   */
+  default boolean hasPart2() {
+    return true;
+  }
+
+  /**
+   * Alternative implementations of the parts, checked against {@link #part1} and
+   * {@link #part2} and timed alongside them. Most days have none.
+   */
+  default @NotNull List<Strategy<T>> strategies() {
+    return List.of();
+  }
+
+  /**
+   * Resource-relative input name understood by {@link FileUtils#readLines(String)}.
+   */
+  default @NotNull String inputName() {
+    return "day%02d/input".formatted(day());
+  }
+
+  /**
+   * Rough single-run cost, used to schedule the slowest days first when running in parallel.
+   */
+  default long expectedMillis() {
+    return 1;
+  }
+}
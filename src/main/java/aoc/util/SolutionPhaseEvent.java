@@ -0,0 +1,55 @@
+package aoc.util;
+
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Flight Recorder event spanning one phase of a solution run: parsing, part 1 or part 2.
+ */
+@Name("aoc.SolutionPhase")
+@Label("Solution Phase")
+@Category({"Advent of Code", "Runner"})
+@Description("Parsing or solving one part of a day's puzzle")
+@StackTrace(false)
+final class SolutionPhaseEvent extends Event {
+
+  static final String PARSE = "parse";
+  static final String PART_1 = "part1";
+  static final String PART_2 = "part2";
+
+  @Label("Day")
+  int day;
+
+  @Label("Phase")
+  String phase;
+
+  @Label("Input Size")
+  @Description("Size of the raw input the phase works on")
+  @DataAmount(DataAmount.BYTES)
+  long inputBytes;
+
+  /**
+   * Runs {@code step}, recording it as {@code phase} of {@code day} when the event is enabled.
+   */
+  static <R> R record(
+      int day, @NotNull String phase, long inputBytes, @NotNull Supplier<R> step) {
+    var event = new SolutionPhaseEvent();
+    event.begin();
+    R result = step.get();
+    event.end();
+    if (event.shouldCommit()) {
+      event.day = day;
+      event.phase = phase;
+      event.inputBytes = inputBytes;
+      event.commit();
+    }
+    return result;
+  }
+}
@@ -1,12 +1,39 @@
 package aoc.util;
 
+import aoc.util.metrics.Metrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 
 /**
  * Utility for running and timing Advent of Code solutions.
+ *
+ * <p>By default a solution is timed once, cold. When {@link MeasurementOptions} enables
+ * measurement mode the solution is warmed up and run repeatedly, and the runner reports
+ * percentiles, allocation and GC activity instead.
+ *
+ * <p>Inputs are read lazily through {@link Solution#parse(java.util.stream.Stream)}, so a day
+ * that parses section by section never holds the whole file. Setting
+ * {@value #MAPPED_INPUT_PROPERTY} parses inputs through a memory-mapped
+ * {@link InputCursor} instead. Each parse and part is emitted as a
+ * Flight Recorder event, and {@value FlightRecording#PROPERTY} records a whole run to a file.
+ * Solver {@link Metrics} for the day are logged as JSON after the run.
+ *
+ * <p>Setting {@value #CONCURRENT_PARTS_PROPERTY} solves the two parts of a day side by side
+ * through {@link ConcurrentParts}, and logs how long each part took in its own thread.
+ * {@value #OFF_HEAP_PROPERTY} gives each solve a {@link CountingArena} of its own, bound
+ * through {@link RunContext#withStorage}, so the solvers' largest arrays live off the heap.
+ * The arena is closed as soon as the solve returns, and the bytes it held are logged.
  */
 public final class SolutionRunner {
 
@@ -14,6 +41,9 @@ public final class SolutionRunner {
   private static final long NANOS_PER_MILLISECOND = 1_000_000;
   private static final long MILLIS_PER_SECOND = 1000;
   private static final double MILLIS_TO_SECONDS = 1000.0;
+  private static final String MAPPED_INPUT_PROPERTY = "aoc.input.mapped";
+  static final String CONCURRENT_PARTS_PROPERTY = "aoc.parts.concurrent";
+  private static final String OFF_HEAP_PROPERTY = "aoc.offheap";
 
   private SolutionRunner() {
   }
@@ -25,6 +55,17 @@ public final class SolutionRunner {
    * @param solution supplier that computes and returns results
    */
   public static void run(@NotNull Logger log, @NotNull Supplier<Results> solution) {
+    var options = MeasurementOptions.fromSystemProperties();
+    if (options.enabled()) {
+      var measured = Measurement.measure(
+          solution, options.warmupIterations(), options.measuredIterations());
+      var results = measured.result();
+      log.info("Part 1: {}", results.part1());
+      log.info("Part 2: {}", results.part2());
+      report(log, options, measured.measurement(), results);
+      return;
+    }
+
     long start = System.nanoTime();
     var results = solution.get();
     long elapsed = System.nanoTime() - start;
@@ -35,6 +76,169 @@ public final class SolutionRunner {
     log.info("Completed in {}", formatDuration(Duration.ofNanos(elapsed)));
   }
 
+  /**
+   * Reads a solution's input and runs it, timing parsing and both parts together.
+   *
+   * @param log the logger to use
+   * @param solution the solution to run
+   * @param <T> the solution's parsed input type
+   */
+  public static <T> void run(@NotNull Logger log, @NotNull Solution<T> solution) {
+    var metricsPrefix = Metrics.dayPrefix(solution.day());
+    Metrics.reset(metricsPrefix);
+    try (var _ = FlightRecording.fromSystemProperties()) {
+      if (Boolean.getBoolean(MAPPED_INPUT_PROPERTY)) {
+        runMapped(log, solution);
+      } else {
+        runLines(log, solution);
+      }
+    }
+    reportMetrics(log, metricsPrefix);
+  }
+
+  /**
+   * Logs a day's solver metrics as one JSON object. In measurement mode they add up over every
+   * warmup and measured iteration.
+   */
+  private static void reportMetrics(@NotNull Logger log, @NotNull String prefix) {
+    var metrics = Metrics.toJson(prefix);
+    if (Metrics.ENABLED && !metrics.isEmpty()) {
+      log.info("Metrics: {}", metrics);
+    }
+  }
+
+  private static <T> void runLines(@NotNull Logger log, @NotNull Solution<T> solution) {
+    long inputBytes;
+    try {
+      inputBytes = Files.size(FileUtils.inputPath(solution.inputName()));
+    } catch (IOException e) {
+      log.error("Error reading input", e);
+      return;
+    }
+
+    // Every run reads the file again, so parse timings include reading it
+    runParsed(log, solution, inputBytes, () -> {
+      try (var lines = FileUtils.streamLines(solution.inputName())) {
+        return solution.parse(lines);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  private static <T> void runMapped(@NotNull Logger log, @NotNull Solution<T> solution) {
+    try (var cursor = FileUtils.map(solution.inputName())) {
+      long inputBytes = cursor.segment().byteSize();
+      runParsed(log, solution, inputBytes, () -> {
+        cursor.rewind();
+        return solution.parse(cursor);
+      });
+    } catch (IOException e) {
+      log.error("Error reading input", e);
+    }
+  }
+
+  private static <T> void runParsed(@NotNull Logger log, @NotNull Solution<T> solution,
+                                    long inputBytes, @NotNull Supplier<T> parse) {
+    var offHeapBytes = new AtomicLong(-1);
+    if (!solution.hasPart2()) {
+      runSingle(log, offHeap(offHeapBytes,
+          () -> part1(solution, parse(solution, inputBytes, parse), inputBytes)));
+    } else if (Boolean.getBoolean(CONCURRENT_PARTS_PROPERTY)) {
+      // Timings of the last run; in measurement mode every run overwrites them
+      var timed = new AtomicReference<ConcurrentParts.Timed>();
+      run(log, offHeap(offHeapBytes, () -> {
+        timed.set(ConcurrentParts.solve(
+            solution, parse(solution, inputBytes, parse), inputBytes));
+        return timed.get().results();
+      }));
+      log.info("Parts ran concurrently: part 1 took {}, part 2 took {}",
+          formatDuration(Duration.ofNanos(timed.get().part1Nanos())),
+          formatDuration(Duration.ofNanos(timed.get().part2Nanos())));
+    } else {
+      run(log, offHeap(offHeapBytes,
+          () -> solveParsed(solution, parse(solution, inputBytes, parse), inputBytes)));
+    }
+    if (offHeapBytes.get() >= 0) {
+      log.info("Off-heap: {} per solve", Measurement.formatBytes(offHeapBytes.get()));
+    }
+  }
+
+  /**
+   * Wraps {@code solve} to run in an arena of its own when {@value #OFF_HEAP_PROPERTY} is set,
+   * storing the bytes the last run allocated in {@code allocatedBytes}.
+   */
+  private static <R> @NotNull Supplier<R> offHeap(@NotNull AtomicLong allocatedBytes,
+                                                  @NotNull Supplier<R> solve) {
+    if (!Boolean.getBoolean(OFF_HEAP_PROPERTY)) {
+      return solve;
+    }
+    return () -> {
+      // Closing frees everything the solve allocated, so nothing it returns may refer to it
+      try (var arena = new CountingArena()) {
+        var result = RunContext.withStorage(arena, solve);
+        allocatedBytes.set(arena.allocatedBytes());
+        return result;
+      }
+    };
+  }
+
+  /**
+   * Parses the input and solves every part of a solution without timing or logging.
+   *
+   * @param solution the solution to run
+   * @param lines the raw input lines
+   * @param <T> the solution's parsed input type
+   * @return the answers; part 2 is {@link Solution#NO_ANSWER} for single-part days
+   */
+  public static <T> @NotNull Results solve(
+      @NotNull Solution<T> solution, @NotNull List<String> lines) {
+    long inputBytes = byteCount(lines);
+    var input = parse(solution, inputBytes, () -> solution.parse(lines));
+    return solveParsed(solution, input, inputBytes);
+  }
+
+  /**
+   * Like {@link #solve(Solution, List)}, parsing the rest of {@code cursor} with the day's
+   * byte parser instead of decoded lines.
+   */
+  public static <T> @NotNull Results solve(
+      @NotNull Solution<T> solution, @NotNull InputCursor cursor) {
+    long inputBytes = cursor.segment().byteSize() - cursor.offset();
+    var input = parse(solution, inputBytes, () -> solution.parse(cursor));
+    return solveParsed(solution, input, inputBytes);
+  }
+
+  private static <T> @NotNull Results solveParsed(
+      @NotNull Solution<T> solution, @NotNull T input, long inputBytes) {
+    var part1 = part1(solution, input, inputBytes);
+    var part2 = solution.hasPart2()
+        ? SolutionPhaseEvent.record(solution.day(), SolutionPhaseEvent.PART_2, inputBytes,
+            () -> solution.part2(input))
+        : Solution.NO_ANSWER;
+    return new Results(part1, part2);
+  }
+
+  private static <T> @NotNull T parse(
+      @NotNull Solution<T> solution, long inputBytes, @NotNull Supplier<T> parser) {
+    return SolutionPhaseEvent.record(
+        solution.day(), SolutionPhaseEvent.PARSE, inputBytes, parser);
+  }
+
+  private static <T> @NotNull Object part1(
+      @NotNull Solution<T> solution, @NotNull T input, long inputBytes) {
+    return SolutionPhaseEvent.record(solution.day(), SolutionPhaseEvent.PART_1, inputBytes,
+        () -> solution.part1(input));
+  }
+
+  private static long byteCount(@NotNull List<String> lines) {
+    long bytes = 0;
+    for (var line : lines) {
+      bytes += line.length() + 1;
+    }
+    return bytes;
+  }
+
   /**
    * Runs and times a single-part solution.
    *
@@ -42,6 +246,16 @@ public final class SolutionRunner {
    * @param solution supplier that computes and returns the result
    */
   public static void runSingle(@NotNull Logger log, @NotNull Supplier<Object> solution) {
+    var options = MeasurementOptions.fromSystemProperties();
+    if (options.enabled()) {
+      var measured = Measurement.measure(
+          solution, options.warmupIterations(), options.measuredIterations());
+      log.info("Result: {}", measured.result());
+      report(log, options, measured.measurement(),
+          new Results(measured.result(), Solution.NO_ANSWER));
+      return;
+    }
+
     long start = System.nanoTime();
     var result = solution.get();
     long elapsed = System.nanoTime() - start;
@@ -50,7 +264,30 @@ public final class SolutionRunner {
     log.info("Completed in {}", formatDuration(Duration.ofNanos(elapsed)));
   }
 
-  private static @NotNull String formatDuration(@NotNull Duration duration) {
+  private static void report(@NotNull Logger log, @NotNull MeasurementOptions options,
+                             @NotNull Measurement measurement, @NotNull Results results) {
+    // The median keeps "Completed in" comparable with the single-run output
+    log.info("Completed in {}", formatDuration(Duration.ofNanos(measurement.medianNanos())));
+    log.info("Stats: {}", measurement.toText());
+
+    if (options.jsonReport().isPresent()) {
+      var json = measurement.toJson()
+          .field("solution", log.getName())
+          .field("timestamp", Instant.now())
+          .field("warmupIterations", options.warmupIterations())
+          .field("part1", String.valueOf(results.part1()))
+          .field("part2", String.valueOf(results.part2()));
+      var path = options.jsonReport().get();
+      try {
+        Files.writeString(path, json + System.lineSeparator(), StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+      } catch (IOException e) {
+        log.error("Could not write measurement report to {}", path, e);
+      }
+    }
+  }
+
+  public static @NotNull String formatDuration(@NotNull Duration duration) {
     if (duration.toNanos() < NANOS_PER_MILLISECOND) {
       return "%d µs".formatted(duration.toNanos() / NANOS_PER_MICROSECOND);
     } else if (duration.toMillis() < MILLIS_PER_SECOND) {
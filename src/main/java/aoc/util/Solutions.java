@@ -0,0 +1,32 @@
+package aoc.util;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Discovers the registered {@link Solution} implementations.
+ */
+public final class Solutions {
+
+  private Solutions() {
+  }
+
+  /**
+   * All registered solutions, ordered by day.
+   */
+  public static @NotNull List<Solution<?>> all() {
+    return ServiceLoader.load(Solution.class).stream()
+        .<Solution<?>>map(ServiceLoader.Provider::get)
+        .sorted(Comparator.comparingInt(Solution::day))
+        .toList();
+  }
+
+  public static @NotNull Optional<Solution<?>> forDay(int day) {
+    return all().stream()
+        .filter(solution -> solution.day() == day)
+        .findFirst();
+  }
+}
@@ -0,0 +1,43 @@
+package aoc.util;
+
+import java.util.function.Function;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An alternative implementation of one part of a {@link Solution}, such as an experimental
+ * faster algorithm.
+ *
+ * <p>The solution's own {@code part1} and {@code part2} stay the reference. Strategies are
+ * listed by {@link Solution#strategies()} so that {@code aoc.runner.StrategyRunner} can check
+ * them against the reference on generated inputs and time them on the same parsed input.
+ *
+ * @param name short identifier, unique among a day's strategies for the same part
+ * @param part the part solved, 1 or 2
+ * @param solver computes the answer from the parsed input without modifying it
+ * @param <T> the solution's parsed input type
+ */
+public record Strategy<T>(@NotNull String name, int part, @NotNull Function<T, Object> solver) {
+
+  public Strategy {
+    if (part != 1 && part != 2) {
+      throw new IllegalArgumentException("Part must be 1 or 2, got " + part);
+    }
+  }
+
+  @Contract("_, _ -> new")
+  public static <T> @NotNull Strategy<T> part1(
+      @NotNull String name, @NotNull Function<T, Object> solver) {
+    return new Strategy<>(name, 1, solver);
+  }
+
+  @Contract("_, _ -> new")
+  public static <T> @NotNull Strategy<T> part2(
+      @NotNull String name, @NotNull Function<T, Object> solver) {
+    return new Strategy<>(name, 2, solver);
+  }
+
+  public @NotNull Object solve(@NotNull T input) {
+    return solver.apply(input);
+  }
+}
@@ -0,0 +1,157 @@
+package aoc.util;
+
+import aoc.util.collect.LongArrayList;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * SIMD kernel behind {@link NumberScanner}; only loaded when the Vector API module is present.
+ *
+ * <p>Input is processed in 64-byte blocks. Vector compares turn each block into a 64-bit mask
+ * with one bit per digit byte, and the digit runs are then walked with bit tricks rather than
+ * by testing bytes. Each run is converted eight digits at a time with a SWAR multiply, the
+ * last one to eight digits in a single shifted load. Only the bytes just before a run are
+ * read to find its sign. Numbers that straddle a block boundary carry their partial value
+ * into the next block, and the last partial block goes through the scalar loop.
+ */
+final class VectorNumberScanner {
+
+  private static final int BLOCK = Long.SIZE;
+  private static final VectorSpecies<Byte> SPECIES =
+      ByteVector.SPECIES_PREFERRED.length() <= BLOCK
+          ? ByteVector.SPECIES_PREFERRED
+          : ByteVector.SPECIES_512;
+  private static final ValueLayout.OfLong LITTLE_ENDIAN_LONG =
+      ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private static final long ASCII_ZEROS = 0x3030303030303030L;
+  private static final long LOW_BYTE_PAIRS = 0x000000FF000000FFL;
+  private static final long MULTIPLIER_100_1000000 = 100 + (1_000_000L << 32);
+  private static final long MULTIPLIER_1_10000 = 1 + (10_000L << 32);
+  private static final long EIGHT_DIGITS = 100_000_000L;
+  private static final long[] POWERS_OF_10 = {
+      1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+  };
+
+  private VectorNumberScanner() {
+  }
+
+  static void scan(@NotNull MemorySegment input, @NotNull LongArrayList out) {
+    long size = input.byteSize();
+    long value = 0;
+    boolean inNumber = false;
+    boolean negative = false;
+
+    long block = 0;
+    for (; block + BLOCK <= size; block += BLOCK) {
+      long digits = digitMask(input, block);
+      if (inNumber) {
+        // The number carried in from the last block runs up to the first non-digit
+        int end = Long.numberOfTrailingZeros(~digits);
+        value = accumulate(input, block, end, value);
+        if (end == BLOCK) {
+          continue;
+        }
+        out.add(negative ? -value : value);
+        value = 0;
+        inNumber = false;
+        digits &= -1L << end;
+      }
+
+      // Bit i of starts is set where a run begins, bit i of ends where one finishes
+      long starts = digits & ~(digits << 1);
+      long ends = digits & ~(digits >>> 1);
+      while (starts != 0) {
+        int start = Long.numberOfTrailingZeros(starts);
+        int end = Long.numberOfTrailingZeros(ends) + 1;
+        starts &= starts - 1;
+        ends &= ends - 1;
+        long number = accumulate(input, block + start, end - start, 0);
+        boolean signed = NumberScanner.hasSign(input, block + start);
+        if (end == BLOCK) {
+          value = number;
+          negative = signed;
+          inNumber = true;
+          break;
+        }
+        out.add(signed ? -number : number);
+      }
+    }
+
+    for (long offset = block; offset < size; offset++) {
+      int digit = input.get(ValueLayout.JAVA_BYTE, offset) - '0';
+      if (digit >= 0 && digit <= 9) {
+        if (!inNumber) {
+          negative = NumberScanner.hasSign(input, offset);
+        }
+        value = value * 10 + digit;
+        inNumber = true;
+      } else if (inNumber) {
+        out.add(negative ? -value : value);
+        value = 0;
+        inNumber = false;
+      }
+    }
+    if (inNumber) {
+      out.add(negative ? -value : value);
+    }
+  }
+
+  /**
+   * One bit per byte of the 64-byte block at {@code offset}, set where the byte is a digit.
+   */
+  private static long digitMask(@NotNull MemorySegment input, long offset) {
+    long mask = 0;
+    for (int lane = 0; lane < BLOCK; lane += SPECIES.length()) {
+      var bytes = ByteVector.fromMemorySegment(
+          SPECIES, input, offset + lane, ByteOrder.nativeOrder());
+      // Subtracting '0' maps digits to 0..9 and everything else to 10..255 unsigned
+      var isDigit = bytes.sub((byte) '0').compare(VectorOperators.UNSIGNED_LT, (byte) 10);
+      mask |= isDigit.toLong() << lane;
+    }
+    return mask;
+  }
+
+  /**
+   * Appends {@code length} digits starting at {@code offset} to {@code value}.
+   */
+  private static long accumulate(
+      @NotNull MemorySegment input, long offset, int length, long value) {
+    long end = offset + length;
+    if (length == 0 || end - 1 + Long.BYTES > input.byteSize()) {
+      for (long position = offset; position < end; position++) {
+        value = value * 10 + input.get(ValueLayout.JAVA_BYTE, position) - '0';
+      }
+      return value;
+    }
+
+    long position = offset;
+    for (; end - position > Long.BYTES; position += Long.BYTES) {
+      value = value * EIGHT_DIGITS + eightDigits(input.get(LITTLE_ENDIAN_LONG, position)
+          - ASCII_ZEROS);
+    }
+    // The last one to eight digits: shifting them to the top of the word drops the bytes
+    // after the run and pads the front with zero digits; borrows from the dropped bytes only
+    // travel upwards, so they never reach the digits
+    int tail = (int) (end - position);
+    long digits = input.get(LITTLE_ENDIAN_LONG, position) - ASCII_ZEROS;
+    return value * POWERS_OF_10[tail] + eightDigits(digits << (Long.SIZE - tail * Byte.SIZE));
+  }
+
+  /**
+   * Converts eight digit values (ASCII minus {@code '0'}), first digit in the lowest byte,
+   * in three multiplies:
+   * adjacent digits combine into two-digit pairs, pairs into four-digit halves, and the
+   * halves into the result.
+   */
+  private static long eightDigits(long digits) {
+    long pairs = digits * 10 + (digits >>> 8);
+    return ((pairs & LOW_BYTE_PAIRS) * MULTIPLIER_100_1000000
+        + ((pairs >>> 16) & LOW_BYTE_PAIRS) * MULTIPLIER_1_10000) >>> 32;
+  }
+}
@@ -0,0 +1,38 @@
+package aoc.util.collect;
+
+/**
+ * Hashing and sizing shared by the open-addressing tables.
+ */
+final class Hashing {
+
+  /** Largest power-of-two table size; a quarter of the maximum array length. */
+  static final int MAX_CAPACITY = 1 << 30;
+
+  private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+  private static final int MIN_CAPACITY = 4;
+
+  private Hashing() {
+  }
+
+  /**
+   * Spreads a key so that consecutive or grid-packed keys use all table bits.
+   */
+  static int mix(long key) {
+    long hash = key * GOLDEN_RATIO;
+    return (int) (hash ^ (hash >>> 32));
+  }
+
+  /**
+   * Smallest power-of-two table that holds {@code expected} entries at most half full.
+   */
+  static int capacityFor(int expected) {
+    if (expected < 0) {
+      throw new IllegalArgumentException("Expected size must not be negative, got " + expected);
+    }
+    long needed = Math.max(MIN_CAPACITY, 2L * expected);
+    if (needed > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Too many entries for one table: " + expected);
+    }
+    return Integer.highestOneBit((int) needed - 1) << 1;
+  }
+}
@@ -0,0 +1,110 @@
+package aoc.util.collect;
+
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Double-ended queue of unboxed {@code long} values in a power-of-two ring buffer.
+ *
+ * <p>Usable as a FIFO queue ({@link #addLast} with {@link #removeFirst}) or a stack
+ * ({@link #addLast} with {@link #removeLast}). Pushing and popping allocate nothing except
+ * when the buffer grows. Not thread-safe.
+ */
+public final class LongArrayDeque {
+
+  private static final int MIN_CAPACITY = 8;
+
+  private long[] elements;
+  private int head;
+  private int size;
+
+  public LongArrayDeque() {
+    this(MIN_CAPACITY);
+  }
+
+  /**
+   * Creates a deque that holds {@code expectedSize} values without growing.
+   */
+  public LongArrayDeque(int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("Expected size must not be negative, got "
+          + expectedSize);
+    }
+    int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize) - 1) << 1;
+    elements = new long[capacity];
+  }
+
+  public void addFirst(long value) {
+    growIfFull();
+    head = (head - 1) & (elements.length - 1);
+    elements[head] = value;
+    size++;
+  }
+
+  public void addLast(long value) {
+    growIfFull();
+    elements[(head + size) & (elements.length - 1)] = value;
+    size++;
+  }
+
+  /**
+   * Removes and returns the first value.
+   *
+   * @throws NoSuchElementException if the deque is empty
+   */
+  public long removeFirst() {
+    if (size == 0) {
+      throw new NoSuchElementException("Deque is empty");
+    }
+    long value = elements[head];
+    head = (head + 1) & (elements.length - 1);
+    size--;
+    return value;
+  }
+
+  /**
+   * Removes and returns the last value.
+   *
+   * @throws NoSuchElementException if the deque is empty
+   */
+  public long removeLast() {
+    if (size == 0) {
+      throw new NoSuchElementException("Deque is empty");
+    }
+    size--;
+    return elements[(head + size) & (elements.length - 1)];
+  }
+
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes every value, keeping the buffer for reuse.
+   */
+  public void clear() {
+    head = 0;
+    size = 0;
+  }
+
+  private void growIfFull() {
+    if (size < elements.length) {
+      return;
+    }
+    if (elements.length > Integer.MAX_VALUE / 4) {
+      throw new IllegalStateException("Deque exceeds " + elements.length + " values");
+    }
+    var grown = new long[elements.length * 2];
+    int firstPart = Math.min(size, elements.length - head);
+    System.arraycopy(elements, head, grown, 0, firstPart);
+    System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+    elements = grown;
+    head = 0;
+  }
+}
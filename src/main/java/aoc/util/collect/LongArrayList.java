@@ -0,0 +1,115 @@
+package aoc.util.collect;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.LongStream;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Growable list of unboxed {@code long} values.
+ *
+ * <p>Equality and hashing follow the elements, so lists can be record components. Not
+ * thread-safe.
+ */
+public final class LongArrayList {
+
+  private static final int DEFAULT_CAPACITY = 8;
+
+  private long[] elements;
+  private int size;
+
+  public LongArrayList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LongArrayList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative, got " + initialCapacity);
+    }
+    elements = new long[initialCapacity];
+  }
+
+  /**
+   * A list holding a copy of {@code values}.
+   */
+  @Contract("_ -> new")
+  public static @NotNull LongArrayList of(long @NotNull ... values) {
+    var list = new LongArrayList(values.length);
+    System.arraycopy(values, 0, list.elements, 0, values.length);
+    list.size = values.length;
+    return list;
+  }
+
+  public void add(long value) {
+    if (size == elements.length) {
+      elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, size * 2));
+    }
+    elements[size++] = value;
+  }
+
+  @Contract(pure = true)
+  public long get(int index) {
+    return elements[checkIndex(index)];
+  }
+
+  public void set(int index, long value) {
+    elements[checkIndex(index)] = value;
+  }
+
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes every element, keeping the backing array for reuse.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Sorts the elements in ascending order.
+   */
+  public void sort() {
+    Arrays.sort(elements, 0, size);
+  }
+
+  public @NotNull LongStream stream() {
+    return Arrays.stream(elements, 0, size);
+  }
+
+  public long @NotNull [] toArray() {
+    return Arrays.copyOf(elements, size);
+  }
+
+  private int checkIndex(int index) {
+    return Objects.checkIndex(index, size);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof LongArrayList list
+        && Arrays.equals(elements, 0, size, list.elements, 0, list.size);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (int i = 0; i < size; i++) {
+      hash = 31 * hash + Long.hashCode(elements[i]);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(toArray());
+  }
+}
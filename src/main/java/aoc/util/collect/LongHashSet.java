@@ -0,0 +1,136 @@
+package aoc.util.collect;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Set of {@code long} values with open addressing and linear probing.
+ *
+ * <p>Keys are stored unboxed in a single array that is kept at most half full, so adding and
+ * looking up allocate nothing except when the table grows. Zero marks a free slot, and the
+ * key zero itself is tracked by a separate flag. Not thread-safe.
+ */
+public final class LongHashSet {
+
+  private long[] keys;
+  private int mask;
+  private int size;
+  private boolean containsZero;
+
+  public LongHashSet() {
+    this(0);
+  }
+
+  /**
+   * Creates a set that holds {@code expectedSize} keys without growing.
+   */
+  public LongHashSet(int expectedSize) {
+    keys = new long[Hashing.capacityFor(expectedSize)];
+    mask = keys.length - 1;
+  }
+
+  /**
+   * Adds a key.
+   *
+   * @return {@code true} if the key was not already present
+   */
+  public boolean add(long key) {
+    if (key == 0) {
+      if (containsZero) {
+        return false;
+      }
+      containsZero = true;
+      size++;
+      return true;
+    }
+
+    int slot = Hashing.mix(key) & mask;
+    while (keys[slot] != 0) {
+      if (keys[slot] == key) {
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    size++;
+    if (2 * storedKeys() > keys.length) {
+      rehash(keys.length * 2);
+    }
+    return true;
+  }
+
+  @Contract(pure = true)
+  public boolean contains(long key) {
+    if (key == 0) {
+      return containsZero;
+    }
+
+    int slot = Hashing.mix(key) & mask;
+    while (keys[slot] != 0) {
+      if (keys[slot] == key) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes every key, keeping the table for reuse.
+   */
+  public void clear() {
+    Arrays.fill(keys, 0);
+    size = 0;
+    containsZero = false;
+  }
+
+  /**
+   * The keys in table order.
+   */
+  public long @NotNull [] toArray() {
+    var result = new long[size];
+    int index = 0;
+    if (containsZero) {
+      result[index++] = 0;
+    }
+    for (long key : keys) {
+      if (key != 0) {
+        result[index++] = key;
+      }
+    }
+    return result;
+  }
+
+  private int storedKeys() {
+    return containsZero ? size - 1 : size;
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > Hashing.MAX_CAPACITY) {
+      throw new IllegalStateException("Set exceeds " + Hashing.MAX_CAPACITY / 2 + " keys");
+    }
+    var old = keys;
+    keys = new long[capacity];
+    mask = capacity - 1;
+    for (long key : old) {
+      if (key != 0) {
+        int slot = Hashing.mix(key) & mask;
+        while (keys[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+      }
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package aoc.util.collect;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Map from {@code long} to {@code long} with open addressing and linear probing.
+ *
+ * <p>Keys and values sit in parallel arrays kept at most half full, so lookups and updates
+ * allocate nothing except when the table grows. There is no null: absent keys are reported
+ * through a caller-chosen default. Zero marks a free key slot, and the entry for key zero is
+ * held in separate fields. Not thread-safe.
+ */
+public final class LongLongHashMap {
+
+  private long[] keys;
+  private long[] values;
+  private int mask;
+  private int size;
+  private boolean hasZeroKey;
+  private long zeroValue;
+
+  public LongLongHashMap() {
+    this(0);
+  }
+
+  /**
+   * Creates a map that holds {@code expectedSize} entries without growing.
+   */
+  public LongLongHashMap(int expectedSize) {
+    int capacity = Hashing.capacityFor(expectedSize);
+    keys = new long[capacity];
+    values = new long[capacity];
+    mask = capacity - 1;
+  }
+
+  /**
+   * The value for {@code key}, or {@code defaultValue} if there is none.
+   */
+  @Contract(pure = true)
+  public long getOrDefault(long key, long defaultValue) {
+    if (key == 0) {
+      return hasZeroKey ? zeroValue : defaultValue;
+    }
+
+    int slot = Hashing.mix(key) & mask;
+    while (keys[slot] != 0) {
+      if (keys[slot] == key) {
+        return values[slot];
+      }
+      slot = (slot + 1) & mask;
+    }
+    return defaultValue;
+  }
+
+  @Contract(pure = true)
+  public boolean containsKey(long key) {
+    if (key == 0) {
+      return hasZeroKey;
+    }
+
+    int slot = Hashing.mix(key) & mask;
+    while (keys[slot] != 0) {
+      if (keys[slot] == key) {
+        return true;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return false;
+  }
+
+  /**
+   * Associates {@code value} with {@code key}, replacing any previous value.
+   */
+  public void put(long key, long value) {
+    if (key == 0) {
+      if (!hasZeroKey) {
+        hasZeroKey = true;
+        size++;
+      }
+      zeroValue = value;
+      return;
+    }
+
+    int slot = Hashing.mix(key) & mask;
+    while (keys[slot] != 0) {
+      if (keys[slot] == key) {
+        values[slot] = value;
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+    keys[slot] = key;
+    values[slot] = value;
+    size++;
+    if (2 * storedKeys() > keys.length) {
+      rehash(keys.length * 2);
+    }
+  }
+
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes every entry, keeping the table for reuse.
+   */
+  public void clear() {
+    Arrays.fill(keys, 0);
+    size = 0;
+    hasZeroKey = false;
+  }
+
+  private int storedKeys() {
+    return hasZeroKey ? size - 1 : size;
+  }
+
+  private void rehash(int capacity) {
+    if (capacity > Hashing.MAX_CAPACITY) {
+      throw new IllegalStateException("Map exceeds " + Hashing.MAX_CAPACITY / 2 + " entries");
+    }
+    var oldKeys = keys;
+    var oldValues = values;
+    keys = new long[capacity];
+    values = new long[capacity];
+    mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != 0) {
+        int slot = Hashing.mix(oldKeys[i]) & mask;
+        while (keys[slot] != 0) {
+          slot = (slot + 1) & mask;
+        }
+        keys[slot] = oldKeys[i];
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+}
@@ -0,0 +1,258 @@
+package aoc.util.grid;
+
+import aoc.util.InputCursor;
+import aoc.util.RunContext;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Character grid stored row-major in one byte segment, surrounded by a one-cell border.
+ *
+ * <p>Cells are addressed either by {@code (row, col)} or by a flat index, as returned by
+ * {@link #index(int, int)} and {@link #rowStart(int)}. The border cells hold a fill byte
+ * chosen at construction. Because of it, every cell of the grid has all eight neighbours
+ * in the array, at the fixed offsets from {@link #neighbourOffsets()}. Neighbour loops need no
+ * bounds checks, and one byte per cell halves the footprint of {@code char[][]}. Input is
+ * assumed to be ASCII.
+ *
+ * <p>The cells come from {@link RunContext#allocateBytes}: a heap array normally, or off-heap
+ * storage that lives as long as the solve when the runner binds an arena. Heap cells are read
+ * through the array itself, which keeps the neighbour loops as fast as a plain array.
+ */
+public final class ByteGrid {
+
+  private final MemorySegment cells;
+  // The array behind cells when they are on the heap, else null
+  private final byte[] heapCells;
+  private final int size;
+  private final int width;
+  private final int height;
+  private final int stride;
+  private final int[] neighbourOffsets;
+
+  private ByteGrid(int width, int height, byte fill) {
+    if (width < 0 || height < 0) {
+      throw new IllegalArgumentException("Negative grid size " + width + "x" + height);
+    }
+    this.width = width;
+    this.height = height;
+    this.stride = width + 2;
+    this.size = Math.multiplyExact(stride, height + 2);
+    this.cells = RunContext.allocateBytes(size).fill(fill);
+    this.heapCells = cells.heapBase().orElse(null) instanceof byte[] array ? array : null;
+    this.neighbourOffsets = new int[] {
+        -stride - 1, -stride, -stride + 1,
+        -1, 1,
+        stride - 1, stride, stride + 1,
+    };
+  }
+
+  /**
+   * Reads one row per line. The grid is as wide as the longest line; shorter lines, and the
+   * border, are filled with {@code fill}.
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull ByteGrid parse(@NotNull List<String> lines, char fill) {
+    int width = 0;
+    for (var line : lines) {
+      width = Math.max(width, line.length());
+    }
+
+    var grid = new ByteGrid(width, lines.size(), (byte) fill);
+    for (int row = 0; row < lines.size(); row++) {
+      var line = lines.get(row);
+      int start = grid.rowStart(row);
+      for (int col = 0; col < line.length(); col++) {
+        grid.setAt(start + col, (byte) line.charAt(col));
+      }
+    }
+    return grid;
+  }
+
+  /**
+   * Reads one row per non-empty line from the cursor to the end of the input, like
+   * {@link #parse(List, char)}. Rows are copied from the input bytes straight into the cells,
+   * without decoding a line.
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull ByteGrid parse(@NotNull InputCursor cursor, char fill) {
+    var input = cursor.remaining();
+    var lines = InputCursor.of(input);
+    int width = 0;
+    int height = 0;
+    while (lines.nextLine()) {
+      if (lines.lineLength() > 0) {
+        width = Math.max(width, lines.lineLength());
+        height++;
+      }
+    }
+
+    var grid = new ByteGrid(width, height, (byte) fill);
+    lines.rewind();
+    int row = 0;
+    while (lines.nextLine()) {
+      if (lines.lineLength() > 0) {
+        MemorySegment.copy(input, lines.offset(), grid.cells, grid.rowStart(row++),
+            lines.lineLength());
+      }
+    }
+    return grid;
+  }
+
+  /**
+   * A copy in fresh storage from {@link RunContext#allocateBytes}, for a solver that changes
+   * cells while others still read the original.
+   */
+  @Contract("-> new")
+  public @NotNull ByteGrid copy() {
+    var copy = new ByteGrid(width, height, (byte) 0);
+    MemorySegment.copy(cells, 0, copy.cells, 0, size);
+    return copy;
+  }
+
+  public int width() {
+    return width;
+  }
+
+  public int height() {
+    return height;
+  }
+
+  /**
+   * Distance between vertically adjacent cells in flat indices.
+   */
+  public int stride() {
+    return stride;
+  }
+
+  /**
+   * Flat index of the first cell of {@code row}; the row spans {@code width()} indices.
+   */
+  public int rowStart(int row) {
+    return (row + 1) * stride + 1;
+  }
+
+  public int index(int row, int col) {
+    return rowStart(row) + col;
+  }
+
+  public byte get(int row, int col) {
+    return getAt(index(row, col));
+  }
+
+  public byte getAt(int index) {
+    return heapCells != null ? heapCells[index] : cells.get(ValueLayout.JAVA_BYTE, index);
+  }
+
+  public void setAt(int index, byte value) {
+    if (heapCells != null) {
+      heapCells[index] = value;
+    } else {
+      cells.set(ValueLayout.JAVA_BYTE, index, value);
+    }
+  }
+
+  /**
+   * Flat-index offsets of the eight neighbours, row by row from top left. Returns a copy.
+   */
+  public int @NotNull [] neighbourOffsets() {
+    return neighbourOffsets.clone();
+  }
+
+  /**
+   * Finds the first cell holding {@code value}, scanning row by row.
+   *
+   * @return the flat index, or {@code -1} if there is none
+   */
+  public int indexOf(char value) {
+    for (int row = 0; row < height; row++) {
+      int start = rowStart(row);
+      for (int index = start; index < start + width; index++) {
+        if (getAt(index) == value) {
+          return index;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Counts, for every cell at once, how many of its eight neighbours hold {@code value}.
+   *
+   * <p>Each count is written to {@code counts} at the cell's flat index. Border entries are
+   * left untouched. Each row is swept with a window of three column sums, where a column sum
+   * covers one column across the rows above, at and below. Every cell thus costs three loads
+   * and a few additions, with no bounds or edge checks and no branches.
+   *
+   * @param counts destination of at least {@link #size()} entries, reusable across calls
+   */
+  public void countNeighboursEqual(char value, byte @NotNull [] counts) {
+    countNeighboursEqual(value, MemorySegment.ofArray(counts));
+  }
+
+  /**
+   * Like {@link #countNeighboursEqual(char, byte[])}, writing one byte per cell to
+   * {@code counts}, such as storage from {@link RunContext#allocateBytes}.
+   */
+  public void countNeighboursEqual(char value, @NotNull MemorySegment counts) {
+    if (counts.byteSize() < size) {
+      throw new IllegalArgumentException(
+          "Need " + size + " count slots, got " + counts.byteSize());
+    }
+    byte target = (byte) value;
+    byte[] heapCounts = counts.heapBase().orElse(null) instanceof byte[] array ? array : null;
+    for (int row = 0; row < height; row++) {
+      int start = rowStart(row);
+      int left = columnCount(start - 1, target);
+      int middle = columnCount(start, target);
+      for (int index = start; index < start + width; index++) {
+        int right = columnCount(index + 1, target);
+        byte count = (byte) (left + middle + right - is(index, target));
+        if (heapCounts != null) {
+          heapCounts[index] = count;
+        } else {
+          counts.set(ValueLayout.JAVA_BYTE, index, count);
+        }
+        left = middle;
+        middle = right;
+      }
+    }
+  }
+
+  /**
+   * Number of neighbours of the cell at {@code index} that hold {@code value}.
+   */
+  public int countNeighboursEqual(int index, char value) {
+    byte target = (byte) value;
+    int count = 0;
+    for (int offset : neighbourOffsets) {
+      count += is(index + offset, target);
+    }
+    return count;
+  }
+
+  /**
+   * Length of the flat array including the border; the size of a per-cell side array.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Matches among the cell at {@code index} and the cells directly above and below it.
+   */
+  private int columnCount(int index, byte target) {
+    return is(index - stride, target) + is(index, target) + is(index + stride, target);
+  }
+
+  /**
+   * 1 if the cell holds {@code target}, else 0, computed without a branch: the XOR is zero
+   * only on a match, and subtracting one from zero is the only way to set the sign bit.
+   */
+  private int is(int index, byte target) {
+    return (((getAt(index) ^ target) & 0xFF) - 1) >>> 31;
+  }
+}
@@ -0,0 +1,248 @@
+package aoc.util.interval;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Growable list of closed {@code long} intervals {@code [start, end]}, in the order they were
+ * added. Overlapping and repeated intervals are kept as they are.
+ *
+ * <p>Starts and ends live in two parallel {@code long[]} columns, so an interval takes 16 bytes
+ * and there is no object per interval. {@link #coalesce()} turns the list into the
+ * {@link IntervalSet} of the integers it covers.
+ *
+ * <p>Equality and hashing follow the intervals in order, so lists can be record components.
+ * Not thread-safe.
+ */
+public final class IntervalList {
+
+  private static final int DEFAULT_CAPACITY = 8;
+  // Runs this short are sorted by insertion before merging
+  private static final int INSERTION_SORT_LENGTH = 16;
+
+  private long[] starts;
+  private long[] ends;
+  private int size;
+
+  public IntervalList() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public IntervalList(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("Capacity must not be negative, got " + initialCapacity);
+    }
+    starts = new long[initialCapacity];
+    ends = new long[initialCapacity];
+  }
+
+  private IntervalList(long[] starts, long[] ends) {
+    this.starts = starts;
+    this.ends = ends;
+    this.size = starts.length;
+  }
+
+  /**
+   * A list of the intervals {@code [bounds[0], bounds[1]]}, {@code [bounds[2], bounds[3]]} ...
+   */
+  @Contract("_ -> new")
+  public static @NotNull IntervalList of(long @NotNull ... bounds) {
+    if (bounds.length % 2 != 0) {
+      throw new IllegalArgumentException("Bounds must come in pairs, got " + bounds.length);
+    }
+    var list = new IntervalList(bounds.length / 2);
+    for (int i = 0; i < bounds.length; i += 2) {
+      list.add(bounds[i], bounds[i + 1]);
+    }
+    return list;
+  }
+
+  /**
+   * A list backed by the given columns, which it takes over without copying: interval
+   * {@code i} is {@code [starts[i], ends[i]]}.
+   */
+  @Contract("_, _ -> new")
+  public static @NotNull IntervalList ofColumns(long @NotNull [] starts, long @NotNull [] ends) {
+    if (starts.length != ends.length) {
+      throw new IllegalArgumentException(
+          "Columns differ in length: " + starts.length + " starts, " + ends.length + " ends");
+    }
+    for (int i = 0; i < starts.length; i++) {
+      checkBounds(starts[i], ends[i]);
+    }
+    return new IntervalList(starts, ends);
+  }
+
+  public void add(long start, long end) {
+    checkBounds(start, end);
+    if (size == starts.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+      starts = Arrays.copyOf(starts, capacity);
+      ends = Arrays.copyOf(ends, capacity);
+    }
+    starts[size] = start;
+    ends[size] = end;
+    size++;
+  }
+
+  @Contract(pure = true)
+  public long start(int index) {
+    return starts[checkIndex(index)];
+  }
+
+  @Contract(pure = true)
+  public long end(int index) {
+    return ends[checkIndex(index)];
+  }
+
+  @Contract(pure = true)
+  public int size() {
+    return size;
+  }
+
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Removes every interval, keeping the backing arrays for reuse.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Sorts the intervals by start, then by end.
+   */
+  public void sort() {
+    if (isSorted()) {
+      return;
+    }
+    var scratchStarts = new long[size];
+    var scratchEnds = new long[size];
+    for (int from = 0; from < size; from += INSERTION_SORT_LENGTH) {
+      insertionSort(from, Math.min(from + INSERTION_SORT_LENGTH, size));
+    }
+    // Bottom-up merge sort, swapping the columns with the scratch columns after each pass
+    long[] fromStarts = starts;
+    long[] fromEnds = ends;
+    long[] toStarts = scratchStarts;
+    long[] toEnds = scratchEnds;
+    for (int width = INSERTION_SORT_LENGTH; width < size; width *= 2) {
+      for (int low = 0; low < size; low += 2 * width) {
+        int middle = Math.min(low + width, size);
+        int high = Math.min(low + 2 * width, size);
+        merge(fromStarts, fromEnds, toStarts, toEnds, low, middle, high);
+      }
+      long[] swap = fromStarts;
+      fromStarts = toStarts;
+      toStarts = swap;
+      swap = fromEnds;
+      fromEnds = toEnds;
+      toEnds = swap;
+    }
+    starts = fromStarts;
+    ends = fromEnds;
+  }
+
+  /**
+   * The integers covered by at least one interval, as sorted, disjoint intervals. Overlapping
+   * and adjacent intervals merge, so {@code [1, 5]} and {@code [6, 10]} become {@code [1, 10]}.
+   * The list itself is left unchanged.
+   */
+  @Contract(pure = true)
+  public @NotNull IntervalSet coalesce() {
+    var sorted = new IntervalList(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    sorted.sort();
+    // Merges in place: the i-th append never writes past interval i
+    var coalesced = new IntervalSet.Appender(sorted.starts, sorted.ends);
+    for (int i = 0; i < size; i++) {
+      coalesced.append(sorted.starts[i], sorted.ends[i]);
+    }
+    return coalesced.toSet();
+  }
+
+  private boolean isSorted() {
+    for (int i = 1; i < size; i++) {
+      if (compare(starts[i - 1], ends[i - 1], starts[i], ends[i]) > 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void insertionSort(int from, int to) {
+    for (int i = from + 1; i < to; i++) {
+      long start = starts[i];
+      long end = ends[i];
+      int j = i - 1;
+      while (j >= from && compare(starts[j], ends[j], start, end) > 0) {
+        starts[j + 1] = starts[j];
+        ends[j + 1] = ends[j];
+        j--;
+      }
+      starts[j + 1] = start;
+      ends[j + 1] = end;
+    }
+  }
+
+  private static void merge(long[] fromStarts, long[] fromEnds, long[] toStarts, long[] toEnds,
+      int low, int middle, int high) {
+    int left = low;
+    int right = middle;
+    for (int to = low; to < high; to++) {
+      boolean takeLeft = right >= high
+          || (left < middle
+          && compare(fromStarts[left], fromEnds[left], fromStarts[right], fromEnds[right]) <= 0);
+      int from = takeLeft ? left++ : right++;
+      toStarts[to] = fromStarts[from];
+      toEnds[to] = fromEnds[from];
+    }
+  }
+
+  private static int compare(long start1, long end1, long start2, long end2) {
+    int byStart = Long.compare(start1, start2);
+    return byStart != 0 ? byStart : Long.compare(end1, end2);
+  }
+
+  static void checkBounds(long start, long end) {
+    if (start > end) {
+      throw new IllegalArgumentException("Interval start " + start + " is after its end " + end);
+    }
+  }
+
+  private int checkIndex(int index) {
+    return Objects.checkIndex(index, size);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof IntervalList list
+        && Arrays.equals(starts, 0, size, list.starts, 0, list.size)
+        && Arrays.equals(ends, 0, size, list.ends, 0, list.size);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (int i = 0; i < size; i++) {
+      hash = 31 * (31 * hash + Long.hashCode(starts[i])) + Long.hashCode(ends[i]);
+    }
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    var text = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        text.append(", ");
+      }
+      text.append(starts[i]).append('-').append(ends[i]);
+    }
+    return text.append(']').toString();
+  }
+}
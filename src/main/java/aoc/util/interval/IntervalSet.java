@@ -0,0 +1,200 @@
+package aoc.util.interval;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Immutable set of {@code long} values, held as sorted, disjoint closed intervals with a gap of
+ * at least one value between neighbours. Built by {@link IntervalList#coalesce()}.
+ *
+ * <p>Like {@link IntervalList} it keeps parallel start and end columns, 16 bytes per interval.
+ * Because the intervals are sorted and disjoint, a point query is a binary search and union
+ * and intersection are linear merges.
+ */
+public final class IntervalSet {
+
+  private static final IntervalSet EMPTY = new IntervalSet(new long[0], new long[0]);
+
+  private final long[] starts;
+  private final long[] ends;
+
+  private IntervalSet(long[] starts, long[] ends) {
+    this.starts = starts;
+    this.ends = ends;
+  }
+
+  @Contract(pure = true)
+  public static @NotNull IntervalSet empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Number of disjoint intervals.
+   */
+  @Contract(pure = true)
+  public int size() {
+    return starts.length;
+  }
+
+  @Contract(pure = true)
+  public boolean isEmpty() {
+    return starts.length == 0;
+  }
+
+  @Contract(pure = true)
+  public long start(int index) {
+    return starts[Objects.checkIndex(index, starts.length)];
+  }
+
+  @Contract(pure = true)
+  public long end(int index) {
+    return ends[Objects.checkIndex(index, ends.length)];
+  }
+
+  @Contract(pure = true)
+  public boolean contains(long value) {
+    return indexOf(value) >= 0;
+  }
+
+  /**
+   * Index of the interval holding {@code value}, or -1 if no interval does.
+   */
+  @Contract(pure = true)
+  public int indexOf(long value) {
+    // Last interval starting at or before the value
+    int low = 0;
+    int high = starts.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (starts[mid] <= value) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    int index = low - 1;
+    return index >= 0 && value <= ends[index] ? index : -1;
+  }
+
+  /**
+   * Number of values in the set.
+   *
+   * @throws ArithmeticException if the count does not fit in a {@code long}
+   */
+  @Contract(pure = true)
+  public long totalLength() {
+    long total = 0;
+    for (int i = 0; i < starts.length; i++) {
+      total = Math.addExact(total, Math.addExact(Math.subtractExact(ends[i], starts[i]), 1));
+    }
+    return total;
+  }
+
+  @Contract(pure = true)
+  public @NotNull IntervalSet union(@NotNull IntervalSet other) {
+    var union = new Appender(size() + other.size());
+    int i = 0;
+    int j = 0;
+    while (i < size() || j < other.size()) {
+      if (j == other.size() || (i < size() && starts[i] <= other.starts[j])) {
+        union.append(starts[i], ends[i]);
+        i++;
+      } else {
+        union.append(other.starts[j], other.ends[j]);
+        j++;
+      }
+    }
+    return union.toSet();
+  }
+
+  @Contract(pure = true)
+  public @NotNull IntervalSet intersection(@NotNull IntervalSet other) {
+    var intersection = new Appender(size() + other.size());
+    int i = 0;
+    int j = 0;
+    while (i < size() && j < other.size()) {
+      long start = Math.max(starts[i], other.starts[j]);
+      long end = Math.min(ends[i], other.ends[j]);
+      if (start <= end) {
+        intersection.append(start, end);
+      }
+      // Whichever interval ends first cannot meet anything further in the other set
+      if (ends[i] < other.ends[j]) {
+        i++;
+      } else {
+        j++;
+      }
+    }
+    return intersection.toSet();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof IntervalSet set
+        && Arrays.equals(starts, set.starts)
+        && Arrays.equals(ends, set.ends);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+  }
+
+  @Override
+  public String toString() {
+    var text = new StringBuilder("[");
+    for (int i = 0; i < starts.length; i++) {
+      if (i > 0) {
+        text.append(", ");
+      }
+      text.append(starts[i]).append('-').append(ends[i]);
+    }
+    return text.append(']').toString();
+  }
+
+  /**
+   * Collects intervals given in order of start, merging each into the last one when they
+   * overlap or touch.
+   */
+  static final class Appender {
+
+    private final long[] starts;
+    private final long[] ends;
+    private int size;
+
+    Appender(int capacity) {
+      this(new long[capacity], new long[capacity]);
+    }
+
+    /**
+     * Appends into the given columns. They may be the columns being read from, as long as
+     * interval {@code i} is read before the {@code i + 1}-th append.
+     */
+    Appender(long[] starts, long[] ends) {
+      this.starts = starts;
+      this.ends = ends;
+    }
+
+    void append(long start, long end) {
+      // start - 1 cannot overflow once start is known to be past the last end
+      if (size > 0 && (start <= ends[size - 1] || start - 1 == ends[size - 1])) {
+        ends[size - 1] = Math.max(ends[size - 1], end);
+      } else {
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+      }
+    }
+
+    @NotNull IntervalSet toSet() {
+      if (size == 0) {
+        return EMPTY;
+      }
+      return size == starts.length
+          ? new IntervalSet(starts, ends)
+          : new IntervalSet(Arrays.copyOf(starts, size), Arrays.copyOf(ends, size));
+    }
+  }
+}
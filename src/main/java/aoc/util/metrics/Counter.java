@@ -0,0 +1,51 @@
+package aoc.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Monotonic count, cheap to update from many threads at once.
+ *
+ * <p>Updates are dropped when {@link Metrics#ENABLED} is false; since that flag is a
+ * constant the JIT then removes them entirely.
+ */
+public final class Counter implements Metric {
+
+  private final String name;
+  private final LongAdder count = new LongAdder();
+
+  Counter(@NotNull String name) {
+    this.name = name;
+  }
+
+  public void increment() {
+    if (Metrics.ENABLED) {
+      count.increment();
+    }
+  }
+
+  public void add(long amount) {
+    if (Metrics.ENABLED) {
+      count.add(amount);
+    }
+  }
+
+  public long sum() {
+    return count.sum();
+  }
+
+  @Override
+  public @NotNull String name() {
+    return name;
+  }
+
+  @Override
+  public @NotNull String toJson() {
+    return Long.toString(count.sum());
+  }
+
+  @Override
+  public void reset() {
+    count.reset();
+  }
+}
@@ -0,0 +1,104 @@
+package aoc.util.metrics;
+
+import aoc.util.JsonWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Distribution of values over fixed, inclusive upper bounds.
+ *
+ * <p>Counts are exported cumulatively: each bucket counts every value at or below its bound,
+ * and a final unbounded bucket equals the total. Updates are dropped when
+ * {@link Metrics#ENABLED} is false. Solvers get their histograms from
+ * {@link Metrics#histogram}; the solve server keeps its own per-day latency histograms
+ * outside the registry.
+ */
+public final class Histogram implements Metric {
+
+  private final String name;
+  private final long[] bounds;
+  private final LongAdder[] buckets;
+  private final LongAdder sum = new LongAdder();
+
+  /**
+   * A histogram outside the {@link Metrics} registry, exported only by its owner.
+   *
+   * @param bounds increasing inclusive upper bounds
+   */
+  public Histogram(@NotNull String name, long @NotNull [] bounds) {
+    for (int i = 1; i < bounds.length; i++) {
+      if (bounds[i] <= bounds[i - 1]) {
+        throw new IllegalArgumentException("Bounds of " + name + " must be increasing");
+      }
+    }
+    this.name = name;
+    this.bounds = bounds.clone();
+    this.buckets = new LongAdder[bounds.length + 1];
+    for (int i = 0; i < buckets.length; i++) {
+      buckets[i] = new LongAdder();
+    }
+  }
+
+  public void record(long value) {
+    if (!Metrics.ENABLED) {
+      return;
+    }
+    int bucket = 0;
+    while (bucket < bounds.length && value > bounds[bucket]) {
+      bucket++;
+    }
+    buckets[bucket].increment();
+    sum.add(value);
+  }
+
+  /**
+   * Number of values recorded.
+   */
+  public long count() {
+    long count = 0;
+    for (var bucket : buckets) {
+      count += bucket.sum();
+    }
+    return count;
+  }
+
+  boolean hasBounds(long @NotNull [] otherBounds) {
+    return Arrays.equals(bounds, otherBounds);
+  }
+
+  @Override
+  public @NotNull String name() {
+    return name;
+  }
+
+  @Override
+  public @NotNull String toJson() {
+    var encoded = new ArrayList<String>();
+    long cumulative = 0;
+    for (int i = 0; i < buckets.length; i++) {
+      cumulative += buckets[i].sum();
+      var bucket = JsonWriter.object();
+      if (i < bounds.length) {
+        bucket.field("le", bounds[i]);
+      } else {
+        bucket.raw("le", "null");
+      }
+      encoded.add(bucket.field("count", cumulative).toString());
+    }
+    return JsonWriter.object()
+        .field("count", cumulative)
+        .field("sum", sum.sum())
+        .raw("buckets", JsonWriter.array(encoded))
+        .toString();
+  }
+
+  @Override
+  public void reset() {
+    for (var bucket : buckets) {
+      bucket.reset();
+    }
+    sum.reset();
+  }
+}
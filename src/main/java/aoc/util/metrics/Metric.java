@@ -0,0 +1,18 @@
+package aoc.util.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A named solver statistic held by {@link Metrics}.
+ */
+public sealed interface Metric permits Counter, Histogram {
+
+  @NotNull String name();
+
+  /**
+   * Encodes the current value as JSON; concurrent updates may make it slightly inconsistent.
+   */
+  @NotNull String toJson();
+
+  void reset();
+}
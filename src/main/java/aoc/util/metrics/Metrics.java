@@ -0,0 +1,90 @@
+package aoc.util.metrics;
+
+import aoc.util.JsonWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Process-wide registry of solver counters and histograms.
+ *
+ * <p>Solvers hold their metrics in {@code static final} fields, named after their day, such as
+ * {@code day10.gaussian.assignments}, and update them on the hot path. Updates go to
+ * {@link java.util.concurrent.atomic.LongAdder}s, so they cost a few nanoseconds and do not
+ * contend across threads. Setting {@value #PROPERTY} to {@code false} turns every update into
+ * a branch on a constant that the JIT folds away.
+ *
+ * <p>{@link aoc.util.SolutionRunner} resets a day's metrics before running it and logs them as
+ * JSON afterwards.
+ */
+public final class Metrics {
+
+  public static final String PROPERTY = "aoc.metrics";
+
+  /**
+   * Whether updates are recorded; read once at class initialisation.
+   */
+  public static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty(PROPERTY));
+
+  private static final ConcurrentNavigableMap<String, Metric> REGISTRY =
+      new ConcurrentSkipListMap<>();
+
+  private Metrics() {
+  }
+
+  /**
+   * Returns the counter with this name, registering it on first use.
+   *
+   * @throws IllegalArgumentException if the name is taken by a histogram
+   */
+  public static @NotNull Counter counter(@NotNull String name) {
+    if (REGISTRY.computeIfAbsent(name, Counter::new) instanceof Counter counter) {
+      return counter;
+    }
+    throw new IllegalArgumentException("Metric " + name + " is not a counter");
+  }
+
+  /**
+   * Returns the histogram with this name, registering it on first use.
+   *
+   * @param bounds increasing inclusive upper bounds; values above the last one are counted in
+   *     an unbounded bucket
+   * @throws IllegalArgumentException if the name is taken by another metric or other bounds
+   */
+  public static @NotNull Histogram histogram(@NotNull String name, long @NotNull ... bounds) {
+    if (REGISTRY.computeIfAbsent(name, _ -> new Histogram(name, bounds))
+        instanceof Histogram histogram && histogram.hasBounds(bounds)) {
+      return histogram;
+    }
+    throw new IllegalArgumentException("Metric " + name + " is not a histogram with these bounds");
+  }
+
+  /**
+   * Name prefix shared by one day's metrics, such as {@code day04}.
+   */
+  public static @NotNull String dayPrefix(int day) {
+    return "day%02d".formatted(day);
+  }
+
+  /**
+   * Zeroes every metric whose name starts with {@code prefix} and a dot.
+   */
+  public static void reset(@NotNull String prefix) {
+    withPrefix(prefix).values().forEach(Metric::reset);
+  }
+
+  /**
+   * Encodes every metric whose name starts with {@code prefix} and a dot, in name order.
+   */
+  public static @NotNull JsonWriter toJson(@NotNull String prefix) {
+    var json = JsonWriter.object();
+    withPrefix(prefix).values().forEach(metric -> json.raw(metric.name(), metric.toJson()));
+    return json;
+  }
+
+  private static @NotNull Map<String, Metric> withPrefix(@NotNull String prefix) {
+    // '/' follows '.', so this range holds exactly the names starting with "prefix."
+    return REGISTRY.subMap(prefix + ".", prefix + "/");
+  }
+}
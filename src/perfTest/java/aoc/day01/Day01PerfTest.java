@@ -0,0 +1,28 @@
+package aoc.day01;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day01Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day01PerfTest {
+
+  private static final Day01 DAY = new Day01();
+  private static final Day01Generator GENERATOR = new Day01Generator();
+  // A hundred times the instructions of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(3974, results.part1());
+    assertEquals(2002162, results.part2());
+  }
+}
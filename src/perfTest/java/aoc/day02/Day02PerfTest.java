@@ -0,0 +1,37 @@
+package aoc.day02;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day02Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day02PerfTest {
+
+  private static final Day02 DAY = new Day02();
+  private static final Day02Generator GENERATOR = new Day02Generator();
+  // A hundred times the ranges of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 1, unit = TimeUnit.SECONDS)
+  void testTrillionIdRange() {
+    // Far too many IDs to test one by one, so only the closed form finishes in time
+    var results = SolutionRunner.solve(DAY, List.of("1-1000000000000"));
+    assertEquals(495495540949540950L, results.part1());
+    assertEquals(500397481094131395L, results.part2());
+  }
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(9074622164765L, results.part1());
+    assertEquals(9090715166850L, results.part2());
+  }
+}
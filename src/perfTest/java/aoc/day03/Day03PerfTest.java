@@ -0,0 +1,28 @@
+package aoc.day03;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day03Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day03PerfTest {
+
+  private static final Day03 DAY = new Day03();
+  private static final Day03Generator GENERATOR = new Day03Generator();
+  // A hundred times the banks of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(1979999L, results.part1());
+    assertEquals(19999877834483081L, results.part2());
+  }
+}
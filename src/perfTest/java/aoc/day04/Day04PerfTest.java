@@ -0,0 +1,40 @@
+package aoc.day04;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day04Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.FileUtils;
+import aoc.util.RunContext;
+import aoc.util.SolutionRunner;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+class Day04PerfTest {
+
+  private static final Day04 DAY = new Day04();
+  // A 10,000 by 10,000 grid: a hundred million cells, peeled over dozens of rounds
+  private static final int SIDE = 10_000;
+
+  @TempDir
+  private Path inputs;
+
+  @Test
+  @Timeout(value = 60, unit = TimeUnit.SECONDS)
+  void testTenThousandSquareGrid() throws IOException {
+    var path = inputs.resolve("input.txt");
+    new Day04Generator().write(path, InputGenerator.DEFAULT_SEED, SIDE);
+
+    // Mapped and solved in an arena, as -Pmapped -PoffHeap runs it, so the heap holds no cells
+    try (var cursor = FileUtils.map(path); var arena = Arena.ofShared()) {
+      var results = RunContext.withStorage(arena, () -> SolutionRunner.solve(DAY, cursor));
+      assertEquals(10433886L, results.part1());
+      assertEquals(55194421L, results.part2());
+    }
+  }
+}
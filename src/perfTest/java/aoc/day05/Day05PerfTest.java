@@ -0,0 +1,28 @@
+package aoc.day05;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day05Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day05PerfTest {
+
+  private static final Day05 DAY = new Day05();
+  private static final Day05Generator GENERATOR = new Day05Generator();
+  // A hundred times the ranges and IDs of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(99995L, results.part1());
+    assertEquals(509387017829080L, results.part2());
+  }
+}
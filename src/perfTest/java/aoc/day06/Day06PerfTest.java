@@ -0,0 +1,28 @@
+package aoc.day06;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day06Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day06PerfTest {
+
+  private static final Day06 DAY = new Day06();
+  private static final Day06Generator GENERATOR = new Day06Generator();
+  // A hundred times the problems of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(3464669679486908L, results.part1());
+    assertEquals(5324324990021277L, results.part2());
+  }
+}
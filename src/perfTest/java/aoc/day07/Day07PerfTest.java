@@ -0,0 +1,28 @@
+package aoc.day07;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day07Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day07PerfTest {
+
+  private static final Day07 DAY = new Day07();
+  private static final Day07Generator GENERATOR = new Day07Generator();
+  // A hundred times the cells of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(436, results.part1());
+    assertEquals(161313088L, results.part2());
+  }
+}
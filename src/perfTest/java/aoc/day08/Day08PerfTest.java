@@ -0,0 +1,27 @@
+package aoc.day08;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day08Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day08PerfTest {
+
+  private static final Day08 DAY = new Day08();
+  // A hundred thousand boxes, where a loop over every pair would visit five billion
+  private static final List<String> LINES =
+      new Day08Generator().lines(InputGenerator.DEFAULT_SEED, 100_000);
+
+  @Test
+  @Timeout(value = 30, unit = TimeUnit.SECONDS)
+  void testHundredThousandBoxes() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(27L, results.part1());
+    assertEquals(63744096L, results.part2());
+  }
+}
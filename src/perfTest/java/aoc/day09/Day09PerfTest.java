@@ -0,0 +1,28 @@
+package aoc.day09;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day09Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day09PerfTest {
+
+  private static final Day09 DAY = new Day09();
+  private static final Day09Generator GENERATOR = new Day09Generator();
+  // Four times the tiles of a real input, since the rectangle search is quadratic in tiles
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(4));
+
+  @Test
+  @Timeout(value = 20, unit = TimeUnit.SECONDS)
+  void testFourTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(9279567778L, results.part1());
+    assertEquals(45130560L, results.part2());
+  }
+}
@@ -0,0 +1,28 @@
+package aoc.day10;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day10Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day10PerfTest {
+
+  private static final Day10 DAY = new Day10();
+  private static final Day10Generator GENERATOR = new Day10Generator();
+  // Ten times the machines of a real input; each machine is a small search of its own
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(10));
+
+  @Test
+  @Timeout(value = 20, unit = TimeUnit.SECONDS)
+  void testTenTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(5753L, results.part1());
+    assertEquals(118142L, results.part2());
+  }
+}
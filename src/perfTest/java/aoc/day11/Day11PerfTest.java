@@ -0,0 +1,28 @@
+package aoc.day11;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day11Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day11PerfTest {
+
+  private static final Day11 DAY = new Day11();
+  private static final Day11Generator GENERATOR = new Day11Generator();
+  // A hundred times the devices of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(75391482941L, results.part1());
+    assertEquals(787203L, results.part2());
+  }
+}
@@ -0,0 +1,27 @@
+package aoc.day12;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.gen.Day12Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.SolutionRunner;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class Day12PerfTest {
+
+  private static final Day12 DAY = new Day12();
+  private static final Day12Generator GENERATOR = new Day12Generator();
+  // A hundred times the regions of a real input
+  private static final List<String> LINES =
+      GENERATOR.lines(InputGenerator.DEFAULT_SEED, GENERATOR.sizeForScale(100));
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testHundredTimesRealInput() {
+    var results = SolutionRunner.solve(DAY, LINES);
+    assertEquals(82211L, results.part1());
+  }
+}
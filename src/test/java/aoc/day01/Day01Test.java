@@ -2,11 +2,19 @@ package aoc.day01;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import aoc.gen.Day01Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day01Test {
 
+  private static final Day01 DAY = new Day01();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final int[] GENERATED =
+      DAY.parse(new Day01Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final List<String> EXAMPLE_INPUT = List.of(
       "L68", "L30", "R48", "L5", "R60", "L55", "L1", "L99", "R14", "L82"
   );
@@ -60,4 +68,12 @@ class Day01Test {
 
     assertEquals(1, lock.getZeroHitCount());
   }
+
+  // The boxed answers
+  @Test
+  @AllocationBudget(bytes = 256)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
@@ -2,13 +2,22 @@ package aoc.day02;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
-import java.util.Arrays;
+import aoc.gen.Day02Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.InputCursor;
+import aoc.util.interval.IntervalList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("PMD.UseUnderscoresInNumericLiterals")
 class Day02Test {
 
+  private static final Day02 DAY = new Day02();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final IntervalList GENERATED =
+      DAY.parse(new Day02Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final String EXAMPLE_INPUT =
       "11-22,95-115,998-1012,1188511880-1188511890,222220-222224,"
           + "1698522-1698528,446443-446449,38593856-38593862,565653-565659,"
@@ -16,10 +25,8 @@ class Day02Test {
 
   private final Day02 day02 = new Day02();
 
-  private static List<Range> parseRanges() {
-    return Arrays.stream(EXAMPLE_INPUT.split(","))
-        .map(Range::parse)
-        .toList();
+  private IntervalList parseRanges() {
+    return day02.parse(List.of(EXAMPLE_INPUT));
   }
 
   @Test
@@ -36,7 +43,7 @@ class Day02Test {
 
   @Test
   void testPart2FindsMoreInvalidsThanPart1() {
-    var ranges = List.of(new Range(95, 115));
+    var ranges = IntervalList.of(95, 115);
     assertEquals(99L, day02.part1(ranges));
     assertEquals(210L, day02.part2(ranges));
   }
@@ -47,4 +54,33 @@ class Day02Test {
     assertEquals(100L, range.start());
     assertEquals(200L, range.end());
   }
+
+  @Test
+  void testCursorParseMatchesLineParse() {
+    assertEquals(parseRanges(), day02.parse(InputCursor.of(EXAMPLE_INPUT + "\n")));
+  }
+
+  @Test
+  void testScanStrategiesMatchExample() {
+    var strategies = day02.strategies();
+    assertEquals(1227775554L, strategies.get(0).solve(parseRanges()));
+    assertEquals(4174379265L, strategies.get(1).solve(parseRanges()));
+  }
+
+  @Test
+  void testArithmeticSumsCountEachIdOnce() {
+    // 1111 and 111111 repeat with several periods; 111111 also has two halves
+    var ranges = IntervalList.of(1, 1_000_000);
+    var strategies = day02.strategies();
+    assertEquals(strategies.get(0).solve(ranges), RepeatedIds.sumDoubled(1, 1_000_000));
+    assertEquals(strategies.get(1).solve(ranges), RepeatedIds.sumRepeated(1, 1_000_000));
+  }
+
+  // The boxed answers
+  @Test
+  @AllocationBudget(bytes = 256)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
@@ -2,11 +2,23 @@ package aoc.day03;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import aoc.gen.Day03Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.FileUtils;
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 import org.junit.jupiter.api.Test;
 
 class Day03Test {
 
+  private static final Day03 DAY = new Day03();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final MemorySegment GENERATED =
+      DAY.parse(new Day03Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private final Day03 day03 = new Day03();
 
   @Test
@@ -63,6 +75,37 @@ class Day03Test {
     assertEquals(0L, day03.totalOutputJoltage(List.of(), 2));
   }
 
+  @Test
+  void testSpacesAroundABankAreIgnored() {
+    assertEquals(95L, day03.maxJoltage("  12395", 2));
+    assertEquals(95L, day03.maxJoltage("12395  ", 2));
+    assertEquals(12_345L, day03.maxJoltage("  12345  ", 5));
+    assertEquals(0L, day03.maxJoltage("   ", 2));
+  }
+
+  @Test
+  void testSegmentSumMatchesBankByBankAcrossChunks() {
+    // Several kilobytes split into many chunks, with blank and space-padded lines between banks
+    var random = new SplittableRandom(3);
+    var lines = new ArrayList<String>();
+    long expected = 0;
+    for (int i = 0; i < 600; i++) {
+      var bank = new StringBuilder();
+      int length = 12 + random.nextInt(30);
+      for (int j = 0; j < length; j++) {
+        bank.append((char) ('1' + random.nextInt(9)));
+      }
+      expected += day03.maxJoltage(bank.toString(), 12);
+      lines.add(i % 5 == 0 ? " " + bank + " " : bank.toString());
+      if (i % 7 == 0) {
+        lines.add("");
+      }
+    }
+    MemorySegment banks = FileUtils.encode(lines);
+
+    assertEquals(expected, day03.totalOutputJoltage(banks, 12));
+  }
+
   @Test
   void testMaxJoltageDescendingOrder() {
     assertEquals(98L, day03.maxJoltage("98765", 2));
@@ -72,4 +115,12 @@ class Day03Test {
   void testMaxJoltageAscendingOrder() {
     assertEquals(45L, day03.maxJoltage("12345", 2));
   }
+
+  // A task, a cursor and a sum per chunk of banks
+  @Test
+  @AllocationBudget(bytes = 12_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
@@ -2,11 +2,23 @@ package aoc.day04;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import aoc.gen.Day04Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.CountingArena;
+import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.RunContext;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day04Test {
 
+  private static final Day04 DAY = new Day04();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final PaperRollGrid GENERATED =
+      DAY.parse(new Day04Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final String EMPTY_ROW = "...";
 
   private static final List<String> EXAMPLE_INPUT = List.of(
@@ -24,36 +36,68 @@ class Day04Test {
 
   @Test
   void testPart1WithExampleData() {
-    var grid = new PaperRollGrid(EXAMPLE_INPUT);
+    var grid = PaperRollGrid.parse(EXAMPLE_INPUT);
     assertEquals(13L, grid.countAccessibleRolls());
   }
 
   @Test
   void testPart2WithExampleData() {
-    var grid = new PaperRollGrid(EXAMPLE_INPUT);
+    var grid = PaperRollGrid.parse(EXAMPLE_INPUT);
     assertEquals(43L, grid.countTotalRemovableRolls());
   }
 
   @Test
   void testSingleAccessibleRoll() {
     var input = List.of(EMPTY_ROW, ".@.", EMPTY_ROW);
-    var grid = new PaperRollGrid(input);
+    var grid = PaperRollGrid.parse(input);
     assertEquals(1L, grid.countAccessibleRolls());
-    assertEquals(1L, new PaperRollGrid(input).countTotalRemovableRolls());
+    assertEquals(1L, grid.countTotalRemovableRolls());
   }
 
   @Test
   void testInaccessibleRollSurroundedByFour() {
     var input = List.of(".@.", "@@@", ".@.");
-    var grid = new PaperRollGrid(input);
+    var grid = PaperRollGrid.parse(input);
     assertEquals(4L, grid.countAccessibleRolls());
   }
 
   @Test
   void testEmptyGrid() {
     var input = List.of(EMPTY_ROW, EMPTY_ROW, EMPTY_ROW);
-    var grid = new PaperRollGrid(input);
+    var grid = PaperRollGrid.parse(input);
     assertEquals(0L, grid.countAccessibleRolls());
-    assertEquals(0L, new PaperRollGrid(input).countTotalRemovableRolls());
+    assertEquals(0L, grid.countTotalRemovableRolls());
+  }
+
+  @Test
+  void testRemovalLeavesTheParsedGridAsItWas() {
+    var grid = PaperRollGrid.parse(EXAMPLE_INPUT);
+    assertEquals(43L, grid.countTotalRemovableRolls());
+    assertEquals(13L, grid.countAccessibleRolls());
+    assertEquals(43L, grid.countTotalRemovableRolls());
+  }
+
+  @Test
+  void testSolvesFromTheCursorInRunStorage() {
+    long rolls = String.join("", EXAMPLE_INPUT).chars().filter(c -> c == '@').count();
+    try (var arena = new CountingArena()) {
+      var answers = RunContext.withStorage(arena, () -> {
+        var grid = PaperRollGrid.parse(InputCursor.of(FileUtils.encode(EXAMPLE_INPUT)));
+        return List.of(grid.countAccessibleRolls(), grid.countTotalRemovableRolls());
+      });
+
+      assertEquals(List.of(13L, 43L), answers);
+      // The grid, its copy and a count per cell for each part, bordered, plus one int per roll
+      long cells = 12 * 12;
+      assertEquals(4 * cells + rolls * Integer.BYTES, arena.allocatedBytes());
+    }
+  }
+
+  // The grid's copy, a count per cell for each part and a queue slot per roll
+  @Test
+  @AllocationBudget(bytes = 116_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
   }
 }
@@ -1,25 +1,34 @@
 package aoc.day05;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.List;
+import aoc.gen.Day05Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.InputCursor;
+import aoc.util.collect.LongArrayList;
+import aoc.util.interval.IntervalList;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 
 class Day05Test {
 
-  private static final List<FreshRange> EXAMPLE_RANGES = List.of(
-      new FreshRange(3, 5),
-      new FreshRange(10, 14),
-      new FreshRange(16, 20),
-      new FreshRange(12, 18)
+  private static final Day05 DAY = new Day05();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final IngredientDatabase GENERATED =
+      DAY.parse(new Day05Generator().realLines(InputGenerator.DEFAULT_SEED));
+
+  private static final IntervalList EXAMPLE_RANGES = IntervalList.of(
+      3, 5,
+      10, 14,
+      16, 20,
+      12, 18
   );
 
-  private static final List<Long> EXAMPLE_INGREDIENTS = List.of(1L, 5L, 8L, 11L, 17L, 32L);
+  private static final LongArrayList EXAMPLE_INGREDIENTS = LongArrayList.of(1, 5, 8, 11, 17, 32);
 
   private static final IngredientDatabase EXAMPLE_DATABASE =
-      new IngredientDatabase(EXAMPLE_RANGES, EXAMPLE_INGREDIENTS);
+      IngredientDatabase.of(EXAMPLE_RANGES, EXAMPLE_INGREDIENTS);
 
   @Test
   void testPart1WithExampleData() {
@@ -31,23 +40,6 @@ class Day05Test {
     assertEquals(14L, EXAMPLE_DATABASE.countTotalFreshIds());
   }
 
-  @Test
-  void testFreshRangeContains() {
-    var range = new FreshRange(10, 14);
-    assertFalse(range.contains(9));
-    assertTrue(range.contains(10));
-    assertTrue(range.contains(12));
-    assertTrue(range.contains(14));
-    assertFalse(range.contains(15));
-  }
-
-  @Test
-  void testFreshRangeSize() {
-    assertEquals(3L, new FreshRange(3, 5).size());
-    assertEquals(5L, new FreshRange(10, 14).size());
-    assertEquals(1L, new FreshRange(5, 5).size());
-  }
-
   @Test
   void testFreshRangeParse() {
     var range = FreshRange.parse("10-14");
@@ -57,38 +49,66 @@ class Day05Test {
 
   @Test
   void testOverlappingRangesMerge() {
-    var ranges = List.of(
-        new FreshRange(10, 14),
-        new FreshRange(12, 18)
-    );
-    var database = new IngredientDatabase(ranges, List.of());
+    var ranges = IntervalList.of(10, 14, 12, 18);
+    var database = IngredientDatabase.of(ranges, new LongArrayList());
     assertEquals(9L, database.countTotalFreshIds());
   }
 
   @Test
   void testAdjacentRangesMerge() {
-    var ranges = List.of(
-        new FreshRange(1, 5),
-        new FreshRange(6, 10)
-    );
-    var database = new IngredientDatabase(ranges, List.of());
+    var ranges = IntervalList.of(1, 5, 6, 10);
+    var database = IngredientDatabase.of(ranges, new LongArrayList());
     assertEquals(10L, database.countTotalFreshIds());
   }
 
   @Test
   void testNonOverlappingRanges() {
-    var ranges = List.of(
-        new FreshRange(1, 5),
-        new FreshRange(10, 15)
-    );
-    var database = new IngredientDatabase(ranges, List.of());
+    var ranges = IntervalList.of(1, 5, 10, 15);
+    var database = IngredientDatabase.of(ranges, new LongArrayList());
     assertEquals(11L, database.countTotalFreshIds());
   }
 
   @Test
   void testEmptyDatabase() {
-    var database = new IngredientDatabase(List.of(), List.of());
+    var database = IngredientDatabase.of(new IntervalList(), new LongArrayList());
     assertEquals(0L, database.countFreshIngredients());
     assertEquals(0L, database.countTotalFreshIds());
   }
+
+  @Test
+  void testIngredientListCannotBeChangedFromOutside() {
+    var ingredients = LongArrayList.of(5, 8);
+    var database = IngredientDatabase.of(EXAMPLE_RANGES, ingredients);
+    ingredients.add(11);
+    database.availableIngredients().add(17);
+
+    assertEquals(LongArrayList.of(5, 8), database.availableIngredients());
+    assertEquals(1L, database.countFreshIngredients());
+  }
+
+  @Test
+  void testParseFromCursor() {
+    var cursor = InputCursor.of("3-5\n10-14\n16-20\n12-18\n\n1\n5\n8\n11\n17\n32\n");
+    var database = IngredientDatabase.parse(cursor);
+    assertEquals(IntervalList.of(3, 5, 10, 20).coalesce(), database.freshRanges());
+    assertEquals(EXAMPLE_INGREDIENTS, database.availableIngredients());
+  }
+
+  @Test
+  void testParseFromStreamMergesRanges() {
+    var lines = Stream.of("3-5", "10-14", "16-20", "12-18", "", "1", "5", "8", "11", "17", "32");
+    var database = IngredientDatabase.parse(lines);
+    assertEquals(IntervalList.of(3, 5, 10, 20).coalesce(), database.freshRanges());
+    assertEquals(EXAMPLE_INGREDIENTS, database.availableIngredients());
+    assertEquals(3L, database.countFreshIngredients());
+    assertEquals(14L, database.countTotalFreshIds());
+  }
+
+  // The boxed answers
+  @Test
+  @AllocationBudget(bytes = 256)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
@@ -2,11 +2,20 @@ package aoc.day06;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import aoc.gen.Day06Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.collect.LongArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day06Test {
 
+  private static final Day06 DAY = new Day06();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final Worksheets GENERATED =
+      DAY.parse(new Day06Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final List<String> EXAMPLE_INPUT = List.of(
       "123 328  51 64 ",
       " 45 64  387 23 ",
@@ -46,13 +55,13 @@ class Day06Test {
 
   @Test
   void testMathProblemAddition() {
-    var problem = new MathProblem(List.of(1L, 2L, 3L), '+');
+    var problem = new MathProblem(LongArrayList.of(1, 2, 3), '+');
     assertEquals(6L, problem.solve());
   }
 
   @Test
   void testMathProblemMultiplication() {
-    var problem = new MathProblem(List.of(2L, 3L, 4L), '*');
+    var problem = new MathProblem(LongArrayList.of(2, 3, 4), '*');
     assertEquals(24L, problem.solve());
   }
 
@@ -64,4 +73,12 @@ class Day06Test {
     // Total: 1058+3253600+625+8544=3263827
     assertEquals(3_263_827L, worksheet.solveAndSum());
   }
+
+  // The boxed answers
+  @Test
+  @AllocationBudget(bytes = 256)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
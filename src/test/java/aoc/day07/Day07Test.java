@@ -2,11 +2,19 @@ package aoc.day07;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import aoc.gen.Day07Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day07Test {
 
+  private static final Day07 DAY = new Day07();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final TachyonManifold GENERATED =
+      DAY.parse(new Day07Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final String EMPTY_ROW_15 = "...............";
   private static final String EMPTY_ROW_3 = "...";
 
@@ -79,4 +87,12 @@ class Day07Test {
     // One splitter creates 2 timelines (left and right)
     assertEquals(2, manifold.countTimelines());
   }
+
+  // Part 1's splitter set and beam queue, part 2's two rows
+  @Test
+  @AllocationBudget(bytes = 13_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
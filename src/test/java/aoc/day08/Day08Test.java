@@ -1,12 +1,25 @@
 package aoc.day08;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import aoc.gen.Day08Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.CountingArena;
+import aoc.util.InputCursor;
+import aoc.util.RunContext;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day08Test {
 
+  private static final Day08 DAY = new Day08();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final Playground GENERATED =
+      DAY.parse(new Day08Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final List<String> EXAMPLE_INPUT = List.of(
       "162,817,812",
       "57,618,57",
@@ -44,4 +57,57 @@ class Day08Test {
     // Product of X coordinates: 216 * 117 = 25272
     assertEquals(25_272, playground.finalConnectionXcoordProduct());
   }
+
+  @Test
+  void testParseFromCursor() {
+    var playground = Playground.parse(InputCursor.of(String.join("\n", EXAMPLE_INPUT)));
+    assertEquals(40, playground.productOfThreeLargestCircuits(10));
+  }
+
+  @Test
+  void testNegativeCoordinatesParseAlikeOnBothPaths() {
+    // Mirroring every box in x keeps all distances, and the final x product keeps its sign
+    var mirrored = EXAMPLE_INPUT.stream().map(line -> "-" + line).toList();
+    var fromLines = Playground.parse(mirrored);
+    var fromCursor = Playground.parse(InputCursor.of(String.join("\n", mirrored)));
+
+    assertEquals(25_272, fromLines.finalConnectionXcoordProduct());
+    assertEquals(25_272, fromCursor.finalConnectionXcoordProduct());
+  }
+
+  @Test
+  void testMoreBoxesThanTenBitIndices() {
+    // Gaps between consecutive boxes grow along the x-axis, so the widest gap joins last
+    int n = 1100;
+    var lines = new ArrayList<String>(n);
+    for (int i = 0; i < n; i++) {
+      lines.add(i * (i + 1) / 2 + ",0,0");
+    }
+    var playground = Playground.parse(lines);
+    long expected = (long) (n - 2) * (n - 1) / 2 * ((long) (n - 1) * n / 2);
+    assertEquals(expected, playground.finalConnectionXcoordProduct());
+  }
+
+  @Test
+  void testOffHeapPairsGiveSameAnswers() {
+    var lines = new Day08Generator().realLines(InputGenerator.DEFAULT_SEED);
+    var heap = DAY.parse(lines);
+    try (var arena = new CountingArena()) {
+      var answers = RunContext.withStorage(arena, () -> {
+        var playground = DAY.parse(lines);
+        return List.of(DAY.part1(playground), DAY.part2(playground));
+      });
+
+      assertEquals(List.of(DAY.part1(heap), DAY.part2(heap)), answers);
+      assertTrue(arena.allocatedBytes() > 0);
+    }
+  }
+
+  // A union-find over the boxes per part
+  @Test
+  @AllocationBudget(bytes = 22_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
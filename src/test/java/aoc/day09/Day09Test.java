@@ -4,11 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import aoc.gen.Day09Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.InputCursor;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day09Test {
 
+  private static final Day09 DAY = new Day09();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final MovieTheater GENERATED =
+      DAY.parse(new Day09Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final List<String> EXAMPLE_INPUT = List.of(
       "7,1",
       "11,1",
@@ -131,4 +140,18 @@ class Day09Test {
     assertTrue(theater.testContainsPoint(9, 3), "(9,3)");
     assertTrue(theater.testContainsPoint(8, 4), "(8,4)");
   }
+
+  @Test
+  void testParseFromCursor() {
+    var theater = MovieTheater.parse(InputCursor.of(String.join("\r\n", EXAMPLE_INPUT)));
+    assertEquals(50, theater.largestRectangleArea());
+  }
+
+  // The edge index and a byte per pair of vertex coordinates for the point cache
+  @Test
+  @AllocationBudget(bytes = 128_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
@@ -1,12 +1,21 @@
 package aoc.day10;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import aoc.gen.Day10Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day10Test {
 
+  private static final Day10 DAY = new Day10();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final Factory GENERATED =
+      DAY.parse(new Day10Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final List<String> EXAMPLE_INPUT = List.of(
       "[.##.] (3) (1,3) (2) (2,3) (0,2) (0,1) {3,5,4,7}",
       "[...#.] (0,2,3,4) (2,3) (0,4) (0,1,2) (1,2,3,4) {7,5,12,7,2}",
@@ -19,6 +28,28 @@ class Day10Test {
     assertEquals(7, factory.minTotalButtonPresses());
   }
 
+  @Test
+  void testEliminationStrategyMatchesExample() {
+    assertEquals(7L, DAY.strategies().getFirst().solve(Factory.parse(EXAMPLE_INPUT)));
+  }
+
+  @Test
+  void testEliminationHandlesUnreachableAndEmptyTargets() {
+    assertEquals(-1, Gf2Solver.minPresses(new int[] {0b011, 0b110}, 0b100));
+    assertEquals(0, Gf2Solver.minPresses(new int[] {0b011}, 0));
+    assertEquals(0, Gf2Solver.minPresses(new int[0], 0));
+    assertEquals(1, Gf2Solver.minPresses(new int[] {0b011, 0b110, 0b101}, 0b101));
+  }
+
+  @Test
+  void testMalformedLightsAreRejected() {
+    var lines = List.of("[.x#] (0) {1}", "[.#. (0) {1}", "[.#", "[" + ".".repeat(33) + "] {1}");
+    for (var line : lines) {
+      var factory = Factory.parse(List.of(line));
+      assertThrows(IllegalArgumentException.class, factory::minTotalButtonPresses, line);
+    }
+  }
+
   @Test
   void testMachine1() {
     // [.##.] needs lights 1 and 2 on (0-indexed)
@@ -84,4 +115,12 @@ class Day10Test {
     ));
     assertEquals(11, factory.minTotalJoltagePresses());
   }
+
+  // A machine workspace per chunk and part, and a flight recorder event per machine
+  @Test
+  @AllocationBudget(bytes = 264_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
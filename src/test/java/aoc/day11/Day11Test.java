@@ -2,11 +2,19 @@ package aoc.day11;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import aoc.gen.Day11Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class Day11Test {
 
+  private static final Day11 DAY = new Day11();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final DeviceNetwork GENERATED =
+      DAY.parse(new Day11Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final List<String> EXAMPLE_INPUT = List.of(
       "aaa: you hhh",
       "you: bbb ccc",
@@ -89,4 +97,12 @@ class Day11Test {
     var network = DeviceNetwork.parse(input);
     assertEquals(2, network.countPathsThroughCheckpoints());
   }
+
+  // A path count memo over the devices per counted path
+  @Test
+  @AllocationBudget(bytes = 35_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+    DAY.part2(GENERATED);
+  }
 }
@@ -4,12 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import aoc.gen.Day12Generator;
+import aoc.gen.InputGenerator;
+import aoc.util.AllocationBudget;
+import aoc.util.InputCursor;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 @SuppressWarnings("PMD.AvoidDuplicateLiterals")
 class Day12Test {
 
+  private static final Day12 DAY = new Day12();
+  // A real-sized input, parsed once so that budgets cover only the solve phase
+  private static final ChristmasTreeFarm GENERATED =
+      DAY.parse(new Day12Generator().realLines(InputGenerator.DEFAULT_SEED));
+
   private static final List<String> EXAMPLE_INPUT = List.of(
       "0:",
       "##.",
@@ -74,7 +83,7 @@ class Day12Test {
   void testFarmParsing() {
     var farm = ChristmasTreeFarm.parse(EXAMPLE_INPUT);
     assertEquals(6, farm.shapes().length);
-    assertEquals(5, farm.regions().length);
+    assertEquals(5, farm.regionCount());
   }
 
   @Test
@@ -143,4 +152,39 @@ class Day12Test {
     var region2 = new Region(4, 4, new int[] { 1, 2 });
     assertFalse(solver.canFit(region2));
   }
+
+  @Test
+  void testCursorCheckMatchesRegionCheck() {
+    var solver = new PlacementSolver(new Shape[] {new Shape(7, 3), new Shape(5, 2)});
+    for (var line : List.of("5x5: 1 2", "4x4: 1 2", "2x9: 1 0", "2x9: 0 3", "1x1: 0 0")) {
+      var cursor = InputCursor.of(line);
+      cursor.nextLine();
+      assertEquals(solver.canFit(Region.parse(line)), solver.canFit(cursor), line);
+    }
+  }
+
+  @Test
+  void testRegionParsingFromCursor() {
+    var cursor = InputCursor.of("12x5: 1 0 1 0 2 2\n");
+    cursor.nextLine();
+    var region = Region.parse(cursor);
+    assertEquals(12, region.width());
+    assertEquals(5, region.height());
+    assertEquals(6, region.presentCounts().length);
+    assertEquals(2, region.presentCounts()[5]);
+  }
+
+  @Test
+  void testFarmParsingFromCursor() {
+    var farm = ChristmasTreeFarm.parse(InputCursor.of(String.join("\n", EXAMPLE_INPUT)));
+    assertEquals(6, farm.shapes().length);
+    assertEquals(5, farm.regionCount());
+  }
+
+  // A task and a cursor per chunk, and a flight recorder event per region
+  @Test
+  @AllocationBudget(bytes = 56_000)
+  void testSolveStaysWithinAllocationBudget() {
+    DAY.part1(GENERATED);
+  }
 }
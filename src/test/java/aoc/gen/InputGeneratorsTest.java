@@ -0,0 +1,88 @@
+package aoc.gen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import aoc.util.FileUtils;
+import aoc.util.InputCursor;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import aoc.util.Solutions;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class InputGeneratorsTest {
+
+  private static final long SEED = 7;
+  // Answers for a real-sized input from the default seed, as the benchmarks solve
+  private static final Map<Integer, List<String>> REAL_ANSWERS = Map.ofEntries(
+      Map.entry(1, List.of("37", "20056")),
+      Map.entry(2, List.of("98132596940", "98132596940")),
+      Map.entry(3, List.of("19800", "199999634911940")),
+      Map.entry(4, List.of("2192", "11142")),
+      Map.entry(5, List.of("887", "446167290150662")),
+      Map.entry(6, List.of("37341107619444", "54474919636404")),
+      Map.entry(7, List.of("209", "396018")),
+      Map.entry(8, List.of("108570", "96285")),
+      Map.entry(9, List.of("2219849188", "45130560")),
+      Map.entry(10, List.of("559", "11778")),
+      Map.entry(11, List.of("1217127006537647", "16361090141256")),
+      Map.entry(12, List.of("810", Solution.NO_ANSWER)));
+
+  @Test
+  void testOneGeneratorPerDay() {
+    assertEquals(12, InputGenerators.all().size());
+    for (int day = 1; day <= 12; day++) {
+      assertTrue(InputGenerators.forDay(day).isPresent(), "day " + day);
+    }
+  }
+
+  @Test
+  void testGeneratorsAreDeterministic() {
+    for (var generator : InputGenerators.all()) {
+      int size = generator.realSize();
+      assertEquals(generator.lines(SEED, size), generator.lines(SEED, size),
+          "day " + generator.day());
+    }
+  }
+
+  @Test
+  void testRealSizedInputsHaveKnownAnswers() {
+    for (var generator : InputGenerators.all()) {
+      var lines = generator.realLines(InputGenerator.DEFAULT_SEED);
+      var solution = Solutions.forDay(generator.day()).orElseThrow();
+
+      assertEquals(REAL_ANSWERS.get(generator.day()),
+          answers(SolutionRunner.solve(solution, lines)), "day " + generator.day());
+    }
+  }
+
+  @Test
+  void testMappedParsersAgreeWithLineParsers() {
+    for (var generator : InputGenerators.all()) {
+      var lines = generator.lines(SEED, generator.realSize());
+      var solution = Solutions.forDay(generator.day()).orElseThrow();
+
+      assertEquals(SolutionRunner.solve(solution, lines), solveMapped(solution, lines),
+          "day " + generator.day());
+    }
+  }
+
+  @Test
+  void testGridsScaleByArea() {
+    var generator = new Day04Generator();
+    assertEquals(1400, generator.sizeForScale(100));
+    assertEquals(4000, new Day01Generator().sizeForScale(1));
+  }
+
+  private static <T> SolutionRunner.Results solveMapped(
+      Solution<T> solution, List<String> lines) {
+    T input = solution.parse(InputCursor.of(FileUtils.encode(lines)));
+    return new SolutionRunner.Results(solution.part1(input), solution.part2(input));
+  }
+
+  private static List<String> answers(SolutionRunner.Results results) {
+    return List.of(String.valueOf(results.part1()), String.valueOf(results.part2()));
+  }
+}
@@ -0,0 +1,86 @@
+package aoc.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import aoc.util.FileUtils;
+import aoc.util.MeasurementOptions;
+import aoc.util.Solution;
+import aoc.util.SolutionRunner;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AllDaysRunnerTest {
+
+  private static final MeasurementOptions SINGLE_RUN =
+      new MeasurementOptions(0, 0, Optional.empty());
+
+  @TempDir
+  private Path inputs;
+
+  @Test
+  void testOutcomesAreOrderedByDay() throws IOException, InterruptedException {
+    // Day 2 is expected to be slower, so it is started first
+    var input = input("3", "4", "5");
+    List<Solution<?>> solutions =
+        List.of(new SumSolution(1, 1, input), new SumSolution(2, 100, input));
+
+    var outcomes = AllDaysRunner.runAll(solutions, 2, SINGLE_RUN);
+
+    assertEquals(List.of(1, 2), outcomes.stream().map(AllDaysRunner.DayOutcome::day).toList());
+    for (var outcome : outcomes) {
+      assertFalse(outcome.failed());
+      assertEquals(new SolutionRunner.Results(12L, 60L), outcome.results());
+    }
+  }
+
+  @Test
+  void testFailuresAreReportedPerDay() throws IOException, InterruptedException {
+    List<Solution<?>> solutions = List.of(
+        new SumSolution(1, 1, input("3", "4", "5")),
+        new SumSolution(2, 1, input("not a number")),
+        new SumSolution(3, 1, "missing/input"));
+
+    var outcomes = AllDaysRunner.runAll(solutions, 1, SINGLE_RUN);
+
+    assertFalse(outcomes.get(0).failed());
+    assertTrue(outcomes.get(1).failed());
+    assertTrue(outcomes.get(1).detail().startsWith("java.lang.NumberFormatException"));
+    assertTrue(outcomes.get(2).failed());
+    assertTrue(outcomes.get(2).detail().startsWith("could not read input"));
+  }
+
+  /**
+   * Writes an input file and returns its name relative to the input directory.
+   */
+  private String input(String... lines) throws IOException {
+    var file = Files.write(Files.createTempFile(inputs, "input", ".txt"), List.of(lines));
+    var inputDir = FileUtils.inputPath("input").toAbsolutePath().getParent();
+    return inputDir.relativize(file.toAbsolutePath()).toString();
+  }
+
+  private record SumSolution(int day, long expectedMillis, String inputName)
+      implements Solution<List<Long>> {
+
+    @Override
+    public List<Long> parse(List<String> lines) {
+      return lines.stream().map(Long::parseLong).toList();
+    }
+
+    @Override
+    public Object part1(List<Long> input) {
+      return input.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public Object part2(List<Long> input) {
+      return input.stream().mapToLong(Long::longValue).reduce(1, (a, b) -> a * b);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package aoc.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.day01.Day01;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchRunnerTest {
+
+  private static final List<String> EXAMPLE_INPUT = List.of(
+      "L68", "L30", "R48", "L5", "R60", "L55", "L1", "L99", "R14", "L82"
+  );
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void testWritesOneResultPerInput() throws IOException, InterruptedException {
+    var directory = Files.createDirectory(tempDir.resolve("inputs"));
+    for (int i = 0; i < 5; i++) {
+      Files.write(directory.resolve("example" + i + ".txt"), EXAMPLE_INPUT);
+    }
+    Files.write(directory.resolve("broken.txt"), List.of("sideways"));
+    var out = tempDir.resolve("results").resolve("day01.jsonl");
+
+    BatchRunner.run(new Day01(), directory, out, 2, 2);
+
+    var lines = Files.readAllLines(out);
+    assertEquals(6, lines.size());
+    assertEquals(5, lines.stream().filter(line -> line.contains("\"part1\":\"3\",\"part2\":\"6\""))
+        .count());
+    assertEquals(List.of("broken.txt"), lines.stream()
+        .filter(line -> line.contains("\"error\""))
+        .map(line -> line.substring("{\"file\":\"".length(), line.indexOf("\",")))
+        .toList());
+  }
+}
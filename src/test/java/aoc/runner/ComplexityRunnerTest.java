@@ -0,0 +1,53 @@
+package aoc.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class ComplexityRunnerTest {
+
+  private static final double EPSILON = 1e-9;
+
+  @Test
+  void testSizesAreCentredOnTheRealSize() {
+    assertEquals(List.of(250, 500, 1000, 2000, 4000), ComplexityRunner.sizes(1000, 5, 2));
+    assertEquals(List.of(33, 100, 300), ComplexityRunner.sizes(100, 3, 3));
+    // A real size of 2 cannot be quartered
+    assertEquals(List.of(1, 2, 4, 8), ComplexityRunner.sizes(2, 5, 2));
+    assertThrows(IllegalArgumentException.class, () -> ComplexityRunner.sizes(100, 1, 2));
+  }
+
+  @Test
+  void testFitRecoversPowerLawExponents() {
+    var points = List.of(
+        new ComplexityRunner.Point(1, 1_000, 1_000_000, 1_000),
+        new ComplexityRunner.Point(2, 2_000, 4_000_000, 2_000),
+        new ComplexityRunner.Point(4, 4_000, 16_000_000, 4_000));
+
+    var exponents = ComplexityRunner.fit(points);
+
+    assertEquals(2.0, exponents.time(), EPSILON);
+    assertEquals(1.0, exponents.allocation(), EPSILON);
+  }
+
+  @Test
+  void testOnlyExponentsRisingPastTheToleranceAreRegressions() {
+    var baseline = new Properties();
+    baseline.setProperty("day09.time", "1.10");
+    baseline.setProperty("day09.allocation", "1.00");
+
+    assertEquals(List.of(), ComplexityRunner.regressions(
+        9, new ComplexityRunner.Exponents(1.30, 0.50), baseline, 0.25));
+    var regressions = ComplexityRunner.regressions(
+        9, new ComplexityRunner.Exponents(2.05, 1.00), baseline, 0.25);
+    assertEquals(1, regressions.size());
+    assertTrue(regressions.getFirst().startsWith("time exponent 2.05"));
+    // Days missing from the baseline are not checked
+    assertEquals(List.of(), ComplexityRunner.regressions(
+        8, new ComplexityRunner.Exponents(3, 3), baseline, 0.25));
+  }
+}
@@ -0,0 +1,18 @@
+package aoc.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ScalingRunnerTest {
+
+  @Test
+  void testThreadCountsDoubleUpToTheMaximum() {
+    assertEquals(List.of(1), ScalingRunner.threadCounts(1));
+    assertEquals(List.of(1, 2, 4, 8), ScalingRunner.threadCounts(8));
+    assertEquals(List.of(1, 2, 4, 6), ScalingRunner.threadCounts(6));
+    assertThrows(IllegalArgumentException.class, () -> ScalingRunner.threadCounts(0));
+  }
+}
@@ -0,0 +1,62 @@
+package aoc.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import aoc.util.Solution;
+import aoc.util.Strategy;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class StrategyRunnerTest {
+
+  private static final List<String> INPUT = List.of("3", "4", "5");
+
+  @Test
+  void testReportsOnlyDisagreeingStrategies() {
+    var disagreements = StrategyRunner.crossCheck(new SumSolution(), INPUT);
+
+    assertEquals(List.of(
+        "part 1 offByOne = 13, reference = 12",
+        "part 2 broken = failed with java.lang.IllegalStateException: broken, reference = 60"),
+        disagreements);
+  }
+
+  private static final class SumSolution implements Solution<List<Long>> {
+
+    @Override
+    public int day() {
+      return 99;
+    }
+
+    @Override
+    public List<Long> parse(List<String> lines) {
+      return lines.stream().map(Long::parseLong).toList();
+    }
+
+    @Override
+    public Object part1(List<Long> input) {
+      return input.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public Object part2(List<Long> input) {
+      return input.stream().mapToLong(Long::longValue).reduce(1, (a, b) -> a * b);
+    }
+
+    @Override
+    public List<Strategy<List<Long>>> strategies() {
+      return List.of(
+          Strategy.part1("loop", input -> {
+            long sum = 0;
+            for (long value : input) {
+              sum += value;
+            }
+            return sum;
+          }),
+          Strategy.part1("offByOne", input -> (long) part1(input) + 1),
+          Strategy.part2("broken", _ -> {
+            throw new IllegalStateException("broken");
+          }));
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package aoc.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import aoc.day01.Day01;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class WatchRunnerTest {
+
+  private static final List<String> EXAMPLE_INPUT = List.of(
+      "L68", "L30", "R48", "L5", "R60", "L55", "L1", "L99", "R14", "L82"
+  );
+
+  @Test
+  void testReusesParsedInputOnlyForIdenticalContents() throws IOException {
+    var input = Files.createTempFile("input", ".txt");
+    Files.write(input, EXAMPLE_INPUT);
+    var runner = new WatchRunner<>(new Day01());
+
+    var first = runner.solve(input);
+    var unchanged = runner.solve(input);
+    Files.write(input, EXAMPLE_INPUT.subList(0, 3));
+    var edited = runner.solve(input);
+    Files.write(input, EXAMPLE_INPUT);
+    var reverted = runner.solve(input);
+
+    assertFalse(first.reusedParse());
+    assertTrue(unchanged.reusedParse());
+    assertFalse(edited.reusedParse());
+    assertTrue(reverted.reusedParse());
+    assertEquals(3L, unchanged.results().part1());
+    assertEquals(6L, reverted.results().part2());
+    assertEquals(List.of(1, 2, 3, 4),
+        List.of(first.number(), unchanged.number(), edited.number(), reverted.number()));
+  }
+}
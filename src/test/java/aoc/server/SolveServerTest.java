@@ -0,0 +1,67 @@
+package aoc.server;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import org.junit.jupiter.api.Test;
+
+class SolveServerTest {
+
+  private static final String DAY01_EXAMPLE = "L68\nL30\nR48\nL5\nR60\nL55\nL1\nL99\nR14\nL82\n";
+
+  @Test
+  void testSolvesPostedInputAndCountsIt() throws IOException, InterruptedException {
+    try (var server = SolveServer.start(0, 2); var client = HttpClient.newHttpClient()) {
+      var solved = send(client, server, "/day/1", DAY01_EXAMPLE);
+      assertEquals(200, solved.statusCode());
+      assertTrue(solved.body().contains("\"part1\":\"3\",\"part2\":\"6\""), solved.body());
+
+      var metrics = send(client, server, "/metrics", null);
+      assertEquals(200, metrics.statusCode());
+      assertTrue(metrics.body().contains("\"1\":{\"requests\":1,\"failures\":0"), metrics.body());
+      assertTrue(metrics.body().contains("\"latencyNanos\":{\"count\":1,"), metrics.body());
+    }
+  }
+
+  @Test
+  void testRejectsUnknownDaysWrongMethodsAndBadInput() throws IOException, InterruptedException {
+    try (var server = SolveServer.start(0, 1); var client = HttpClient.newHttpClient()) {
+      assertEquals(404, send(client, server, "/day/42", DAY01_EXAMPLE).statusCode());
+      assertEquals(405, send(client, server, "/day/1", null).statusCode());
+      assertEquals(400, send(client, server, "/day/1", "not a rotation\n").statusCode());
+    }
+  }
+
+  @Test
+  void testRejectsBodiesOverTheLimit() throws IOException, InterruptedException {
+    int limit = DAY01_EXAMPLE.length();
+    try (var server = SolveServer.start(0, 1, limit); var client = HttpClient.newHttpClient()) {
+      assertEquals(200, send(client, server, "/day/1", DAY01_EXAMPLE).statusCode());
+      assertEquals(413, send(client, server, "/day/1", DAY01_EXAMPLE + "R1\n").statusCode());
+
+      // Without a Content-Length the limit is only found while reading
+      var chunked = HttpRequest.newBuilder(
+              URI.create("http://127.0.0.1:" + server.port() + "/day/1"))
+          .POST(HttpRequest.BodyPublishers.ofInputStream(
+              () -> new ByteArrayInputStream((DAY01_EXAMPLE + "R1\n").getBytes(US_ASCII))))
+          .build();
+      assertEquals(413, client.send(chunked, HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+  }
+
+  private static HttpResponse<String> send(HttpClient client, SolveServer server, String path,
+                                           String body) throws IOException, InterruptedException {
+    var request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.port() + path));
+    if (body != null) {
+      request.POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+    return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+}
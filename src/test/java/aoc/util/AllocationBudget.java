@@ -0,0 +1,37 @@
+package aoc.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the annotated test if one run of its body allocates more than {@link #bytes()}.
+ *
+ * <p>The body first runs {@link #warmup()} times unmeasured, so lazily built caches are in
+ * place and the hot loops are compiled. Anything the test needs should be prepared outside the
+ * body, in fields or {@code @BeforeEach}, since everything the body does is charged to the
+ * budget.
+ *
+ * <p>The body runs with {@link RunContext#pool()} bound to a pool of its own, and is charged
+ * what the test thread and every worker of that pool allocate, so parallel solvers are held
+ * to their budgets too. A budget is what the code under test allocates by design, with a few
+ * percent to spare for JIT variation: going over one means allocation per element or per
+ * iteration has crept into a hot path.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(AllocationBudgetExtension.class)
+public @interface AllocationBudget {
+
+  /**
+   * The most bytes the measured run may allocate.
+   */
+  long bytes();
+
+  /**
+   * Unmeasured runs before the measured one.
+   */
+  int warmup() default 3;
+}
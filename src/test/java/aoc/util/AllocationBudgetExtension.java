@@ -0,0 +1,138 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.sun.management.ThreadMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+/**
+ * Enforces {@link AllocationBudget} using the JVM's per-thread allocation counters.
+ *
+ * <p>The extension calls the test method itself rather than proceeding through JUnit, whose
+ * invocation bookkeeping would otherwise be charged to the test. Its own calling overhead is
+ * measured once on an empty method and subtracted. Workers of the test's pool are found by
+ * walking the live threads before and after the measured run; a worker started during the run
+ * counts from zero.
+ */
+public final class AllocationBudgetExtension implements InvocationInterceptor {
+
+  private static final ThreadMXBean THREADS =
+      (ThreadMXBean) ManagementFactory.getThreadMXBean();
+  private static final Object[] NO_ARGUMENTS = {};
+  private static final int POOL_THREADS = 4;
+
+  @Override
+  public void interceptTestMethod(
+      @NotNull Invocation<Void> invocation,
+      @NotNull ReflectiveInvocationContext<Method> invocationContext,
+      @NotNull ExtensionContext extensionContext) throws Throwable {
+    var method = invocationContext.getExecutable();
+    var budget = method.getAnnotation(AllocationBudget.class);
+    if (budget == null || !THREADS.isThreadAllocatedMemorySupported()) {
+      invocation.proceed();
+      return;
+    }
+    THREADS.setThreadAllocatedMemoryEnabled(true);
+
+    var target = invocationContext.getTarget().orElse(null);
+    var arguments = invocationContext.getArguments().toArray();
+    method.setAccessible(true);
+    long allocated;
+    try (var pool = new ForkJoinPool(POOL_THREADS)) {
+      allocated = RunContext.withPool(pool, () -> {
+        try {
+          for (int i = 0; i < budget.warmup(); i++) {
+            invoke(method, target, arguments);
+          }
+          return measure(pool, method, target, arguments) - callOverhead(pool);
+        } catch (Throwable e) {
+          throw new BodyFailure(e);
+        }
+      });
+    } catch (BodyFailure e) {
+      throw e.getCause();
+    }
+    invocation.skip();
+
+    if (allocated > budget.bytes()) {
+      fail(method.getName() + " allocated " + allocated + " bytes, over its budget of "
+          + budget.bytes());
+    }
+  }
+
+  private static long callOverhead(@NotNull ForkJoinPool pool) throws Throwable {
+    var empty = AllocationBudgetExtension.class.getDeclaredMethod("empty");
+    long overhead = Long.MAX_VALUE;
+    for (int i = 0; i < 3; i++) {
+      overhead = Math.min(overhead, measure(pool, empty, null, NO_ARGUMENTS));
+    }
+    return overhead;
+  }
+
+  /**
+   * Bytes one call allocates on the calling thread and the workers of {@code pool}.
+   */
+  private static long measure(@NotNull ForkJoinPool pool, @NotNull Method method, Object target,
+                              Object @NotNull [] arguments) throws Throwable {
+    long[] workers = workerIds(pool);
+    long[] workersBefore = THREADS.getThreadAllocatedBytes(workers);
+    long before = THREADS.getCurrentThreadAllocatedBytes();
+    invoke(method, target, arguments);
+    long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+
+    long[] workersAfter = workerIds(pool);
+    long[] workerBytes = THREADS.getThreadAllocatedBytes(workersAfter);
+    for (int i = 0; i < workersAfter.length; i++) {
+      int known = indexOf(workers, workersAfter[i]);
+      allocated += workerBytes[i] - (known < 0 ? 0 : workersBefore[known]);
+    }
+    return allocated;
+  }
+
+  private static long @NotNull [] workerIds(@NotNull ForkJoinPool pool) {
+    return Thread.getAllStackTraces().keySet().stream()
+        .filter(thread -> thread instanceof ForkJoinWorkerThread worker && worker.getPool() == pool)
+        .mapToLong(Thread::threadId)
+        .toArray();
+  }
+
+  private static int indexOf(long @NotNull [] ids, long id) {
+    for (int i = 0; i < ids.length; i++) {
+      if (ids[i] == id) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static void invoke(@NotNull Method method, Object target, Object @NotNull [] arguments)
+      throws Throwable {
+    try {
+      method.invoke(target, arguments);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static void empty() {
+  }
+
+  /**
+   * Carries whatever the test body threw out of the pool binding.
+   */
+  private static final class BodyFailure extends RuntimeException {
+
+    BodyFailure(@NotNull Throwable cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+class ConcurrentPartsTest {
+
+  private static final List<String> INPUT = List.of("3", "4", "5");
+
+  @Test
+  void testSolvesBothParts() {
+    var solution = new PartsSolution(
+        lines -> lines.stream().mapToLong(Long::parseLong).sum(),
+        lines -> lines.stream().mapToLong(Long::parseLong).reduce(1, (a, b) -> a * b));
+    var timed = ConcurrentParts.solve(solution, INPUT, 6);
+
+    assertEquals(new SolutionRunner.Results(12L, 60L), timed.results());
+    assertTrue(timed.part1Nanos() >= 0 && timed.part2Nanos() >= 0);
+  }
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testPartsRunAtTheSameTime() {
+    // Each part waits for the other to start, which only happens if they overlap
+    var started = new CountDownLatch(2);
+    Function<List<String>, Object> meet = _ -> {
+      started.countDown();
+      try {
+        return started.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    };
+    var timed = ConcurrentParts.solve(new PartsSolution(meet, meet), INPUT, 6);
+
+    assertEquals(new SolutionRunner.Results(true, true), timed.results());
+  }
+
+  @Test
+  @Timeout(value = 10, unit = TimeUnit.SECONDS)
+  void testFailedPartCancelsTheOther() {
+    var solution = new PartsSolution(
+        _ -> {
+          throw new IllegalArgumentException("Bad input");
+        },
+        _ -> {
+          try {
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return 0L;
+        });
+
+    var thrown = assertThrows(IllegalArgumentException.class,
+        () -> ConcurrentParts.solve(solution, INPUT, 6));
+    assertEquals("Bad input", thrown.getMessage());
+  }
+
+  @Test
+  void testPartsInheritTheBoundPool() {
+    try (var pool = new ForkJoinPool(2)) {
+      var solution = new PartsSolution(_ -> RunContext.pool(), _ -> RunContext.pool());
+      var timed = RunContext.withPool(pool, () -> ConcurrentParts.solve(solution, INPUT, 6));
+
+      assertSame(pool, timed.results().part1());
+      assertSame(pool, timed.results().part2());
+    }
+  }
+
+  private record PartsSolution(Function<List<String>, Object> first,
+                               Function<List<String>, Object> second)
+      implements Solution<List<String>> {
+
+    @Override
+    public int day() {
+      return 99;
+    }
+
+    @Override
+    public List<String> parse(List<String> lines) {
+      return lines;
+    }
+
+    @Override
+    public Object part1(List<String> input) {
+      return first.apply(input);
+    }
+
+    @Override
+    public Object part2(List<String> input) {
+      return second.apply(input);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class FileUtilsTest {
+
+  private static final List<String> INPUT = List.of("", "a", "b", "", "", "c", " ", "d", "e");
+
+  @Test
+  void testSplitByBlankLines() {
+    assertEquals(List.of(List.of("a", "b"), List.of("c"), List.of("d", "e")),
+        FileUtils.splitByBlankLines(INPUT));
+  }
+
+  @Test
+  void testForEachSectionStreamsInOrder() {
+    var seen = new ArrayList<String>();
+    FileUtils.forEachSection(INPUT.stream(),
+        (index, section) -> seen.add(index + ":" + String.join("", section)));
+    assertEquals(List.of("0:ab", "1:c", "2:de"), seen);
+  }
+
+  @Test
+  void testSectionsReadsLazily() {
+    var pulled = new ArrayList<String>();
+    var lines = Stream.of("a", "", "b", "", "c").peek(pulled::add).iterator();
+    var sections = FileUtils.sections(lines);
+
+    assertEquals(List.of("a"), sections.next());
+    assertEquals(List.of("a", ""), pulled);
+    assertEquals(List.of("b"), sections.next());
+    assertEquals(List.of("c"), sections.next());
+    assertFalse(sections.hasNext());
+  }
+}
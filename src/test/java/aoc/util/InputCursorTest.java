@@ -0,0 +1,117 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class InputCursorTest {
+
+  @Test
+  void testDropsCarriageReturns() {
+    var cursor = InputCursor.of("ab\r\ncd\r\n");
+
+    assertTrue(cursor.nextLine());
+    assertEquals(2, cursor.lineLength());
+    assertEquals(List.of("ab", "cd"), cursor.remainingLines());
+  }
+
+  @Test
+  void testBlankLinesAreEmptyLines() {
+    var cursor = InputCursor.of("1\n\n\r\n2");
+
+    assertTrue(cursor.nextLine());
+    assertEquals(1, cursor.nextLong());
+    assertTrue(cursor.nextLine());
+    assertFalse(cursor.hasRemaining());
+    assertEquals(-1, cursor.peekByte());
+    assertTrue(cursor.nextLine());
+    assertEquals(0, cursor.lineLength());
+    assertTrue(cursor.nextLine());
+    assertEquals(2, cursor.nextLong());
+    assertFalse(cursor.nextLine());
+  }
+
+  @Test
+  void testLastLineNeedsNoNewline() {
+    assertEquals(List.of("x", "y"), InputCursor.of("x\ny").remainingLines());
+    assertEquals(List.of("x", "y"), InputCursor.of("x\ny\n").remainingLines());
+    assertEquals(List.of(), InputCursor.of("").remainingLines());
+  }
+
+  @Test
+  void testReadsNegativeNumbers() {
+    var cursor = InputCursor.of("  -42 7,-0");
+    cursor.nextLine();
+
+    assertEquals(-42, cursor.nextLong());
+    assertEquals(7, cursor.nextInt());
+    assertTrue(cursor.skip(','));
+    assertEquals(0, cursor.nextLong());
+    assertFalse(cursor.hasRemaining());
+  }
+
+  @Test
+  void testRejectsSignWithoutDigits() {
+    var cursor = InputCursor.of("- 1");
+    cursor.nextLine();
+
+    assertThrows(NumberFormatException.class, cursor::nextLong);
+  }
+
+  @Test
+  void testReadsLongExtremes() {
+    var cursor = InputCursor.of(
+        "9223372036854775807 -9223372036854775808 0000000000000000000042");
+    cursor.nextLine();
+
+    assertEquals(Long.MAX_VALUE, cursor.nextLong());
+    assertEquals(Long.MIN_VALUE, cursor.nextLong());
+    assertEquals(42, cursor.nextLong());
+  }
+
+  @Test
+  void testRejectsNumbersThatOverflow() {
+    var cursor = InputCursor.of("9223372036854775808\n-9223372036854775809\n3000000000");
+
+    cursor.nextLine();
+    assertThrows(NumberFormatException.class, cursor::nextLong);
+    cursor.nextLine();
+    assertThrows(NumberFormatException.class, cursor::nextLong);
+    cursor.nextLine();
+    assertThrows(ArithmeticException.class, cursor::nextInt);
+  }
+
+  @Test
+  void testRangeReadsOnlyItsLines() {
+    var segment = MemorySegment.ofArray("aa\nbb\ncc\n".getBytes(StandardCharsets.US_ASCII));
+    var cursor = InputCursor.of(segment, 3, 6);
+
+    assertTrue(cursor.nextLine());
+    assertEquals(3, cursor.offset());
+    assertEquals("bb", cursor.restOfLine());
+    assertFalse(cursor.nextLine());
+
+    cursor.rewind();
+    assertEquals(List.of("bb"), cursor.remainingLines());
+  }
+
+  @Test
+  void testRemainingHandsOverTheUnreadInput() {
+    var cursor = InputCursor.of("12 34\n56");
+    cursor.nextLine();
+    cursor.nextLong();
+
+    var rest = cursor.remaining();
+
+    assertEquals(" 34\n56",
+        new String(rest.toArray(ValueLayout.JAVA_BYTE), StandardCharsets.US_ASCII));
+    assertFalse(cursor.nextLine());
+  }
+}
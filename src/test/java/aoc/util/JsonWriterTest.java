@@ -0,0 +1,59 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonWriterTest {
+
+  @Test
+  void testWritesFieldsInOrder() {
+    var json = JsonWriter.object()
+        .field("day", 8)
+        .field("name", "Playground")
+        .field("ratio", 1.5);
+
+    assertFalse(json.isEmpty());
+    assertEquals("{\"day\":8,\"name\":\"Playground\",\"ratio\":1.5}", json.toString());
+  }
+
+  @Test
+  void testEmptyObject() {
+    var json = JsonWriter.object();
+
+    assertTrue(json.isEmpty());
+    assertEquals("{}", json.toString());
+  }
+
+  @Test
+  void testEscapesQuotesBackslashesAndControlCharacters() {
+    var json = JsonWriter.object().field("path", "C:\\in \"x\"\n\r\t\u0001end");
+
+    assertEquals("{\"path\":\"C:\\\\in \\\"x\\\"\\n\\r\\t\\u0001end\"}", json.toString());
+  }
+
+  @Test
+  void testEscapesFieldNames() {
+    assertEquals("{\"a\\\"b\":1}", JsonWriter.object().field("a\"b", 1).toString());
+  }
+
+  @Test
+  void testNonFiniteDoublesBecomeNull() {
+    var json = JsonWriter.object()
+        .field("nan", Double.NaN)
+        .field("inf", Double.POSITIVE_INFINITY);
+
+    assertEquals("{\"nan\":null,\"inf\":null}", json.toString());
+  }
+
+  @Test
+  void testRawValuesAreNotQuoted() {
+    var nested = JsonWriter.object().field("n", 1).toString();
+    var json = JsonWriter.object().raw("runs", JsonWriter.array(List.of(nested, "2")));
+
+    assertEquals("{\"runs\":[{\"n\":1},2]}", json.toString());
+  }
+}
@@ -0,0 +1,79 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+class MeasurementTest {
+
+  @Test
+  void testFromSamplesPicksNearestRankPercentiles() {
+    // 1..100 in descending order, so the samples must be sorted first
+    long[] samples = LongStream.rangeClosed(1, 100).map(i -> 101 - i).toArray();
+
+    var measurement = Measurement.fromSamples(samples, 64, 2, 7);
+
+    assertEquals(100, measurement.iterations());
+    assertEquals(1, measurement.minNanos());
+    assertEquals(50, measurement.medianNanos());
+    assertEquals(90, measurement.p90Nanos());
+    assertEquals(99, measurement.p99Nanos());
+    assertEquals(100, measurement.maxNanos());
+    assertEquals(64, measurement.allocatedBytesPerRun());
+    assertEquals(2, measurement.gcCount());
+    assertEquals(7, measurement.gcMillis());
+  }
+
+  @Test
+  void testPercentileOfFewSamples() {
+    long[] sorted = {10, 20, 30};
+
+    assertEquals(10, Measurement.percentile(sorted, 0.0));
+    assertEquals(20, Measurement.percentile(sorted, 0.5));
+    assertEquals(30, Measurement.percentile(sorted, 0.9));
+    assertEquals(30, Measurement.percentile(sorted, 1.0));
+  }
+
+  @Test
+  void testSingleSampleIsEveryStatistic() {
+    var measurement = Measurement.fromSamples(new long[] {42}, 0, 0, 0);
+
+    assertEquals(42, measurement.minNanos());
+    assertEquals(42, measurement.medianNanos());
+    assertEquals(42, measurement.p99Nanos());
+    assertEquals(42, measurement.maxNanos());
+  }
+
+  @Test
+  void testMeasureRunsWarmupThenMeasuredIterations() {
+    var runs = new AtomicInteger();
+
+    var measured = Measurement.measure(runs::incrementAndGet, 3, 5);
+
+    assertEquals(8, runs.get());
+    assertEquals(8, measured.result());
+    assertEquals(5, measured.measurement().iterations());
+  }
+
+  @Test
+  void testMeasureReportsBytesAllocatedPerRun() {
+    // Too large an array for escape analysis to remove
+    int longs = 1024;
+    long arrayBytes = (long) longs * Long.BYTES;
+
+    var measured = Measurement.measure(() -> new long[longs], 2, 10);
+
+    long perRun = measured.measurement().allocatedBytesPerRun();
+    assertTrue(perRun >= arrayBytes && perRun < 2 * arrayBytes,
+        "Expected about " + arrayBytes + " bytes per run, got " + perRun);
+  }
+
+  @Test
+  void testMeasureRejectsNoMeasuredIterations() {
+    assertThrows(IllegalArgumentException.class, () -> Measurement.measure(() -> 1, 1, 0));
+  }
+}
@@ -0,0 +1,81 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import aoc.util.collect.LongArrayList;
+import java.lang.foreign.MemorySegment;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class NumberScannerTest {
+
+  @Test
+  void testEveryNonDigitIsADelimiter() {
+    var numbers = new LongArrayList();
+    NumberScanner.scan(segment("11-22,95-115\r\n\n 7 ,x9223372036854775807"), numbers);
+
+    assertEquals(LongArrayList.of(11, 22, 95, 115, 7, Long.MAX_VALUE), numbers);
+  }
+
+  @Test
+  void testMinusIsASignUnlessADigitPrecedesIt() {
+    var numbers = new LongArrayList();
+    NumberScanner.scan(segment("-1,-22\n3-4 5--6 -x-7\n-"), numbers);
+
+    assertEquals(LongArrayList.of(-1, -22, 3, 4, 5, -6, -7), numbers);
+  }
+
+  @Test
+  void testMatchesScalarAcrossBlockBoundaries() {
+    var random = new SplittableRandom(14);
+    for (int trial = 0; trial < 200; trial++) {
+      var text = new StringBuilder();
+      int length = random.nextInt(400);
+      while (text.length() < length) {
+        // Runs of up to 18 digits straddle 64-byte blocks and the 8-digit steps in every way
+        int digits = 1 + random.nextInt(18);
+        text.append(random.nextLong(1, 10));
+        for (int i = 1; i < digits; i++) {
+          text.append(random.nextInt(10));
+        }
+        int delimiters = 1 + random.nextInt(3);
+        for (int i = 0; i < delimiters; i++) {
+          text.append(",-\n /:".charAt(random.nextInt(6)));
+        }
+      }
+
+      var expected = new LongArrayList();
+      NumberScanner.scanScalar(segment(text.toString()), expected);
+      var actual = new LongArrayList();
+      NumberScanner.scan(segment(text.toString()), actual);
+      assertEquals(expected, actual, text.toString());
+    }
+  }
+
+  @Test
+  void testColumns() {
+    var input = segment("162,817,812\n57,618,57\n906,360,560\n");
+
+    int[][] columns = NumberScanner.intColumns(input, 3);
+
+    assertArrayEquals(new int[] {162, 57, 906}, columns[0]);
+    assertArrayEquals(new int[] {817, 618, 360}, columns[1]);
+    assertArrayEquals(new int[] {812, 57, 560}, columns[2]);
+    assertEquals(9, NumberScanner.longColumns(input, 1)[0].length);
+  }
+
+  @Test
+  void testRaggedColumnsAreRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> NumberScanner.longColumns(segment("1,2\n3\n"), 2));
+    assertThrows(ArithmeticException.class,
+        () -> NumberScanner.intColumns(segment("4294967296\n"), 1));
+  }
+
+  private static MemorySegment segment(String text) {
+    return MemorySegment.ofArray(text.getBytes(StandardCharsets.US_ASCII));
+  }
+}
@@ -0,0 +1,62 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.junit.jupiter.api.Test;
+
+class ParallelLinesTest {
+
+  private static final List<String> LINES = numberedLines(5_000);
+
+  @Test
+  void testSumMatchesSequentialSum() {
+    long expected = LINES.stream().mapToLong(Long::parseLong).sum();
+
+    long sum = ParallelLines.sum(FileUtils.encode(LINES), InputCursor::nextLong);
+
+    assertEquals(expected, sum);
+  }
+
+  @Test
+  void testFoldCombinesChunksInInputOrder() {
+    try (var pool = new ForkJoinPool(4)) {
+      List<String> folded = pool.invoke(ForkJoinTask.adapt(() -> foldLines(LINES)));
+
+      assertEquals(LINES, folded);
+    }
+  }
+
+  @Test
+  void testBlankLinesAreVisited() {
+    var lines = List.of("1", "", "", "2");
+
+    assertEquals(lines, foldLines(lines));
+  }
+
+  @Test
+  void testEmptyInputHasNoLines() {
+    assertEquals(0, ParallelLines.sum(MemorySegment.NULL, _ -> 1));
+  }
+
+  private static List<String> foldLines(List<String> lines) {
+    return ParallelLines.fold(FileUtils.encode(lines), ArrayList::new,
+        (list, cursor) -> list.add(cursor.restOfLine()),
+        (left, right) -> {
+          left.addAll(right);
+          return left;
+        });
+  }
+
+  private static List<String> numberedLines(int count) {
+    var lines = new ArrayList<String>(count);
+    for (int i = 0; i < count; i++) {
+      lines.add(Integer.toString(i * 7919 % 100_003));
+    }
+    return lines;
+  }
+}
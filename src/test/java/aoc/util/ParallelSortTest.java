@@ -0,0 +1,87 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelSortTest {
+
+  @Test
+  void testMatchesSequentialSortForEachPoolSize() {
+    var random = new SplittableRandom(8);
+    for (int threads : new int[] {1, 2, 3, 8}) {
+      try (var pool = new ForkJoinPool(threads)) {
+        for (int length : new int[] {0, 1, 100, 20_000, 100_003}) {
+          long[] values = random.longs(length, -1_000, 1_000).toArray();
+          long[] expected = values.clone();
+          Arrays.sort(expected);
+
+          ParallelSort.sort(values, pool);
+
+          assertArrayEquals(expected, values);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testUsesRunContextPool() {
+    long[] values = new SplittableRandom(9).longs(50_000).toArray();
+    long[] expected = values.clone();
+    Arrays.sort(expected);
+
+    try (var pool = new ForkJoinPool(2)) {
+      RunContext.withPool(pool, () -> {
+        ParallelSort.sort(values);
+        return null;
+      });
+    }
+
+    assertArrayEquals(expected, values);
+  }
+
+  @Test
+  void testSortsOffHeapSegments() {
+    var random = new SplittableRandom(10);
+    for (int threads : new int[] {1, 3}) {
+      try (var pool = new ForkJoinPool(threads); var arena = Arena.ofShared()) {
+        for (int length : new int[] {0, 1, 20_000, 100_003}) {
+          long[] values = random.longs(length, -1_000, 1_000).toArray();
+          var segment = arena.allocate((long) length * Long.BYTES, Long.BYTES);
+          MemorySegment.copy(MemorySegment.ofArray(values), 0, segment, 0, segment.byteSize());
+          Arrays.sort(values);
+
+          ParallelSort.sort(segment, pool);
+
+          assertArrayEquals(values, segment.toArray(ValueLayout.JAVA_LONG));
+        }
+      }
+    }
+  }
+
+  @Test
+  void testScratchComesFromBoundStorage() {
+    long[] values = new SplittableRandom(11).longs(100_003).toArray();
+    long bytes = (long) values.length * Long.BYTES;
+    try (var pool = new ForkJoinPool(3); var arena = new CountingArena()) {
+      var sorted = RunContext.withStorage(arena, () -> {
+        var segment = RunContext.allocateLongs(values.length);
+        MemorySegment.copy(MemorySegment.ofArray(values), 0, segment, 0, bytes);
+        ParallelSort.sort(segment, pool);
+        return segment.toArray(ValueLayout.JAVA_LONG);
+      });
+      Arrays.sort(values);
+
+      assertArrayEquals(values, sorted);
+      // The values and a scratch segment of the same size
+      assertEquals(2 * bytes, arena.allocatedBytes());
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class RunContextTest {
+
+  @Test
+  void testDefaultsToCommonPool() {
+    assertSame(ForkJoinPool.commonPool(), RunContext.pool());
+  }
+
+  @Test
+  void testBoundPoolAppliesOnlyInsideTheCall() {
+    try (var pool = new ForkJoinPool(2)) {
+      assertSame(pool, RunContext.withPool(pool, RunContext::pool));
+      assertSame(ForkJoinPool.commonPool(), RunContext.pool());
+    }
+  }
+
+  @Test
+  void testTasksKeepTheirOwnPool() {
+    try (var bound = new ForkJoinPool(2); var running = new ForkJoinPool(2)) {
+      var seen = RunContext.withPool(bound, () -> running.submit(RunContext::pool).join());
+      assertSame(running, seen);
+    }
+  }
+
+  @Test
+  void testStorageIsOnTheHeapUnlessAnArenaIsBound() {
+    assertFalse(RunContext.allocateLongs(4).isNative());
+    assertFalse(RunContext.allocateInts(4).isNative());
+    try (var arena = new CountingArena()) {
+      var longs = RunContext.withStorage(arena, () -> RunContext.allocateLongs(4));
+      var bytes = RunContext.withStorage(arena, () -> RunContext.allocateBytes(3));
+      var ints = RunContext.withStorage(arena, () -> RunContext.allocateInts(5));
+
+      assertTrue(longs.isNative());
+      assertTrue(bytes.isNative());
+      assertTrue(ints.isNative());
+      assertEquals(4 * Long.BYTES + 3 + 5 * Integer.BYTES, arena.allocatedBytes());
+    }
+  }
+
+  @Test
+  void testHeapStorageRejectsLengthsNoArrayHolds() {
+    assertThrows(IllegalArgumentException.class, () -> RunContext.allocateLongs(1L << 31));
+  }
+}
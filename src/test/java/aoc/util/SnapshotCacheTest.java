@@ -0,0 +1,90 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class SnapshotCacheTest {
+
+  private static final int[] SOURCE = {3, 1, 4, 1, 5};
+  private static final long[] DERIVED = {9, 2, 6, 5, 3, 5};
+
+  @Test
+  void testComputesOnceAndReloadsFromDisk() throws IOException {
+    var directory = Files.createTempDirectory("snapshots");
+    var computations = new AtomicInteger();
+    withDirectory(directory, () -> {
+      for (int i = 0; i < 2; i++) {
+        var segment = SnapshotCache.longs(SnapshotCache.key("test", 1).add(SOURCE), () -> {
+          computations.incrementAndGet();
+          return DERIVED.clone();
+        });
+        assertArrayEquals(DERIVED, segment.toArray(ValueLayout.JAVA_LONG));
+      }
+    });
+    assertEquals(1, computations.get());
+    assertEquals(1, files(directory).size());
+  }
+
+  @Test
+  void testDifferentInputsGetDifferentSnapshots() throws IOException {
+    var directory = Files.createTempDirectory("snapshots");
+    withDirectory(directory, () -> {
+      SnapshotCache.longs(SnapshotCache.key("test", 1).add(SOURCE), DERIVED::clone);
+      SnapshotCache.longs(SnapshotCache.key("test", 1).add(SOURCE).add(0), DERIVED::clone);
+    });
+    assertEquals(2, files(directory).size());
+  }
+
+  @Test
+  void testNewVersionReplacesOldSnapshots() throws IOException {
+    var directory = Files.createTempDirectory("snapshots");
+    withDirectory(directory, () -> {
+      SnapshotCache.longs(SnapshotCache.key("test", 1).add(SOURCE), DERIVED::clone);
+      SnapshotCache.longs(SnapshotCache.key("test", 2).add(SOURCE), DERIVED::clone);
+    });
+    var names = files(directory);
+    assertEquals(1, names.size());
+    assertTrue(names.getFirst().startsWith("test-v2-"), names.getFirst());
+  }
+
+  @Test
+  void testEvictsBeyondMaxBytes() throws IOException {
+    var directory = Files.createTempDirectory("snapshots");
+    System.setProperty("aoc.snapshot.maxBytes", "0");
+    try {
+      withDirectory(directory, () -> {
+        var segment =
+            SnapshotCache.longs(SnapshotCache.key("test", 1).add(SOURCE), DERIVED::clone);
+        assertArrayEquals(DERIVED, segment.toArray(ValueLayout.JAVA_LONG));
+      });
+    } finally {
+      System.clearProperty("aoc.snapshot.maxBytes");
+    }
+    assertTrue(files(directory).isEmpty());
+  }
+
+  private static void withDirectory(Path directory, Runnable action) {
+    System.setProperty("aoc.snapshot.dir", directory.toString());
+    try {
+      action.run();
+    } finally {
+      System.clearProperty("aoc.snapshot.dir");
+    }
+  }
+
+  private static List<String> files(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.map(file -> file.getFileName().toString()).toList();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.LoggerFactory;
+
+class SolutionRunnerTest {
+
+  private static final List<String> INPUT = List.of("3", "4", "5");
+
+  @TempDir
+  private Path inputs;
+
+  @Test
+  void testSolveRecordsEachPhase() throws IOException {
+    var file = Files.createTempFile("phases", ".jfr");
+    try (var recording = new Recording()) {
+      recording.enable("aoc.SolutionPhase");
+      recording.start();
+      var results = SolutionRunner.solve(new SumSolution(), INPUT);
+      recording.stop();
+      recording.dump(file);
+
+      assertEquals(new SolutionRunner.Results(12L, 60L), results);
+      var phases = RecordingFile.readAllEvents(file).stream()
+          .filter(event -> event.getInt("day") == SumSolution.DAY)
+          .map(SolutionRunnerTest::describe)
+          .toList();
+      assertEquals(List.of("parse:6", "part1:6", "part2:6"), phases);
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  void testRunReadsTheInputFileLazily() throws IOException {
+    var file = Files.write(Files.createTempFile(inputs, "input", ".txt"), INPUT);
+    var inputDir = FileUtils.inputPath("input").toAbsolutePath().getParent();
+    var solution = new StreamingSolution(inputDir.relativize(file.toAbsolutePath()).toString());
+
+    SolutionRunner.run(LoggerFactory.getLogger(SolutionRunnerTest.class), solution);
+
+    // parse(List) fails the test, so the answers can only come from the lazy stream
+    assertEquals(List.of(3L, 4L, 5L), solution.parsed);
+  }
+
+  private static String describe(RecordedEvent event) {
+    return event.getString("phase") + ":" + event.getLong("inputBytes");
+  }
+
+  private static final class StreamingSolution implements Solution<List<Long>> {
+
+    private final String inputName;
+    private final List<Long> parsed = new ArrayList<>();
+
+    StreamingSolution(String inputName) {
+      this.inputName = inputName;
+    }
+
+    @Override
+    public int day() {
+      return SumSolution.DAY;
+    }
+
+    @Override
+    public String inputName() {
+      return inputName;
+    }
+
+    @Override
+    public List<Long> parse(List<String> lines) {
+      throw new AssertionError("Input was read into a list");
+    }
+
+    @Override
+    public List<Long> parse(Stream<String> lines) {
+      parsed.clear();
+      lines.forEach(line -> parsed.add(Long.parseLong(line)));
+      return parsed;
+    }
+
+    @Override
+    public Object part1(List<Long> input) {
+      return input.size();
+    }
+
+    @Override
+    public Object part2(List<Long> input) {
+      return input.size();
+    }
+  }
+
+  private static final class SumSolution implements Solution<List<Long>> {
+
+    static final int DAY = 99;
+
+    @Override
+    public int day() {
+      return DAY;
+    }
+
+    @Override
+    public List<Long> parse(List<String> lines) {
+      return lines.stream().map(Long::parseLong).toList();
+    }
+
+    @Override
+    public Object part1(List<Long> input) {
+      return input.stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public Object part2(List<Long> input) {
+      return input.stream().mapToLong(Long::longValue).reduce(1, (a, b) -> a * b);
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package aoc.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class SolutionsTest {
+
+  @Test
+  void testEveryDayLoadsThroughTheServiceFile() {
+    var days = Solutions.all().stream().map(Solution::day).toList();
+
+    assertEquals(IntStream.rangeClosed(1, 12).boxed().toList(), days);
+  }
+
+  @Test
+  void testEachSolutionLivesInItsDaysPackage() {
+    for (var solution : Solutions.all()) {
+      var expected = "aoc.day%02d.Day%02d".formatted(solution.day(), solution.day());
+      assertEquals(expected, solution.getClass().getName());
+    }
+  }
+
+  @Test
+  void testForDay() {
+    assertEquals(8, Solutions.forDay(8).orElseThrow().day());
+    assertFalse(Solutions.forDay(13).isPresent());
+  }
+
+  @Test
+  void testDayWithoutSecondPartAnswersNoAnswer() {
+    var day12 = Solutions.forDay(12).orElseThrow();
+    var results = SolutionRunner.solve(day12, List.of("0:", "#", "", "1x1: 1"));
+
+    assertFalse(day12.hasPart2());
+    assertEquals(Solution.NO_ANSWER, results.part2());
+    assertEquals(11, Solutions.all().stream().filter(Solution::hasPart2).count());
+  }
+}
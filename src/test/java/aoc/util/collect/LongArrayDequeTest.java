@@ -0,0 +1,59 @@
+package aoc.util.collect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LongArrayDequeTest {
+
+  @Test
+  void testQueueAndStackOrder() {
+    var deque = new LongArrayDeque();
+    deque.addLast(1);
+    deque.addLast(2);
+    deque.addFirst(0);
+
+    assertEquals(0, deque.removeFirst());
+    assertEquals(2, deque.removeLast());
+    assertEquals(1, deque.removeFirst());
+    assertTrue(deque.isEmpty());
+    assertThrows(NoSuchElementException.class, deque::removeFirst);
+    assertThrows(NoSuchElementException.class, deque::removeLast);
+  }
+
+  @Test
+  void testMatchesArrayDequeAcrossWraparoundAndGrowth() {
+    var deque = new LongArrayDeque(2);
+    var expected = new ArrayDeque<Long>();
+    var random = new SplittableRandom(3);
+    for (int i = 0; i < 50_000; i++) {
+      long value = random.nextLong();
+      switch (random.nextInt(5)) {
+        case 0 -> {
+          deque.addFirst(value);
+          expected.addFirst(value);
+        }
+        case 1, 2 -> {
+          deque.addLast(value);
+          expected.addLast(value);
+        }
+        case 3 -> {
+          if (!expected.isEmpty()) {
+            assertEquals(expected.removeFirst(), deque.removeFirst());
+          }
+        }
+        default -> {
+          if (!expected.isEmpty()) {
+            assertEquals(expected.removeLast(), deque.removeLast());
+          }
+        }
+      }
+      assertEquals(expected.size(), deque.size());
+    }
+  }
+}
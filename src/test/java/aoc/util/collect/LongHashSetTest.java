@@ -0,0 +1,56 @@
+package aoc.util.collect;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LongHashSetTest {
+
+  @Test
+  void testZeroAndNegativeKeys() {
+    var set = new LongHashSet();
+    assertTrue(set.add(0));
+    assertFalse(set.add(0));
+    assertTrue(set.add(-1));
+    assertTrue(set.add(Long.MIN_VALUE));
+
+    assertEquals(3, set.size());
+    assertTrue(set.contains(0));
+    assertTrue(set.contains(Long.MIN_VALUE));
+    assertFalse(set.contains(1));
+  }
+
+  @Test
+  void testMatchesHashSetWhileGrowing() {
+    var set = new LongHashSet();
+    var expected = new HashSet<Long>();
+    var random = new SplittableRandom(7);
+    for (int i = 0; i < 20_000; i++) {
+      long key = random.nextLong(5_000) << 32 | random.nextInt(3);
+      assertEquals(expected.add(key), set.add(key));
+    }
+
+    assertEquals(expected.size(), set.size());
+    var keys = set.toArray();
+    Arrays.sort(keys);
+    assertArrayEquals(expected.stream().mapToLong(Long::longValue).sorted().toArray(), keys);
+  }
+
+  @Test
+  void testClear() {
+    var set = new LongHashSet(4);
+    set.add(0);
+    set.add(42);
+    set.clear();
+
+    assertTrue(set.isEmpty());
+    assertFalse(set.contains(0));
+    assertFalse(set.contains(42));
+  }
+}
@@ -0,0 +1,55 @@
+package aoc.util.collect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class LongLongHashMapTest {
+
+  @Test
+  void testPutReplacesAndDefaultsForMissingKeys() {
+    var map = new LongLongHashMap();
+    map.put(0, 10);
+    map.put(5, 50);
+    map.put(5, 55);
+
+    assertEquals(2, map.size());
+    assertEquals(10, map.getOrDefault(0, -1));
+    assertEquals(55, map.getOrDefault(5, -1));
+    assertEquals(-1, map.getOrDefault(6, -1));
+    assertTrue(map.containsKey(0));
+    assertFalse(map.containsKey(6));
+  }
+
+  @Test
+  void testMatchesHashMapWhileGrowing() {
+    var map = new LongLongHashMap();
+    var expected = new HashMap<Long, Long>();
+    var random = new SplittableRandom(11);
+    for (int i = 0; i < 20_000; i++) {
+      long key = random.nextLong(-3_000, 3_000);
+      long value = random.nextLong();
+      map.put(key, value);
+      expected.put(key, value);
+    }
+
+    assertEquals(expected.size(), map.size());
+    expected.forEach((key, value) -> assertEquals(value, map.getOrDefault(key, 0)));
+  }
+
+  @Test
+  void testClear() {
+    var map = new LongLongHashMap(8);
+    map.put(0, 1);
+    map.put(7, 1);
+    map.clear();
+
+    assertTrue(map.isEmpty());
+    assertFalse(map.containsKey(0));
+    assertFalse(map.containsKey(7));
+  }
+}
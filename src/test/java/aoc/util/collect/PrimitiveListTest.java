@@ -0,0 +1,46 @@
+package aoc.util.collect;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveListTest {
+
+  @Test
+  void testLongListGrowsSortsAndComparesByElements() {
+    var list = new LongArrayList(0);
+    for (long value = 20; value > 0; value--) {
+      list.add(value);
+    }
+    list.sort();
+
+    assertEquals(20, list.size());
+    assertEquals(1, list.get(0));
+    assertEquals(210, list.stream().sum());
+    assertThrows(IndexOutOfBoundsException.class, () -> list.get(20));
+
+    var copy = LongArrayList.of(list.toArray());
+    assertEquals(list, copy);
+    assertEquals(list.hashCode(), copy.hashCode());
+    copy.set(0, -1);
+    assertNotEquals(list, copy);
+  }
+
+  @Test
+  void testIntListIgnoresUnusedCapacity() {
+    var list = new IntArrayList(16);
+    list.add(3);
+    list.add(1);
+    list.add(2);
+    list.sort();
+
+    assertArrayEquals(new int[] {1, 2, 3}, list.toArray());
+    assertEquals(IntArrayList.of(1, 2, 3), list);
+    assertEquals("[1, 2, 3]", list.toString());
+    list.clear();
+    assertEquals(new IntArrayList(), list);
+  }
+}
@@ -0,0 +1,112 @@
+package aoc.util.grid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import aoc.util.CountingArena;
+import aoc.util.InputCursor;
+import aoc.util.RunContext;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+class ByteGridTest {
+
+  @Test
+  void testShortLinesAndBorderUseFill() {
+    var grid = ByteGrid.parse(List.of("ab", "c"), '.');
+
+    assertEquals(2, grid.width());
+    assertEquals(2, grid.height());
+    assertEquals('c', grid.get(1, 0));
+    assertEquals('.', grid.get(1, 1));
+    assertEquals('.', grid.get(-1, -1));
+    assertEquals('.', grid.get(2, 2));
+    assertEquals(grid.index(1, 0), grid.indexOf('c'));
+    assertEquals(-1, grid.indexOf('z'));
+  }
+
+  @Test
+  void testCursorParseMatchesLineParse() {
+    var expected = ByteGrid.parse(List.of("@.@@", ".@", "@@.@"), '.');
+    // Windows line endings, an empty line and a final newline do not become cells or rows
+    var grid = ByteGrid.parse(InputCursor.of("@.@@\r\n.@\n\n@@.@\n"), '.');
+
+    assertEquals(expected.width(), grid.width());
+    assertEquals(expected.height(), grid.height());
+    for (int index = 0; index < grid.size(); index++) {
+      assertEquals(expected.getAt(index), grid.getAt(index), "index " + index);
+    }
+  }
+
+  @Test
+  void testCopyIsIndependent() {
+    var grid = ByteGrid.parse(List.of("ab", "cd"), '.');
+    var copy = grid.copy();
+    copy.setAt(grid.index(0, 0), (byte) 'z');
+
+    assertEquals('a', grid.get(0, 0));
+    assertEquals('z', copy.get(0, 0));
+    assertEquals('d', copy.get(1, 1));
+    assertEquals('.', copy.get(2, 2));
+  }
+
+  @Test
+  void testNeighbourKernelMatchesDirectCount() {
+    var random = new SplittableRandom(5);
+    var lines = new ArrayList<String>();
+    for (int row = 0; row < 13; row++) {
+      var line = new StringBuilder();
+      for (int col = 0; col < 17; col++) {
+        line.append(random.nextInt(3) == 0 ? '.' : '@');
+      }
+      lines.add(line.toString());
+    }
+    var grid = ByteGrid.parse(lines, '.');
+
+    var counts = new byte[grid.size()];
+    grid.countNeighboursEqual('@', counts);
+    for (int row = 0; row < grid.height(); row++) {
+      for (int col = 0; col < grid.width(); col++) {
+        int expected = directCount(lines, row, col);
+        assertEquals(expected, counts[grid.index(row, col)]);
+        assertEquals(expected, grid.countNeighboursEqual(grid.index(row, col), '@'));
+      }
+    }
+  }
+
+  @Test
+  void testOffHeapGridMatchesHeapGrid() {
+    var lines = List.of("@.@@", ".@@.", "@@.@");
+    var heap = ByteGrid.parse(lines, '.');
+    var heapCounts = new byte[heap.size()];
+    heap.countNeighboursEqual('@', heapCounts);
+
+    try (var arena = new CountingArena()) {
+      var grid = RunContext.withStorage(arena, () -> ByteGrid.parse(lines, '.'));
+      var counts = RunContext.withStorage(arena, () -> RunContext.allocateBytes(grid.size()));
+      grid.countNeighboursEqual('@', counts);
+
+      assertTrue(arena.allocatedBytes() >= 2L * grid.size());
+      for (int index = 0; index < grid.size(); index++) {
+        assertEquals(heap.getAt(index), grid.getAt(index));
+        assertEquals(heapCounts[index], counts.get(ValueLayout.JAVA_BYTE, index));
+      }
+    }
+  }
+
+  private static int directCount(List<String> lines, int row, int col) {
+    int count = 0;
+    for (int r = row - 1; r <= row + 1; r++) {
+      for (int c = col - 1; c <= col + 1; c++) {
+        boolean inside = r >= 0 && r < lines.size() && c >= 0 && c < lines.get(r).length();
+        if ((r != row || c != col) && inside && lines.get(r).charAt(c) == '@') {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+}
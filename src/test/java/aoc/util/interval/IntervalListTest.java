@@ -0,0 +1,84 @@
+package aoc.util.interval;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntervalListTest {
+
+  @Test
+  void testSortOrdersByStartThenEnd() {
+    var random = new Random(7);
+    var list = new IntervalList(0);
+    var expected = new long[1_000][];
+    for (int i = 0; i < expected.length; i++) {
+      long start = random.nextInt(200) - 100;
+      long end = start + random.nextInt(50);
+      list.add(start, end);
+      expected[i] = new long[] {start, end};
+    }
+    Arrays.sort(expected, Comparator.<long[]>comparingLong(pair -> pair[0])
+        .thenComparingLong(pair -> pair[1]));
+
+    list.sort();
+
+    assertEquals(expected.length, list.size());
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i][0], list.start(i));
+      assertEquals(expected[i][1], list.end(i));
+    }
+  }
+
+  @Test
+  void testCoalesceMergesOverlappingAndAdjacentIntervals() {
+    var list = IntervalList.of(16, 20, 3, 5, 12, 18, 10, 14, 6, 6, 30, 30);
+
+    var set = list.coalesce();
+
+    assertEquals(IntervalList.of(3, 6, 10, 20, 30, 30).coalesce(), set);
+    assertEquals("[3-6, 10-20, 30-30]", set.toString());
+    // The list keeps its own order
+    assertEquals(16, list.start(0));
+  }
+
+  @Test
+  void testCoalesceHandlesExtremeBounds() {
+    var list = IntervalList.of(Long.MIN_VALUE, -1, 0, Long.MAX_VALUE);
+
+    var set = list.coalesce();
+
+    assertEquals(1, set.size());
+    assertEquals(Long.MIN_VALUE, set.start(0));
+    assertEquals(Long.MAX_VALUE, set.end(0));
+  }
+
+  @Test
+  void testColumnsAreAdoptedAndChecked() {
+    var list = IntervalList.ofColumns(new long[] {1, 4}, new long[] {2, 8});
+
+    assertEquals(IntervalList.of(1, 2, 4, 8), list);
+    assertEquals(IntervalList.of(1, 2, 4, 8).hashCode(), list.hashCode());
+    assertNotEquals(IntervalList.of(4, 8, 1, 2), list);
+    assertThrows(IllegalArgumentException.class,
+        () -> IntervalList.ofColumns(new long[] {1}, new long[0]));
+    assertThrows(IllegalArgumentException.class,
+        () -> IntervalList.ofColumns(new long[] {3}, new long[] {2}));
+  }
+
+  @Test
+  void testRejectsInvalidIntervalsAndIndices() {
+    var list = new IntervalList();
+    list.add(1, 1);
+
+    assertThrows(IllegalArgumentException.class, () -> list.add(5, 4));
+    assertThrows(IllegalArgumentException.class, () -> IntervalList.of(1, 2, 3));
+    assertThrows(IndexOutOfBoundsException.class, () -> list.start(1));
+    list.clear();
+    assertEquals(new IntervalList(), list);
+  }
+}
@@ -0,0 +1,115 @@
+package aoc.util.interval;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class IntervalSetTest {
+
+  // Small enough that every value can be checked against a BitSet
+  private static final int DOMAIN = 200;
+
+  @Test
+  void testContainsFindsTheHoldingInterval() {
+    var set = IntervalList.of(3, 5, 10, 20).coalesce();
+
+    assertEquals(-1, set.indexOf(2));
+    assertEquals(0, set.indexOf(3));
+    assertEquals(0, set.indexOf(5));
+    assertEquals(-1, set.indexOf(6));
+    assertEquals(1, set.indexOf(15));
+    assertEquals(1, set.indexOf(20));
+    assertFalse(set.contains(21));
+    assertFalse(IntervalSet.empty().contains(0));
+  }
+
+  @Test
+  void testSingleIntervalIncludesBothEnds() {
+    var set = IntervalList.of(10, 14).coalesce();
+
+    assertFalse(set.contains(9));
+    assertTrue(set.contains(10));
+    assertTrue(set.contains(12));
+    assertTrue(set.contains(14));
+    assertFalse(set.contains(15));
+  }
+
+  @Test
+  void testTotalLengthCountsBothEnds() {
+    assertEquals(3L, IntervalList.of(3, 5).coalesce().totalLength());
+    assertEquals(5L, IntervalList.of(10, 14).coalesce().totalLength());
+    assertEquals(1L, IntervalList.of(5, 5).coalesce().totalLength());
+  }
+
+  @Test
+  void testOperationsMatchBitSets() {
+    var random = new Random(11);
+    for (int round = 0; round < 200; round++) {
+      var left = randomList(random);
+      var right = randomList(random);
+      var leftBits = bits(left);
+      var rightBits = bits(right);
+
+      var union = (BitSet) leftBits.clone();
+      union.or(rightBits);
+      var intersection = (BitSet) leftBits.clone();
+      intersection.and(rightBits);
+
+      assertSet(leftBits, left.coalesce());
+      assertSet(union, left.coalesce().union(right.coalesce()));
+      assertSet(intersection, left.coalesce().intersection(right.coalesce()));
+    }
+  }
+
+  @Test
+  void testEmptySetsShareOneInstance() {
+    var set = IntervalList.of(1, 5).coalesce();
+
+    assertSame(IntervalSet.empty(), new IntervalList().coalesce());
+    assertSame(IntervalSet.empty(), set.intersection(IntervalList.of(7, 9).coalesce()));
+    assertEquals(set, set.union(IntervalSet.empty()));
+    assertEquals(0, IntervalSet.empty().totalLength());
+  }
+
+  @Test
+  void testTotalLengthOverflowIsReported() {
+    var set = IntervalList.of(Long.MIN_VALUE, Long.MAX_VALUE).coalesce();
+
+    assertThrows(ArithmeticException.class, set::totalLength);
+  }
+
+  private static IntervalList randomList(Random random) {
+    var list = new IntervalList();
+    int count = random.nextInt(12);
+    for (int i = 0; i < count; i++) {
+      int start = random.nextInt(DOMAIN);
+      list.add(start, Math.min(DOMAIN - 1, start + random.nextInt(20)));
+    }
+    return list;
+  }
+
+  private static BitSet bits(IntervalList list) {
+    var bits = new BitSet(DOMAIN);
+    for (int i = 0; i < list.size(); i++) {
+      bits.set((int) list.start(i), (int) list.end(i) + 1);
+    }
+    return bits;
+  }
+
+  private static void assertSet(BitSet expected, IntervalSet set) {
+    for (int value = -1; value <= DOMAIN; value++) {
+      assertEquals(value >= 0 && expected.get(value), set.contains(value));
+    }
+    assertEquals(expected.cardinality(), set.totalLength());
+    for (int i = 1; i < set.size(); i++) {
+      // Neighbours are separated by at least one missing value
+      assertTrue(set.end(i - 1) + 1 < set.start(i));
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package aoc.util.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsTest {
+
+  @Test
+  void testCounterIsRegisteredOnceByName() {
+    var counter = Metrics.counter("test1.counter");
+    counter.increment();
+    Metrics.counter("test1.counter").add(4);
+
+    assertSame(counter, Metrics.counter("test1.counter"));
+    assertEquals(5, counter.sum());
+  }
+
+  @Test
+  void testHistogramCountsCumulatively() {
+    var histogram = Metrics.histogram("test2.sizes", 1, 10);
+    histogram.record(0);
+    histogram.record(1);
+    histogram.record(7);
+    histogram.record(100);
+
+    assertEquals(4, histogram.count());
+    assertEquals("{\"count\":4,\"sum\":108,\"buckets\":[{\"le\":1,\"count\":2},"
+        + "{\"le\":10,\"count\":3},{\"le\":null,\"count\":4}]}", histogram.toJson());
+  }
+
+  @Test
+  void testResetAndJsonOnlyCoverThePrefix() {
+    Metrics.counter("test3.b").add(2);
+    Metrics.counter("test3.a").add(1);
+    Metrics.counter("test30.a").add(7);
+
+    assertEquals("{\"test3.a\":1,\"test3.b\":2}", Metrics.toJson("test3").toString());
+
+    Metrics.reset("test3");
+    assertEquals(0, Metrics.counter("test3.a").sum());
+    assertEquals(7, Metrics.counter("test30.a").sum());
+  }
+
+  @Test
+  void testConflictingRegistrationsAreRejected() {
+    Metrics.counter("test4.metric");
+    Metrics.histogram("test4.histogram", 1, 2);
+
+    assertThrows(IllegalArgumentException.class, () -> Metrics.histogram("test4.metric", 1));
+    assertThrows(IllegalArgumentException.class, () -> Metrics.counter("test4.histogram"));
+    assertThrows(IllegalArgumentException.class, () -> Metrics.histogram("test4.histogram", 1));
+    assertThrows(IllegalArgumentException.class, () -> Metrics.histogram("test4.bad", 2, 1));
+  }
+
+  @Test
+  void testDayPrefixIsZeroPadded() {
+    assertEquals("day04", Metrics.dayPrefix(4));
+  }
+}